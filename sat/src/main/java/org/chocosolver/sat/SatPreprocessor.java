@@ -0,0 +1,384 @@
+/*
+ * This file is part of choco-sat, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.sat;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.chocosolver.sat.SatSolver.makeLiteral;
+import static org.chocosolver.sat.SatSolver.negated;
+import static org.chocosolver.sat.SatSolver.var;
+
+/**
+ * A one-shot preprocessor of the clause database of a {@link SatSolver}, to run at decision level 0.
+ * <ol>
+ *     <li>equivalent literal substitution: strongly connected components of the binary implication graph
+ *     are detected and, in each of them, literals are replaced by a representative in n-ary clauses,</li>
+ *     <li>subsumption and self-subsuming resolution (strengthening) among n-ary clauses,</li>
+ *     <li>failed literal probing: a literal whom propagation fails is fixed to its negation,
+ *     a literal implied by both polarities of a variable is fixed too.</li>
+ * </ol>
+ * Binary implications are kept as is, so that equivalent literals remain synchronized.
+ * Variables are never eliminated, since they may be shared with other constraints.
+ * <br/>
+ * Literals fixed by the preprocessing are reported in {@link SatSolver#touched_variables_}.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+final class SatPreprocessor {
+
+    /**
+     * The SAT solver to preprocess
+     */
+    private final SatSolver sat;
+
+    /**
+     * Representative of each literal
+     */
+    private int[] rep;
+
+    SatPreprocessor(SatSolver sat) {
+        this.sat = sat;
+    }
+
+    /**
+     * Run the preprocessing.
+     * @return <tt>false</tt> if failure is detected
+     */
+    boolean preprocess() {
+        if (!sat.ok_) return false;
+        sat.cancelUntil(0);
+        TIntArrayList pending = new TIntArrayList(sat.touched_variables_);
+        int start = sat.trail_.size();
+        boolean ok = sat.propagate()
+                && substituteEquivalentLiterals()
+                && simplifyClauses()
+                && probeFailedLiterals();
+        sat.ok_ &= ok;
+        sat.touched_variables_.resetQuick();
+        sat.touched_variables_.addAll(pending);
+        for (int i = start; i < sat.trail_.size(); i++) {
+            sat.touched_variables_.add(sat.trail_.getQuick(i));
+        }
+        return sat.ok_;
+    }
+
+    /**
+     * Detect strongly connected components of the binary implication graph (Tarjan's algorithm),
+     * and pick the literal with the smallest variable as representative of each of them.
+     * @return <tt>false</tt> if a literal and its negation are equivalent
+     */
+    private boolean substituteEquivalentLiterals() {
+        int n = 2 * sat.num_vars_;
+        rep = new int[n];
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] scc = new int[n];
+        Arrays.fill(index, -1);
+        Arrays.fill(scc, -1);
+        int[] stack = new int[n];
+        int[] callStack = new int[n];
+        int[] edgePos = new int[n];
+        boolean[] onStack = new boolean[n];
+        int idx = 0, sp = 0, nscc = 0;
+        for (int s = 0; s < n; s++) {
+            rep[s] = s;
+        }
+        for (int s = 0; s < n; s++) {
+            if (index[s] != -1 || sat.valueLit(s) != SatSolver.Boolean.kUndefined) continue;
+            int csp = 0;
+            callStack[csp] = s;
+            edgePos[csp++] = 0;
+            index[s] = low[s] = idx++;
+            stack[sp++] = s;
+            onStack[s] = true;
+            while (csp > 0) {
+                int v = callStack[csp - 1];
+                TIntArrayList succ = sat.implies_.get(v);
+                if (succ != null && edgePos[csp - 1] < succ.size()) {
+                    int w = succ.getQuick(edgePos[csp - 1]++);
+                    if (sat.valueLit(w) != SatSolver.Boolean.kUndefined) continue;
+                    if (index[w] == -1) {
+                        index[w] = low[w] = idx++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        callStack[csp] = w;
+                        edgePos[csp++] = 0;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                } else {
+                    csp--;
+                    if (csp > 0) {
+                        int u = callStack[csp - 1];
+                        low[u] = Math.min(low[u], low[v]);
+                    }
+                    if (low[v] == index[v]) {
+                        int k = sp;
+                        int r = v;
+                        int w;
+                        do {
+                            w = stack[--k];
+                            if (var(w) < var(r)) r = w;
+                        } while (w != v);
+                        for (int j = k; j < sp; j++) {
+                            w = stack[j];
+                            onStack[w] = false;
+                            scc[w] = nscc;
+                            rep[w] = r;
+                        }
+                        for (int j = k; j < sp; j++) {
+                            if (scc[negated(stack[j])] == nscc) {
+                                return false;
+                            }
+                        }
+                        nscc++;
+                        sp = k;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Substitute literals by their representative in n-ary clauses, remove false literals,
+     * satisfied clauses and tautologies, then apply subsumption and strengthening.
+     * The clause database and the watchers are rebuilt.
+     * @return <tt>false</tt> if failure is detected
+     */
+    private boolean simplifyClauses() {
+        int n = 2 * sat.num_vars_;
+        int[] stamp = new int[n];
+        int time = 0;
+        ArrayList<int[]> cls = new ArrayList<>(sat.clauses.size());
+        TIntArrayList tmp = new TIntArrayList();
+        for (int c = 0; c < sat.clauses.size(); c++) {
+            SatSolver.Clause cl = sat.clauses.get(c);
+            tmp.resetQuick();
+            time++;
+            boolean satisfied = false;
+            for (int i = 0; i < cl.size() && !satisfied; i++) {
+                int l = rep[cl._g(i)];
+                SatSolver.Boolean b = sat.valueLit(l);
+                if (b == SatSolver.Boolean.kTrue || stamp[negated(l)] == time) {
+                    satisfied = true;
+                } else if (b == SatSolver.Boolean.kUndefined && stamp[l] != time) {
+                    stamp[l] = time;
+                    tmp.add(l);
+                }
+            }
+            if (!satisfied) {
+                int[] lits = tmp.toArray();
+                Arrays.sort(lits);
+                cls.add(lits);
+            }
+        }
+        boolean[] removed = subsume(cls, stamp, time);
+        // rebuild the clause database, units are enqueued once every clause is watched again
+        sat.clauses.clear();
+        sat.clearWatches();
+        TIntArrayList units = new TIntArrayList();
+        for (int c = 0; c < cls.size(); c++) {
+            if (removed[c]) continue;
+            int[] lits = cls.get(c);
+            switch (lits.length) {
+                case 0:
+                    return false;
+                case 1:
+                    units.add(lits[0]);
+                    break;
+                case 2:
+                    TIntArrayList i0 = sat.implies_.get(negated(lits[0]));
+                    if (i0 == null) {
+                        i0 = new TIntArrayList();
+                        sat.implies_.put(negated(lits[0]), i0);
+                    }
+                    // a strengthened clause may already be stored as a binary one
+                    if (!i0.contains(lits[1])) {
+                        i0.add(lits[1]);
+                        TIntArrayList i1 = sat.implies_.get(negated(lits[1]));
+                        if (i1 == null) {
+                            i1 = new TIntArrayList();
+                            sat.implies_.put(negated(lits[1]), i1);
+                        }
+                        i1.add(lits[0]);
+                    }
+                    break;
+                default:
+                    SatSolver.Clause cr = new SatSolver.Clause(lits);
+                    sat.clauses.add(cr);
+                    sat.attachClause(cr);
+                    break;
+            }
+        }
+        for (int c = 0; c < sat.learnts.size(); c++) {
+            sat.attachClause(sat.learnts.get(c));
+        }
+        for (int i = 0; i < units.size(); i++) {
+            int l = units.getQuick(i);
+            SatSolver.Boolean b = sat.valueLit(l);
+            if (b == SatSolver.Boolean.kFalse) {
+                return false;
+            } else if (b == SatSolver.Boolean.kUndefined) {
+                sat.uncheckedEnqueue(l);
+            }
+        }
+        return sat.propagate();
+    }
+
+    /**
+     * Backward subsumption and self-subsuming resolution among <i>cls</i>,
+     * smallest clauses first.
+     * Strengthened clauses are updated in place.
+     * @param cls sorted clauses
+     * @param stamp local-like array, as large as the number of literals
+     * @param time current time stamp
+     * @return removed clauses
+     */
+    private boolean[] subsume(ArrayList<int[]> cls, int[] stamp, int time) {
+        int n = stamp.length;
+        TIntArrayList[] occ = new TIntArrayList[n];
+        for (int c = 0; c < cls.size(); c++) {
+            for (int l : cls.get(c)) {
+                if (occ[l] == null) {
+                    occ[l] = new TIntArrayList();
+                }
+                occ[l].add(c);
+            }
+        }
+        boolean[] removed = new boolean[cls.size()];
+        Integer[] order = new Integer[cls.size()];
+        for (int c = 0; c < order.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (i, j) -> Integer.compare(cls.get(i).length, cls.get(j).length));
+        for (int o = 0; o < order.length; o++) {
+            int ci = order[o];
+            int[] c = cls.get(ci);
+            if (removed[ci] || c.length == 0) continue;
+            // select the literal with the fewest occurrences
+            int best = c[0];
+            for (int l : c) {
+                if (size(occ[l]) + size(occ[negated(l)]) < size(occ[best]) + size(occ[negated(best)])) {
+                    best = l;
+                }
+            }
+            for (int p = 0; p < 2; p++) {
+                TIntArrayList cands = occ[p == 0 ? best : negated(best)];
+                for (int k = 0; cands != null && k < cands.size(); k++) {
+                    int dj = cands.getQuick(k);
+                    int[] d = cls.get(dj);
+                    if (dj == ci || removed[dj] || d.length < c.length) continue;
+                    time++;
+                    for (int l : d) {
+                        stamp[l] = time;
+                    }
+                    int flip = -1;
+                    boolean ok = true;
+                    for (int i = 0; i < c.length && ok; i++) {
+                        if (stamp[c[i]] != time) {
+                            if (flip == -1 && stamp[negated(c[i])] == time) {
+                                flip = c[i];
+                            } else {
+                                ok = false;
+                            }
+                        }
+                    }
+                    if (ok) {
+                        if (flip == -1) { // c subsumes d
+                            removed[dj] = true;
+                        } else { // c strengthens d: remove ~flip from d
+                            int[] nd = new int[d.length - 1];
+                            int j = 0;
+                            for (int l : d) {
+                                if (l != negated(flip)) nd[j++] = l;
+                            }
+                            cls.set(dj, nd);
+                        }
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private static int size(TIntArrayList list) {
+        return list == null ? 0 : list.size();
+    }
+
+    /**
+     * Probe each literal that may trigger propagation on its own.
+     * @return <tt>false</tt> if failure is detected
+     */
+    private boolean probeFailedLiterals() {
+        int n = 2 * sat.num_vars_;
+        int[] stamp = new int[n];
+        TIntArrayList units = new TIntArrayList();
+        for (int v = 0; v < sat.num_vars_; v++) {
+            int pos = makeLiteral(v, true);
+            int neg = makeLiteral(v, false);
+            if (sat.valueLit(pos) != SatSolver.Boolean.kUndefined
+                    || !(probeable(pos) || probeable(neg))) {
+                continue;
+            }
+            int from = sat.trail_.size();
+            if (!sat.propagateOneLiteral(pos)) {
+                sat.cancelUntil(0);
+                if (!enqueue(neg)) return false;
+                continue;
+            }
+            for (int i = from; i < sat.trail_.size(); i++) {
+                stamp[sat.trail_.getQuick(i)] = v + 1;
+            }
+            sat.cancelUntil(0);
+            if (!sat.propagateOneLiteral(neg)) {
+                sat.cancelUntil(0);
+                if (!enqueue(pos)) return false;
+                continue;
+            }
+            units.resetQuick();
+            for (int i = from; i < sat.trail_.size(); i++) {
+                int l = sat.trail_.getQuick(i);
+                if (stamp[l] == v + 1) {
+                    units.add(l);
+                }
+            }
+            sat.cancelUntil(0);
+            for (int i = 0; i < units.size(); i++) {
+                if (!enqueue(units.getQuick(i))) return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean probeable(int l) {
+        TIntArrayList imp = sat.implies_.get(l);
+        return (imp != null && imp.size() > 0) || sat.hasPseudoBooleanWatchers(l);
+    }
+
+    /**
+     * Fix a literal at level 0 and propagate.
+     * @param l the literal
+     * @return <tt>false</tt> if failure is detected
+     */
+    private boolean enqueue(int l) {
+        SatSolver.Boolean b = sat.valueLit(l);
+        if (b == SatSolver.Boolean.kFalse) {
+            return false;
+        } else if (b == SatSolver.Boolean.kUndefined) {
+            sat.uncheckedEnqueue(l);
+        }
+        return sat.propagate();
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.sat;
 
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntLongHashMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 
 import java.util.ArrayList;
@@ -46,6 +47,11 @@ public class SatSolver implements SatFactory {
     private TIntObjectHashMap<ArrayList<Watcher>> watches_;
     // implies_[lit] is a list of literals to set to true if 'lit' becomes true.
     public TIntObjectHashMap<TIntArrayList> implies_;
+    // List of pseudo-Boolean constraints.
+    public ArrayList<PseudoBoolean> pseudoBooleans;
+    // 'pbwatches_[lit]' is a list of pseudo-Boolean constraints whose slack
+    // decreases when 'lit' becomes true.
+    private TIntObjectHashMap<ArrayList<PBWatcher>> pbwatches_;
     // The current assignments.
     TIntObjectHashMap<Boolean> assignment_;
     // Assignment stack; stores all assigments made in the order they
@@ -55,6 +61,9 @@ public class SatSolver implements SatFactory {
     TIntArrayList trail_markers_;
     // Head of queue(as index into the trail_.
     int qhead_;
+    // Head of queue of pseudo-Boolean constraints (as index into the trail_),
+    // literals before it have been taken into account in slacks.
+    int pbqhead_;
     // Number of variables
     int num_vars_;
 
@@ -70,6 +79,8 @@ public class SatSolver implements SatFactory {
         this.learnts = new ArrayList<>();
         this.watches_ = new TIntObjectHashMap<>();
         this.implies_ = new TIntObjectHashMap<>();
+        this.pseudoBooleans = new ArrayList<>();
+        this.pbwatches_ = new TIntObjectHashMap<>();
         this.assignment_ = new TIntObjectHashMap<>();
         this.trail_ = new TIntArrayList();
         this.trail_markers_ = new TIntArrayList();
@@ -169,6 +180,114 @@ public class SatSolver implements SatFactory {
         return true;
     }
 
+    /**
+     * Add a pseudo-Boolean constraint to the solver, that is:
+     * <p>
+     * &Sigma; COEFFS<sub>i</sub>.LITS<sub>i</sub> &ge; DEGREE
+     * <p>
+     * where a literal is worth 1 when true, 0 otherwise.
+     * The constraint is first normalized (positive coefficients, at most one term per variable,
+     * coefficients saturated to the degree).
+     * It is then stored as a clause if it is equivalent to one, otherwise as a {@link PseudoBoolean}
+     * whom slack is maintained on the fly and shares the propagation loop of clauses.
+     *
+     * @param LITS   literals
+     * @param COEFFS coefficients, one per literal
+     * @param DEGREE the right-hand side
+     * @return <tt>false</tt> if failure is detected
+     */
+    public boolean addPseudoBoolean(int[] LITS, int[] COEFFS, int DEGREE) {
+        assert 0 == trailMarker();
+        assert LITS.length == COEFFS.length;
+        if (!ok_) return false;
+        // 1. positive coefficients, no fixed literal, one entry per literal
+        TIntLongHashMap terms = new TIntLongHashMap();
+        long degree = DEGREE;
+        for (int i = 0; i < LITS.length; i++) {
+            int l = LITS[i];
+            long a = COEFFS[i];
+            if (a < 0) {
+                l = negated(l);
+                a = -a;
+                degree += a;
+            }
+            if (a == 0 || valueLit(l) == Boolean.kFalse) {
+                continue;
+            }
+            if (valueLit(l) == Boolean.kTrue) {
+                degree -= a;
+            } else {
+                terms.adjustOrPutValue(l, a, a);
+            }
+        }
+        // 2. at most one term per variable: a.l + b.~l = min(a,b) + (a - min(a,b)).l + (b - min(a,b)).~l
+        for (int l : terms.keys()) {
+            if (!sign(l) && terms.containsKey(negated(l))) {
+                long a = terms.get(l);
+                long b = terms.get(negated(l));
+                long m = Math.min(a, b);
+                degree -= m;
+                if (a == m) {
+                    terms.remove(l);
+                } else {
+                    terms.put(l, a - m);
+                }
+                if (b == m) {
+                    terms.remove(negated(l));
+                } else {
+                    terms.put(negated(l), b - m);
+                }
+            }
+        }
+        if (degree <= 0) {
+            return true;
+        }
+        // 3. sort by decreasing coefficient and saturate
+        int n = terms.size();
+        Integer[] order = new Integer[n];
+        int[] ls = terms.keys();
+        long[] as = new long[n];
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            as[i] = Math.min(terms.get(ls[i]), degree);
+            sum += as[i];
+        }
+        if (sum < degree) {
+            return (ok_ = false);
+        }
+        Arrays.sort(order, (i, j) -> Long.compare(as[j], as[i]));
+        int[] lits = new int[n];
+        long[] coeffs = new long[n];
+        for (int i = 0; i < n; i++) {
+            lits[i] = ls[order[i]];
+            coeffs[i] = as[order[i]];
+        }
+        // 4. a clause in disguise
+        if (coeffs[n - 1] == degree) {
+            return addClause(new TIntArrayList(lits));
+        }
+        PseudoBoolean pb = new PseudoBoolean(lits, coeffs, degree);
+        pseudoBooleans.add(pb);
+        attachPseudoBoolean(pb);
+        if (!pb.propagate(this)) {
+            return (ok_ = false);
+        }
+        return (ok_ = propagate());
+    }
+
+    /**
+     * Simplify the clause database, at decision level 0, with equivalent literal substitution,
+     * subsumption, strengthening and failed literal probing.
+     * Literals fixed on the way are stored in {@link #touched_variables_}.
+     *
+     * @return <tt>false</tt> if failure is detected
+     * @see SatPreprocessor
+     */
+    public boolean preprocess() {
+        return new SatPreprocessor(this).preprocess();
+    }
+
     // Add the empty clause, making the solver contradictory.
     boolean addEmptyClause() {
         temporary_add_vector_.resetQuick();
@@ -211,8 +330,12 @@ public class SatSolver implements SatFactory {
             for (int c = trail_.size() - 1; c >= trail_markers_.get(level); c--) {
                 int x = var(trail_.get(c));
                 assignment_.put(x, Boolean.kUndefined);
+                if (c < pbqhead_) {
+                    restoreSlacks(trail_.get(c));
+                }
             }
             qhead_ = trail_markers_.get(level);
+            pbqhead_ = Math.min(pbqhead_, qhead_);
             trail_.remove(trail_markers_.get(level), trail_.size() - trail_markers_.get(level));
             trail_markers_.remove(level, trail_markers_.size() - level);
         }
@@ -303,7 +426,7 @@ public class SatSolver implements SatFactory {
     }
 
     // Attach a clause to watcher lists.
-    private void attachClause(Clause cr) {
+    void attachClause(Clause cr) {
         assert cr.size() > 1;
         ArrayList<Watcher> l0 = watches_.get(negated(cr._g(0)));
         if (l0 == null) {
@@ -319,6 +442,30 @@ public class SatSolver implements SatFactory {
         l1.add(new Watcher(cr, cr._g(0)));
     }
 
+    // Remove all clause watchers.
+    void clearWatches() {
+        watches_.clear();
+    }
+
+    // Returns true if some pseudo-Boolean constraints have their slack decreased when 'l' becomes true.
+    boolean hasPseudoBooleanWatchers(int l) {
+        ArrayList<PBWatcher> ws = pbwatches_.get(l);
+        return ws != null && ws.size() > 0;
+    }
+
+    // Attach a pseudo-Boolean constraint to watcher lists.
+    private void attachPseudoBoolean(PseudoBoolean pb) {
+        for (int i = 0; i < pb.size(); i++) {
+            int l = negated(pb._g(i));
+            ArrayList<PBWatcher> ws = pbwatches_.get(l);
+            if (ws == null) {
+                ws = new ArrayList<>();
+                pbwatches_.put(l, ws);
+            }
+            ws.add(new PBWatcher(pb, pb.coeff(i)));
+        }
+    }
+
     public void detachLearnt(int ci) {
         Clause cr = learnts.get(ci);
         learnts.remove(ci);
@@ -349,10 +496,45 @@ public class SatSolver implements SatFactory {
                 return false;
             }
             result &= propagateClauses(p);
+            if (result && !propagatePseudoBooleans()) {
+                return false;
+            }
         }
         return result;
     }
 
+    // Update the slack of pseudo-Boolean constraints wrt to the trail, then propagate them.
+    private boolean propagatePseudoBooleans() {
+        while (pbqhead_ < qhead_) {
+            int p = trail_.get(pbqhead_++);
+            ArrayList<PBWatcher> ws = pbwatches_.get(p);
+            if (ws != null) {
+                // first, all slacks are updated, for backtrack to be consistent
+                for (int i = 0; i < ws.size(); i++) {
+                    PBWatcher w = ws.get(i);
+                    w.pb.slack -= w.coeff;
+                }
+                for (int i = 0; i < ws.size(); i++) {
+                    if (!ws.get(i).pb.propagate(this)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // Restore the slack of pseudo-Boolean constraints when 'p' is unassigned.
+    private void restoreSlacks(int p) {
+        ArrayList<PBWatcher> ws = pbwatches_.get(p);
+        if (ws != null) {
+            for (int i = 0; i < ws.size(); i++) {
+                PBWatcher w = ws.get(i);
+                w.pb.slack += w.coeff;
+            }
+        }
+    }
+
     private boolean propagateClauses(int p) {
         boolean result = true;
         // 'p' is enqueued fact to propagate.
@@ -551,6 +733,89 @@ public class SatSolver implements SatFactory {
         }
     }
 
+    /**
+     * PseudoBoolean -- a class for representing a normalized pseudo-Boolean constraint:
+     * &Sigma; a<sub>i</sub>.l<sub>i</sub> &ge; degree, with 0 &lt; a<sub>i</sub> &le; degree.
+     * <p>
+     * Terms are sorted by decreasing coefficient.
+     * The slack, that is &Sigma; a<sub>i</sub> of non-false literals minus degree,
+     * is maintained by the solver.
+     *
+     * @author Charles Prud'homme
+     * @since 19/10/2026
+     */
+    public static class PseudoBoolean {
+        private final int[] literals_;
+        private final long[] coeffs_;
+        private final long degree_;
+        long slack;
+
+        PseudoBoolean(int[] ps, long[] as, long degree) {
+            literals_ = ps;
+            coeffs_ = as;
+            degree_ = degree;
+            slack = -degree;
+            for (long a : as) {
+                slack += a;
+            }
+        }
+
+        public int size() {
+            return literals_.length;
+        }
+
+        public int _g(int i) {
+            return literals_[i];
+        }
+
+        public long coeff(int i) {
+            return coeffs_[i];
+        }
+
+        public long degree() {
+            return degree_;
+        }
+
+        // Returns false on failure, otherwise enqueues literals whom coefficient exceeds the slack.
+        boolean propagate(SatSolver solver) {
+            if (slack < 0) {
+                return false;
+            }
+            for (int i = 0; i < literals_.length && coeffs_[i] > slack; i++) {
+                if (solver.valueLit(literals_[i]) == Boolean.kUndefined) {
+                    solver.uncheckedEnqueue(literals_[i]);
+                }
+            }
+            return true;
+        }
+
+        public String toString() {
+            StringBuilder st = new StringBuilder();
+            for (int i = 0; i < literals_.length; i++) {
+                st.append(coeffs_[i]).append('.').append(literals_[i]).append(" + ");
+            }
+            return st.append("0 >= ").append(degree_).toString();
+        }
+    }
+
+    /**
+     * A watcher represent a pseudo-Boolean constraint attached to the negation of one of its literal,
+     * with the coefficient of the literal.
+     *
+     * @author Charles Prud'homme
+     * @since 19/10/2026
+     */
+    static class PBWatcher {
+
+        PseudoBoolean pb;
+        long coeff;
+
+        PBWatcher(final PseudoBoolean pb, long coeff) {
+            this.pb = pb;
+            this.coeff = coeff;
+        }
+    }
+
     /**
      * <br/>
      * (or-tools, booleans.cc, ty L. Perron).
@@ -587,6 +852,7 @@ public class SatSolver implements SatFactory {
         // Then, copy all data structures:
         this.ok_ = o.ok_;
         this.qhead_ = o.qhead_;
+        this.pbqhead_ = o.pbqhead_;
         this.num_vars_ = o.num_vars_;
         this.trail_.resetQuick();
         this.trail_.addAll(o.trail_);
@@ -631,10 +897,27 @@ public class SatSolver implements SatFactory {
             }
             this.watches_.put(k, _ws);
         }
+        final HashMap<PseudoBoolean, PseudoBoolean> pmap = new HashMap<>();
+        this.pseudoBooleans.clear();
+        for (PseudoBoolean pb : o.pseudoBooleans) {
+            PseudoBoolean _pb = new PseudoBoolean(pb.literals_, pb.coeffs_, pb.degree_);
+            _pb.slack = pb.slack;
+            pmap.put(pb, _pb);
+            this.pseudoBooleans.add(_pb);
+        }
+        this.pbwatches_.clear();
+        for (int k : o.pbwatches_.keys()) {
+            ArrayList<PBWatcher> ws = o.pbwatches_.get(k);
+            ArrayList<PBWatcher> _ws = new ArrayList<>(ws.size());
+            for (PBWatcher w : ws) {
+                _ws.add(new PBWatcher(pmap.get(w.pb), w.coeff));
+            }
+            this.pbwatches_.put(k, _ws);
+        }
     }
 
     public long nbclauses() {
-        return clauses.size() + learnts.size() + implies_.size() / 2;
+        return clauses.size() + learnts.size() + implies_.size() / 2 + pseudoBooleans.size();
     }
 
     public long numvars() {
@@ -731,4 +731,177 @@ public class SatSolverTest {
         Assert.assertEquals(sat.valueVar(c), SatSolver.Boolean.kUndefined);
         Assert.assertEquals(sat.valueVar(d), SatSolver.Boolean.kUndefined);
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s")
+    public void testAddPseudoBoolean1() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        int ld = SatSolver.makeLiteral(d, true);
+        // 2.a + b + c + d >= 3
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lb, lc, ld}, new int[]{2, 1, 1, 1}, 3));
+        Assert.assertEquals(sat.pseudoBooleans.size(), 1);
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kUndefined);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(la)));
+        Assert.assertEquals(sat.valueLit(lb), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kTrue);
+        sat.cancelUntil(0);
+        Assert.assertEquals(sat.valueLit(lb), SatSolver.Boolean.kUndefined);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(lb)));
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kUndefined);
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kUndefined);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(lc)));
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kTrue);
+        sat.cancelUntil(0);
+        Assert.assertEquals(sat.pseudoBooleans.get(0).slack, 2);
+    }
+
+    @Test(groups = "1s")
+    public void testAddPseudoBoolean2() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        // a + b + c >= 1 is a clause
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lb, lc}, new int[]{1, 1, 1}, 1));
+        Assert.assertEquals(sat.pseudoBooleans.size(), 0);
+        Assert.assertEquals(sat.clauses.size(), 1);
+        // 3.a + 3.b >= 2 is a clause too, once saturated
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lb}, new int[]{3, 3}, 2));
+        Assert.assertEquals(sat.pseudoBooleans.size(), 0);
+        Assert.assertEquals(sat.implies_.size(), 2);
+        // a - c >= 1 fixes a and c
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lc}, new int[]{1, -1}, 1));
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kFalse);
+        // a + c + d >= 3 is infeasible
+        Assert.assertFalse(sat.addPseudoBoolean(new int[]{la, lc, SatSolver.makeLiteral(d, true)},
+            new int[]{1, 1, 1}, 3));
+        Assert.assertFalse(sat.ok_);
+    }
+
+    @Test(groups = "1s")
+    public void testAddPseudoBoolean3() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        int ld = SatSolver.makeLiteral(d, true);
+        // a + b + c + d >= 2 and a + b + c + d <= 2
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lb, lc, ld}, new int[]{1, 1, 1, 1}, 2));
+        Assert.assertTrue(sat.addPseudoBoolean(new int[]{la, lb, lc, ld}, new int[]{-1, -1, -1, -1}, -2));
+        Assert.assertEquals(sat.pseudoBooleans.size(), 2);
+        Assert.assertTrue(sat.propagateOneLiteral(la));
+        Assert.assertTrue(sat.propagateOneLiteral(lb));
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kFalse);
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kFalse);
+        sat.cancelUntil(1);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(lb)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(lc)));
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kTrue);
+        sat.cancelUntil(0);
+        // b or not(c)
+        Assert.assertTrue(sat.addClause(lb, SatSolver.negated(lc)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(la)));
+        Assert.assertFalse(sat.propagateOneLiteral(SatSolver.negated(lb)));
+        sat.cancelUntil(0);
+        Assert.assertEquals(sat.pseudoBooleans.get(0).slack, 2);
+        Assert.assertEquals(sat.pseudoBooleans.get(1).slack, 2);
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess1() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        int ld = SatSolver.makeLiteral(d, true);
+        // a <=> b
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lb));
+        Assert.assertTrue(sat.addClause(la, SatSolver.negated(lb)));
+        // (a or b or c) becomes (a or c), which subsumes (b or c or d)
+        Assert.assertTrue(sat.addClause(la, lb, lc));
+        Assert.assertTrue(sat.addClause(lb, lc, ld));
+        Assert.assertEquals(sat.clauses.size(), 2);
+        Assert.assertTrue(sat.preprocess());
+        Assert.assertEquals(sat.clauses.size(), 0);
+        Assert.assertEquals(sat.touched_variables_.size(), 0);
+        // still a <=> b and (a or c)
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(lb)));
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kFalse);
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(ld), SatSolver.Boolean.kUndefined);
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess2() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        // a => b, a => c, b and c => false : a is a failed literal
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lb));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lc));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(lb), SatSolver.negated(lc)));
+        Assert.assertTrue(sat.preprocess());
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kFalse);
+        Assert.assertTrue(sat.touched_variables_.contains(SatSolver.negated(la)));
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess3() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        // a => c and not(a) => b => c : c is necessary
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lc));
+        Assert.assertTrue(sat.addClause(la, lb));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(lb), lc));
+        Assert.assertTrue(sat.preprocess());
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kUndefined);
+        Assert.assertTrue(sat.touched_variables_.contains(lc));
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess4() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        // a <=> b and a <=> not(b)
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lb));
+        Assert.assertTrue(sat.addClause(la, SatSolver.negated(lb)));
+        Assert.assertTrue(sat.addClause(la, lb));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), SatSolver.negated(lb)));
+        Assert.assertFalse(sat.preprocess());
+        Assert.assertFalse(sat.ok_);
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess5() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        int ld = SatSolver.makeLiteral(d, true);
+        // (a or b) and (a or not(b)) are strengthened into a, which must then reach c and d
+        Assert.assertTrue(sat.addClause(la, lb));
+        Assert.assertTrue(sat.addClause(la, SatSolver.negated(lb)));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lc, ld));
+        Assert.assertTrue(sat.addClause(SatSolver.negated(la), lc, SatSolver.negated(ld)));
+        Assert.assertTrue(sat.preprocess());
+        Assert.assertEquals(sat.valueLit(la), SatSolver.Boolean.kTrue);
+        Assert.assertEquals(sat.valueLit(lc), SatSolver.Boolean.kTrue);
+    }
+
+    @Test(groups = "1s")
+    public void testPreprocess6() throws Exception {
+        int la = SatSolver.makeLiteral(a, true);
+        int lb = SatSolver.makeLiteral(b, true);
+        int lc = SatSolver.makeLiteral(c, true);
+        // (a or b or c) and (a or b or not(c)) are strengthened into (a or b), which already exists
+        Assert.assertTrue(sat.addClause(la, lb));
+        Assert.assertTrue(sat.addClause(la, lb, lc));
+        Assert.assertTrue(sat.addClause(la, lb, SatSolver.negated(lc)));
+        Assert.assertTrue(sat.preprocess());
+        Assert.assertEquals(sat.clauses.size(), 0);
+        Assert.assertEquals(sat.implies_.get(SatSolver.negated(la)).size(), 1);
+        Assert.assertEquals(sat.implies_.get(SatSolver.negated(lb)).size(), 1);
+    }
+}
@@ -27,6 +27,11 @@ public abstract class AbstractEnvironment implements IEnvironment {
 
     protected int timestamp;
 
+    /**
+     * Time stamp at which each world of the current branch was pushed
+     */
+    private int[] pushStamps = new int[SIZE];
+
     /**
      * Shared BitSet
      */
@@ -46,6 +51,23 @@ public abstract class AbstractEnvironment implements IEnvironment {
         return timestamp;
     }
 
+    @Override
+    public final int getTimeStamp(int worldIndex) {
+        return pushStamps[worldIndex];
+    }
+
+    /**
+     * Record the time stamp of the current world, to be called once it is pushed
+     */
+    protected final void recordPush() {
+        if (currentWorld == pushStamps.length) {
+            int[] tmp = pushStamps;
+            pushStamps = new int[tmp.length * 3 / 2 + 1];
+            System.arraycopy(tmp, 0, pushStamps, 0, tmp.length);
+        }
+        pushStamps[currentWorld] = timestamp;
+    }
+
     /**
      * Factory pattern: new IStateBitSet objects are created by the environment
      *
@@ -60,6 +60,10 @@ public class EnvironmentBuilder {
      * Trail to consider to manage operations
      */
     private IOperationTrail ot;
+    /**
+     * Set to <tt>true</tt> to serialize calls to the trails
+     */
+    private boolean sync;
 
     /**
      * The maximum numbers of updates that a
@@ -144,6 +148,17 @@ public class EnvironmentBuilder {
         return this;
     }
 
+    /**
+     * Serialize the calls to the trails, so that stored objects can be modified by several
+     * threads at the same time, as done by
+     * {@link org.chocosolver.solver.propagation.ParallelPropagationEngine}.
+     * @return {@code this}
+     */
+    public EnvironmentBuilder synchronize() {
+        sync = true;
+        return this;
+    }
+
     /**
      * Build the environment
      * @return the resulting environment
@@ -170,6 +185,13 @@ public class EnvironmentBuilder {
             ot = new OperationTrail(worldsize, worldnumber, loadfactor);
         }
 
+        if (sync) {
+            bt = new SynchronizedTrail.OfBool(bt);
+            it = new SynchronizedTrail.OfInt(it);
+            dt = new SynchronizedTrail.OfDouble(dt);
+            lt = new SynchronizedTrail.OfLong(lt);
+            ot = new SynchronizedTrail.OfOperation(ot);
+        }
         env.setBoolTrail(bt);
         env.setIntTrail(it);
         env.setDoubleTrail(dt);
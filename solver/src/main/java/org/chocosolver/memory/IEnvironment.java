@@ -171,4 +171,12 @@ public interface IEnvironment  {
      * @return the timestamp
      */
     int getTimeStamp();
+
+    /**
+     * Return the time stamp at which the world <i>worldIndex</i> of the current branch was pushed.
+     * Since time stamps never decrement, it identifies this world among all the ones pushed at the same index.
+     * @param worldIndex index of a world, at most the current world index
+     * @return the time stamp of the world
+     */
+    int getTimeStamp(int worldIndex);
 }
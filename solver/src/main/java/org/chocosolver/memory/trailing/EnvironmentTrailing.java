@@ -70,6 +70,7 @@ public class EnvironmentTrailing extends AbstractEnvironment {
             trails[i].worldPush(wi);
         }
         currentWorld++;
+        recordPush();
     }
 
 
@@ -285,6 +286,13 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         return doubleVectorTrail;
     }
 
+    /**
+     * @return <tt>true</tt> if a vector of stored values has been created in this environment
+     */
+    public boolean hasVectorTrail() {
+        return intVectorTrail != null || doubleVectorTrail != null;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
 
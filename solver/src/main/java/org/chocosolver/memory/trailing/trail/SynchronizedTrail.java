@@ -0,0 +1,149 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.trailing.trail;
+
+import org.chocosolver.memory.IStorage;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.StoredBool;
+import org.chocosolver.memory.trailing.StoredDouble;
+import org.chocosolver.memory.trailing.StoredInt;
+import org.chocosolver.memory.trailing.StoredLong;
+
+/**
+ * A trail which wraps another one and serializes the calls to it,
+ * so that stored objects can be modified by several threads at the same time.
+ * <p>
+ * Needed by {@link org.chocosolver.solver.propagation.ParallelPropagationEngine}.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public abstract class SynchronizedTrail<T extends IStorage> implements IStorage {
+
+    /**
+     * The trail wrapped
+     */
+    protected final T trail;
+
+    private SynchronizedTrail(T trail) {
+        this.trail = trail;
+    }
+
+    @Override
+    public synchronized void worldPush(int worldIndex) {
+        trail.worldPush(worldIndex);
+    }
+
+    @Override
+    public synchronized void worldPop(int worldIndex) {
+        trail.worldPop(worldIndex);
+    }
+
+    @Override
+    public synchronized void worldCommit(int worldIndex) {
+        trail.worldCommit(worldIndex);
+    }
+
+    /**
+     * A synchronized int trail
+     */
+    public static final class OfInt extends SynchronizedTrail<IStoredIntTrail> implements IStoredIntTrail {
+
+        public OfInt(IStoredIntTrail trail) {
+            super(trail);
+        }
+
+        @Override
+        public synchronized void savePreviousState(StoredInt v, int oldValue, int oldStamp) {
+            trail.savePreviousState(v, oldValue, oldStamp);
+        }
+
+        @Override
+        public synchronized void buildFakeHistory(StoredInt v, int initValue, int fromStamp) {
+            trail.buildFakeHistory(v, initValue, fromStamp);
+        }
+    }
+
+    /**
+     * A synchronized long trail
+     */
+    public static final class OfLong extends SynchronizedTrail<IStoredLongTrail> implements IStoredLongTrail {
+
+        public OfLong(IStoredLongTrail trail) {
+            super(trail);
+        }
+
+        @Override
+        public synchronized void savePreviousState(StoredLong v, long oldValue, int oldStamp) {
+            trail.savePreviousState(v, oldValue, oldStamp);
+        }
+
+        @Override
+        public synchronized void buildFakeHistory(StoredLong v, long initValue, int fromStamp) {
+            trail.buildFakeHistory(v, initValue, fromStamp);
+        }
+    }
+
+    /**
+     * A synchronized bool trail
+     */
+    public static final class OfBool extends SynchronizedTrail<IStoredBoolTrail> implements IStoredBoolTrail {
+
+        public OfBool(IStoredBoolTrail trail) {
+            super(trail);
+        }
+
+        @Override
+        public synchronized void savePreviousState(StoredBool v, boolean oldValue, int oldStamp) {
+            trail.savePreviousState(v, oldValue, oldStamp);
+        }
+
+        @Override
+        public synchronized void buildFakeHistory(StoredBool v, boolean initValue, int fromStamp) {
+            trail.buildFakeHistory(v, initValue, fromStamp);
+        }
+    }
+
+    /**
+     * A synchronized double trail
+     */
+    public static final class OfDouble extends SynchronizedTrail<IStoredDoubleTrail> implements IStoredDoubleTrail {
+
+        public OfDouble(IStoredDoubleTrail trail) {
+            super(trail);
+        }
+
+        @Override
+        public synchronized void savePreviousState(StoredDouble v, double oldValue, int oldStamp) {
+            trail.savePreviousState(v, oldValue, oldStamp);
+        }
+
+        @Override
+        public synchronized void buildFakeHistory(StoredDouble v, double initValue, int fromStamp) {
+            trail.buildFakeHistory(v, initValue, fromStamp);
+        }
+    }
+
+    /**
+     * A synchronized operation trail
+     */
+    public static final class OfOperation extends SynchronizedTrail<IOperationTrail> implements IOperationTrail {
+
+        public OfOperation(IOperationTrail trail) {
+            super(trail);
+        }
+
+        @Override
+        public synchronized void savePreviousState(IOperation oldValue) {
+            trail.savePreviousState(oldValue);
+        }
+    }
+}
@@ -46,6 +46,8 @@ public class DefaultSettings implements Settings {
 
     private int maxDomSizeForEnumerated = 32_768;
 
+    private int minDomSizeForSparseSet = Integer.MAX_VALUE;
+
     private int minCardForSumDecomposition = 1024;
 
     private boolean enableTableSubstitution = true;
@@ -74,6 +76,8 @@ public class DefaultSettings implements Settings {
 
     private boolean enableSAT = false;
 
+    private boolean enableSATPreprocessing = false;
+
     private boolean swapOnPassivate = false;
 
     private boolean checkDeclaredConstraints = true;
@@ -92,6 +96,8 @@ public class DefaultSettings implements Settings {
 
     private boolean explainGlobalFailureInSum = true;
 
+    private long inprocessingTimeLimit = 0L;
+
     private Function<Model, Solver> initSolver = Solver::new;
 
 
@@ -161,6 +167,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public int getMinDomSizeForSparseSet() {
+        return minDomSizeForSparseSet;
+    }
+
+    @Override
+    public DefaultSettings setMinDomSizeForSparseSet(int minDomSizeForSparseSet) {
+        this.minDomSizeForSparseSet = minDomSizeForSparseSet;
+        return this;
+    }
+
     @Override
     public int getMinCardForSumDecomposition() {
         return minCardForSumDecomposition;
@@ -315,6 +332,17 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableSATPreprocessing() {
+        return enableSATPreprocessing;
+    }
+
+    @Override
+    public DefaultSettings setEnableSATPreprocessing(boolean enableSATPreprocessing) {
+        this.enableSATPreprocessing = enableSATPreprocessing;
+        return this;
+    }
+
     @Override
     public boolean swapOnPassivate() {
         return swapOnPassivate;
@@ -425,4 +453,15 @@ public class DefaultSettings implements Settings {
         this.explainGlobalFailureInSum = b;
         return this;
     }
+
+    @Override
+    public long getTimeLimitForInprocessing() {
+        return inprocessingTimeLimit;
+    }
+
+    @Override
+    public Settings setTimeLimitForInprocessing(long ms) {
+        this.inprocessingTimeLimit = ms;
+        return this;
+    }
 }
@@ -37,6 +37,7 @@ import org.chocosolver.solver.variables.Variable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -165,6 +166,16 @@ public class Model implements IModel {
      */
     private int nameId = 1;
 
+    /**
+     * Logical clock, increased on each variable modification
+     */
+    private long clock;
+
+    /**
+     * Thread-safe logical clock, replacing {@link #clock} once {@link #synchronizeClock()} is called
+     */
+    private AtomicLong sharedClock;
+
     /**
      * Enable attaching hooks to a model.
      */
@@ -830,6 +841,39 @@ public class Model implements IModel {
         return nameId++;
     }
 
+    /**
+     * Increase the logical clock of this model and return its new value.
+     * Called on each variable modification, should not be called by the user.
+     *
+     * @return a modification stamp, greater than any returned before
+     */
+    public long tick() {
+        if (sharedClock == null) {
+            return ++clock;
+        }
+        return sharedClock.incrementAndGet();
+    }
+
+    /**
+     * Make the logical clock thread-safe, as needed when variables are modified by several threads
+     * at a time (see {@link org.chocosolver.solver.propagation.ParallelPropagationEngine}).
+     * Should not be called by the user.
+     */
+    public void synchronizeClock() {
+        if (sharedClock == null) {
+            sharedClock = new AtomicLong(clock);
+        }
+    }
+
+    /**
+     * @return the current value of the logical clock of this model, that is,
+     * the number of variable modifications since its creation
+     * @see Variable#getModificationStamp()
+     */
+    public long getClock() {
+        return sharedClock == null ? clock : sharedClock.get();
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////     RELATED TO CSTR DECLARATION     ////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,336 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.ICounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.ValueSortedMap;
+
+/**
+ * <p>
+ * A Parallel Large Neighborhood Search, for optimization problems.
+ * </p>
+ * <p>
+ * Each worker runs a LNS on its own model, with its own neighbor (for instance, with various relaxation sizes).
+ * All models should be equivalent and declared in the same way (as for {@link ParallelPortfolio}),
+ * since solutions are exchanged between workers through their decision variables, matched by position.
+ * </p>
+ * <p>
+ * Each time a worker improves the best known solution, it publishes it in a shared slot (without locking).
+ * Before computing a new fragment, a worker that has already found a solution checks this slot:
+ * if the shared solution is better than its own, the fragment is computed from it and the objective cut is updated.
+ * </p>
+ * <pre>
+ * {@code
+ *     ParallelLNS plns = new ParallelLNS();
+ *     for (int w = 0; w < 4; w++) {
+ *         Model model = makeModel();
+ *         IntVar[] vars = ...;
+ *         model.getSolver().setSearch(Search.inputOrderLBSearch(vars));
+ *         model.getSolver().limitTime("10s");
+ *         plns.addWorker(model, vars, INeighborFactory.random(vars));
+ *     }
+ *     if (plns.solve()) {
+ *         Solution best = plns.getBestSolution();
+ *     }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ParallelLNS {
+
+    /** List of {@link Model}s, one per worker. */
+    private final List<Model> models;
+
+    /** Decision variables of each worker, used to exchange solutions. */
+    private final List<IntVar[]> decisions;
+
+    /** The best solution found so far, shared by workers. */
+    private final AtomicReference<Incumbent> best;
+
+    /** Set to <tt>true</tt> when a worker proves optimality, to stop the others. */
+    private final AtomicBoolean terminated;
+
+    /**
+     * Creates a new ParallelLNS, with no worker.
+     */
+    public ParallelLNS() {
+        this.models = new ArrayList<>();
+        this.decisions = new ArrayList<>();
+        this.best = new AtomicReference<>();
+        this.terminated = new AtomicBoolean(false);
+    }
+
+    /**
+     * Adds a worker to this parallel LNS.
+     * <p>
+     * <b>Important:</b>
+     * <ul>
+     *     <li>the objective has to be declared with {@link Model#setObjective(boolean, org.chocosolver.solver.variables.Variable)},</li>
+     *     <li><i>neighbor</i> has to be defined over <i>vars</i>, or a subset of them,</li>
+     *     <li>the search strategy and the stop criteria of the worker are not managed by this ParallelLNS.</li>
+     * </ul>
+     * </p>
+     *
+     * @param model          the model of the worker
+     * @param vars           decision variables of the worker
+     * @param neighbor       the neighbor of the worker
+     * @param restartCounter the (fast) restart counter of the worker
+     */
+    public void addWorker(Model model, IntVar[] vars, INeighbor neighbor, ICounter restartCounter) {
+        if (model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION
+                || !(model.getObjective() instanceof IntVar)) {
+            throw new SolverException("ParallelLNS requires an integer objective variable");
+        }
+        if (decisions.size() > 0 && decisions.get(0).length != vars.length) {
+            throw new SolverException("ParallelLNS: each worker should have "
+                    + decisions.get(0).length + " decision variables");
+        }
+        int w = models.size();
+        models.add(model);
+        decisions.add(vars);
+        Solver solver = model.getSolver();
+        solver.getObjectiveManager().setStrictDynamicCut();
+        solver.setLNS(new SharedNeighbor(w, neighbor), restartCounter);
+        solver.addStopCriterion(terminated::get);
+        solver.plugMonitor((IMonitorSolution) () -> publish(w));
+    }
+
+    /**
+     * Adds a worker to this parallel LNS, without fast restart.
+     *
+     * @param model    the model of the worker
+     * @param vars     decision variables of the worker
+     * @param neighbor the neighbor of the worker
+     * @see #addWorker(Model, IntVar[], INeighbor, ICounter)
+     */
+    public void addWorker(Model model, IntVar[] vars, INeighbor neighbor) {
+        addWorker(model, vars, neighbor, ICounter.Impl.None);
+    }
+
+    /**
+     * Run all workers in parallel, until either one of them proves optimality
+     * or each of them meets a stop criterion.
+     *
+     * @return <code>true</code> if and only if at least one solution has been found.
+     * @throws SolverException if no worker has been added.
+     */
+    public boolean solve() {
+        if (models.isEmpty()) {
+            throw new SolverException("No worker found in the ParallelLNS.");
+        }
+        terminated.set(false);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(models.size());
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, models.size()).parallel().forEach(w -> {
+                Solver solver = models.get(w).getSolver();
+                //noinspection StatementWithEmptyBody
+                while (!terminated.get() && solver.solve()) ;
+                if (solver.getSearchState() == SearchState.TERMINATED) {
+                    // the search space has been entirely explored, the best solution is optimal
+                    terminated.set(true);
+                }
+            })).get();
+        } catch (InterruptedException | ExecutionException | SolverException e) {
+            e.printStackTrace();
+        }
+        forkJoinPool.shutdownNow();
+        return best.get() != null;
+    }
+
+    /**
+     * @return <tt>true</tt> if a worker proved the optimality of the best solution during the last call to {@link #solve()}
+     */
+    public boolean isOptimal() {
+        return terminated.get() && best.get() != null;
+    }
+
+    /**
+     * @return the model of the worker which found the best solution, or <tt>null</tt> if no solution has been found.
+     */
+    public Model getBestModel() {
+        Incumbent inc = best.get();
+        return inc == null ? null : models.get(inc.worker);
+    }
+
+    /**
+     * @return the best solution found, declared on the model of the worker which found it,
+     * or <tt>null</tt> if no solution has been found. Only decision variables and the objective are stored.
+     */
+    public Solution getBestSolution() {
+        Incumbent inc = best.get();
+        if (inc == null) {
+            return null;
+        }
+        return inc.toSolution(models.get(inc.worker), decisions.get(inc.worker), true);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelLNS
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Publish the solution just found by a worker, if it improves the best one
+     *
+     * @param w index of the worker
+     */
+    private void publish(int w) {
+        Model model = models.get(w);
+        int val = ((IntVar) model.getObjective()).getValue();
+        Incumbent cur = best.get();
+        if (cur != null && !better(model, val, cur.objective)) {
+            return;
+        }
+        IntVar[] vars = decisions.get(w);
+        int[] values = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            values[i] = vars[i].getValue();
+        }
+        Incumbent inc = new Incumbent(w, val, values);
+        while (!best.compareAndSet(cur, inc)) {
+            cur = best.get();
+            if (cur != null && !better(model, val, cur.objective)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean better(Model model, int val1, int val2) {
+        return model.getResolutionPolicy() == ResolutionPolicy.MINIMIZE ? val1 < val2 : val1 > val2;
+    }
+
+    /**
+     * An immutable solution, shared by workers
+     */
+    private static final class Incumbent {
+
+        /** Index of the worker that found the solution */
+        final int worker;
+        /** Value of the objective */
+        final int objective;
+        /** Values of the decision variables */
+        final int[] values;
+
+        Incumbent(int worker, int objective, int[] values) {
+            this.worker = worker;
+            this.objective = objective;
+            this.values = values;
+        }
+
+        Solution toSolution(Model model, IntVar[] vars, boolean withObjective) {
+            Solution solution = new Solution(model, vars);
+            for (int i = 0; i < vars.length; i++) {
+                solution.setIntVal(vars[i], values[i]);
+            }
+            if (withObjective) {
+                solution.setIntVal((IntVar) model.getObjective(), objective);
+            }
+            return solution;
+        }
+    }
+
+    /**
+     * A neighbor that computes fragments from the best shared solution,
+     * when it is better than the last solution of the worker.
+     */
+    private final class SharedNeighbor implements INeighbor {
+
+        /** Index of the worker */
+        private final int worker;
+        /** The neighbor of the worker */
+        private final INeighbor delegate;
+        /** Last shared solution loaded */
+        private Incumbent loaded;
+        /** Objective value of the solution the fragments are computed from */
+        private int current;
+        /** Set to <tt>false</tt> when {@link #current} is unknown */
+        private boolean known;
+
+        SharedNeighbor(int worker, INeighbor delegate) {
+            this.worker = worker;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void init() {
+            loaded = null;
+            delegate.init();
+        }
+
+        @Override
+        public void recordSolution() {
+            delegate.recordSolution();
+            current = ((IntVar) models.get(worker).getObjective()).getValue();
+            known = true;
+        }
+
+        @Override
+        public void fixSomeVariables() throws ContradictionException {
+            Incumbent inc = best.get();
+            Model model = models.get(worker);
+            if (inc != null && inc != loaded && inc.worker != worker
+                    && (!known || better(model, inc.objective, current))) {
+                loaded = inc;
+                current = inc.objective;
+                known = true;
+                delegate.loadFromSolution(inc.toSolution(model, decisions.get(worker), false));
+                model.getSolver().getObjectiveManager().updateBestSolution(inc.objective);
+                model.getSolver().getObjectiveManager().postDynamicCut();
+            }
+            delegate.fixSomeVariables();
+        }
+
+        @Override
+        public void restrictLess() {
+            delegate.restrictLess();
+        }
+
+        @Override
+        public boolean isSearchComplete() {
+            return delegate.isSearchComplete();
+        }
+
+        @Override
+        public void loadFromSolution(Solution solution) {
+            known = false;
+            delegate.loadFromSolution(solution);
+        }
+
+        @Override
+        public void explain(ExplanationForSignedClause explanation, ValueSortedMap<IntVar> front, Implications ig, int p) {
+            delegate.explain(explanation, front, ig, p);
+        }
+
+        @Override
+        public void forEachIntVar(Consumer<IntVar> action) {
+            delegate.forEachIntVar(action);
+        }
+    }
+}
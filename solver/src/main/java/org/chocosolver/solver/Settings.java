@@ -56,6 +56,8 @@ public interface Settings {
                 "views.activate", this.enableViews()).toString()));
         this.setMaxDomSizeForEnumerated(Integer.valueOf(properties.getOrDefault(
                 "enumerated.threshold", this.getMaxDomSizeForEnumerated()).toString()));
+        this.setMinDomSizeForSparseSet(Integer.valueOf(properties.getOrDefault(
+                "sparseset.threshold", this.getMinDomSizeForSparseSet()).toString()));
         this.setMinCardinalityForSumDecomposition(Integer.valueOf(properties.getOrDefault(
                 "sum.decomposition.threshold", this.getMinCardForSumDecomposition()).toString()));
         this.setEnableTableSubstitution(Boolean.valueOf(properties.getOrDefault(
@@ -78,6 +80,8 @@ public interface Settings {
                 "variables.prefix", this.defaultPrefix()));
         this.setEnableSAT(Boolean.valueOf(properties.getOrDefault(
                 "satsolver.activate", this.enableSAT()).toString()));
+        this.setEnableSATPreprocessing(Boolean.valueOf(properties.getOrDefault(
+                "satsolver.preprocessing", this.enableSATPreprocessing()).toString()));
         this.setSwapOnPassivate(Boolean.valueOf(properties.getOrDefault(
                 "propagators.swap", this.swapOnPassivate()).toString()));
         this.setCheckDeclaredConstraints(Boolean.valueOf(properties.getOrDefault(
@@ -94,6 +98,8 @@ public interface Settings {
                 "learnt.dominance", this.getLearntClausesDominancePerimeter()).toString()));
         this.explainGlobalFailureInSum(Boolean.valueOf(properties.getOrDefault(
                 "learnt.sum.global", this.explainGlobalFailureInSum()).toString()));
+        this.setTimeLimitForInprocessing(Long.valueOf(properties.getOrDefault(
+                "learnt.inprocessing.time", this.getTimeLimitForInprocessing()).toString()));
         return this;
     }
 
@@ -140,6 +146,7 @@ public interface Settings {
         properties.setProperty("welcome.message", this.getWelcomeMessage());
         properties.setProperty("views.activate", Boolean.toString(this.enableViews()));
         properties.setProperty("enumerated.threshold", Integer.toString(this.getMaxDomSizeForEnumerated()));
+        properties.setProperty("sparseset.threshold", Integer.toString(this.getMinDomSizeForSparseSet()));
         properties.setProperty("sum.decomposition.threshold", Integer.toString(this.getMinCardForSumDecomposition()));
         properties.setProperty("table.substitution", Boolean.toString(this.enableTableSubstitution()));
         properties.setProperty("MCR.precision", Double.toString(this.getMCRDecimalPrecision()));
@@ -151,6 +158,7 @@ public interface Settings {
         properties.setProperty("sum.AConTernary", Boolean.toString(this.enableACOnTernarySum()));
         properties.setProperty("variables.prefix", this.defaultPrefix());
         properties.setProperty("satsolver.activate", Boolean.toString(enableSAT()));
+        properties.setProperty("satsolver.preprocessing", Boolean.toString(enableSATPreprocessing()));
         properties.setProperty("propagators.swap", Boolean.toString(swapOnPassivate()));
         properties.setProperty("constraints.check", Boolean.toString(checkDeclaredConstraints()));
         properties.setProperty("constraints.check.printall", Boolean.toString(printAllUndeclaredConstraints()));
@@ -160,6 +168,7 @@ public interface Settings {
         properties.setProperty("learnt.maxCard", Integer.toString(this.getMaxLearntClauseCardinality()));
         properties.setProperty("learnt.dominance", Integer.toString(this.getLearntClausesDominancePerimeter()));
         properties.setProperty("learnt.sum.global", Boolean.toString(this.explainGlobalFailureInSum()));
+        properties.setProperty("learnt.inprocessing.time", Long.toString(this.getTimeLimitForInprocessing()));
         return properties;
     }
 
@@ -247,6 +256,23 @@ public interface Settings {
      */
     Settings setMaxDomSizeForEnumerated(int maxDomSizeForEnumerated);
 
+    /**
+     * @return minimum domain size from which an enumerated integer variable is based on a sparse set
+     * @see org.chocosolver.solver.variables.impl.SparseSetIntVarImpl
+     */
+    int getMinDomSizeForSparseSet();
+
+    /**
+     * Define the minimum domain size from which an enumerated integer variable is based on a sparse set,
+     * instead of a bitset.
+     * A sparse set removes and restores values in constant time but finds next values in linear time,
+     * it suits large domains from which many values are removed at each node.
+     * Set to {@link Integer#MAX_VALUE} to never use sparse sets.
+     * @param minDomSizeForSparseSet domain size threshold
+     * @return the current instance
+     */
+    Settings setMinDomSizeForSparseSet(int minDomSizeForSparseSet);
+
     /**
      * @return minimum number of cardinality threshold to a sum constraint to be decomposed
      */
@@ -436,6 +462,19 @@ public interface Settings {
      */
     Settings setEnableSAT(boolean enableSAT);
 
+    /**
+     * @return <i>true</i> when the clauses of the underlying SAT solver are simplified
+     * (equivalent literal substitution, subsumption, failed literal probing) once, on solver initialization.
+     */
+    boolean enableSATPreprocessing();
+
+    /**
+     * Indicate if the clauses of the underlying SAT solver are simplified on solver initialization.
+     * @param enableSATPreprocessing {@code true} to simplify clauses before search
+     * @return the current instance
+     */
+    Settings setEnableSATPreprocessing(boolean enableSATPreprocessing);
+
     /**
      * @return <i>true</i> if, on propagator passivation, the propagator is swapped from active to passive in its variables' propagators list.
      * <i>false</i> if, on propagator passivation, only the propagator's state is set to PASSIVE.
@@ -603,4 +642,21 @@ public interface Settings {
      * Set to <i>true</i> to allow additional clauses to be learned from sum's global failure
      */
     Settings explainGlobalFailureInSum(boolean b);
+
+    /**
+     * @return time limit, in milliseconds, allocated to the simplification of learnt no-goods and clauses
+     * on each restart. 0 means that no simplification is done.
+     * @see #setTimeLimitForInprocessing(long)
+     */
+    long getTimeLimitForInprocessing();
+
+    /**
+     * Set the time limit, in milliseconds, allocated to the simplification of learnt no-goods and clauses
+     * on each restart (vivification, strengthening, deduplication and removal of useless ones).
+     * Set to 0 to disable simplification.
+     * @param ms time limit in milliseconds
+     * @see #getTimeLimitForInprocessing()
+     * @return the current instance
+     */
+    Settings setTimeLimitForInprocessing(long ms);
 }
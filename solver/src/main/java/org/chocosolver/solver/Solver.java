@@ -10,7 +10,9 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBool;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.AbstractEventObserver;
@@ -152,6 +154,13 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
 
     /** Index of the world where the search starts, after initialization. */
     private int searchWorldIndex = 0;
+
+    /**
+     * Set to <tt>true</tt> in the world following {@link #searchWorldIndex} once the root node
+     * has been propagated on restart, restored to <tt>false</tt> when that world is popped.
+     * See {@link #restartFromSnapshot()}.
+     */
+    private IStateBool snapshot;
     /**
      * List of stopping criteria.
      * When at least one is satisfied, the search loop ends.
@@ -177,6 +186,15 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * Internal unique contradiction exception, used on propagation failures
      */
     protected final ContradictionException exception;
+    /**
+     * Contradiction exception of the current thread, used instead of {@link #exception}
+     * when propagation runs in several threads
+     */
+    private final ThreadLocal<ContradictionException> threadException = new ThreadLocal<>();
+    /**
+     * Set to <tt>true</tt> once a thread uses its own contradiction exception
+     */
+    private boolean threadExceptions;
     /**
      * Problem feasbility:
      * - UNDEFINED if unknown,
@@ -222,9 +240,32 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     }
 
     public void throwsException(ICause c, Variable v, String s) throws ContradictionException {
+        if (threadExceptions) {
+            ContradictionException e = threadException.get();
+            if (e != null) {
+                throw e.set(c, v, s);
+            }
+        }
         throw exception.set(c, v, s);
     }
 
+    /**
+     * Make the current thread fill and throw <i>e</i> on propagation failures,
+     * instead of the internal unique contradiction exception.
+     * This is required when propagation runs in several threads, otherwise concurrent failures
+     * would overwrite each other's cause.
+     *
+     * @param e the contradiction exception of the current thread,
+     *          or <tt>null</tt> to use the internal one again
+     * @see org.chocosolver.solver.propagation.ParallelPropagationEngine
+     */
+    public void setThreadContradictionException(ContradictionException e) {
+        if (e != null) {
+            threadExceptions = true;
+        }
+        threadException.set(e);
+    }
+
     public ContradictionException getContradictionException() {
         return exception;
     }
@@ -344,12 +385,18 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
                 }
             }
         }
+        if (mModel.getSettings().enableSATPreprocessing() && mModel.getHook(Model.MINISAT_HOOK_NAME) != null) {
+            ((SatConstraint) mModel.getHook(Model.MINISAT_HOOK_NAME)).getPropSat().preprocess();
+        }
         engine.initialize();
         getMeasures().setReadingTimeCount(System.nanoTime() - mModel.getCreationTime());
         // end note
 
         mMeasures.startStopwatch();
         rootWorldIndex = mModel.getEnvironment().getWorldIndex();
+        if (snapshot == null) {
+            snapshot = mModel.getEnvironment().makeBool(false);
+        }
         mModel.getEnvironment().buildFakeHistoryOn(mModel.getSettings().getEnvironmentHistorySimulationCondition());
         // Indicates which decision was previously applied before selecting the move.
         // Always sets to ROOT for the first move
@@ -626,14 +673,46 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      */
     public void restart() {
         searchMonitors.beforeRestart();
-        restoreRootNode();
+        restoreRootNode(searchWorldIndex);
         mModel.getEnvironment().worldPush();
+        propagateRootNode();
+    }
+
+    /**
+     * Sets the following action in the search to be a restart instruction,
+     * like {@link #restart()} does, but restores the state of the root node reached on the last restart,
+     * that is, after the propagation of the cut and of the root nogoods,
+     * instead of propagating them again from the state after the initial propagation.
+     * Only pending events, like a tighter cut, are then propagated.
+     * <p>
+     * This is only valid when what is propagated on restart holds for the remaining of the search,
+     * which is the case of the objective cut, of nogoods and of learnt clauses.
+     * Falls back to {@link #restart()} when no such state is available.
+     * Note that the restart may not be immediate
+     */
+    public void restartFromSnapshot() {
+        if (snapshot == null || !snapshot.get()) {
+            restart();
+        } else {
+            searchMonitors.beforeRestart();
+            restoreRootNode(searchWorldIndex + 1);
+            propagateRootNode();
+        }
+    }
+
+    /**
+     * Propagates the cut and the root nogoods after a restart,
+     * then marks the current world as a snapshot of the root node.
+     */
+    private void propagateRootNode() {
         getMeasures().incRestartCount();
+        searchMonitors.inprocess();
         try {
             objectivemanager.postDynamicCut();
             mMeasures.incFixpointCount();
             P.execute(this);
             action = extend;
+            snapshot.set(true);
         } catch (ContradictionException e) {
             // trivial inconsistency is detected, due to the cut
             stop = true;
@@ -644,10 +723,11 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
     /**
      * Retrieves the state of the root node (after the initial propagation)
      * Has an immediate effect
+     * @param world index of the world to backtrack to
      */
-    private void restoreRootNode() {
+    private void restoreRootNode(int world) {
         IEnvironment environment = mModel.getEnvironment();
-        while (environment.getWorldIndex() > searchWorldIndex) {
+        while (environment.getWorldIndex() > world) {
             getMeasures().incBackTrackCount();
             getMeasures().decDepth();
             environment.worldPop();
@@ -18,8 +18,11 @@ import org.chocosolver.solver.constraints.nary.cnf.ILogical;
 import org.chocosolver.solver.constraints.nary.cnf.LogOp;
 import org.chocosolver.solver.constraints.nary.cnf.LogicTreeToolBox;
 import org.chocosolver.solver.constraints.reification.LocalConstructiveDisjunction;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 
+import java.util.Arrays;
+
 /**
  * A factory dedicated to SAT.
  * <p/>
@@ -574,6 +577,59 @@ public interface ISatFactory extends ISelf<Model> {
         }
     }
 
+    /**
+     * Add a pseudo-Boolean constraint stating that: sum(COEFFS<sub>i</sub>.BOOLVARS<sub>i</sub>) OP DEGREE,
+     * where OP is one of "&le;", "&ge;" or "=".
+     * <p>
+     * Unlike other methods of this factory, the constraint is not encoded into clauses
+     * but stored as is in the SAT solver, which maintains its slack and propagates it along with clauses.
+     *
+     * @param BOOLVARS a list of boolean variables
+     * @param COEFFS   a list of coefficients, one per boolean variable
+     * @param OP       an operator among "<=", ">=" and "="
+     * @param DEGREE   the right-hand side
+     * @return true if the constraint has been added to the clause store
+     * @throws SolverException if OP is "&le;" or "=" and a coefficient or DEGREE is {@link Integer#MIN_VALUE},
+     * since the constraint is then stored with negated coefficients
+     */
+    default boolean addPseudoBoolean(BoolVar[] BOOLVARS, int[] COEFFS, String OP, int DEGREE) {
+        if (BOOLVARS.length != COEFFS.length) {
+            throw new SolverException("BOOLVARS and COEFFS arrays must have the same length");
+        }
+        Operator op = Operator.get(OP);
+        if (op != Operator.LE && op != Operator.GE && op != Operator.EQ) {
+            throw new SolverException("Unexpected operator for pseudo-Boolean constraint: " + OP);
+        }
+        if (op != Operator.GE && (DEGREE == Integer.MIN_VALUE
+                || Arrays.stream(COEFFS).anyMatch(c -> c == Integer.MIN_VALUE))) {
+            throw new SolverException("Integer.MIN_VALUE cannot be negated in pseudo-Boolean constraint");
+        }
+        if(ref().getSettings().enableSAT()) {
+            PropSat sat = ref().getMinisat().getPropSat();
+            sat.beforeAddingClauses();
+            int[] lits = new int[BOOLVARS.length];
+            for (int i = 0; i < BOOLVARS.length; i++) {
+                lits[i] = sat.makeLiteral(BOOLVARS[i], true);
+            }
+            boolean add = true;
+            if (op != Operator.LE) {
+                add = sat.getSatSolver().addPseudoBoolean(lits, COEFFS, DEGREE);
+            }
+            if (op != Operator.GE) {
+                int[] ncoeffs = new int[COEFFS.length];
+                for (int i = 0; i < COEFFS.length; i++) {
+                    ncoeffs[i] = -COEFFS[i];
+                }
+                add &= sat.getSatSolver().addPseudoBoolean(lits, ncoeffs, -DEGREE);
+            }
+            sat.afterAddingClauses();
+            return add;
+        }else{
+            ref().scalar(BOOLVARS, COEFFS, OP, DEGREE).post();
+            return true;
+        }
+    }
+
     /**
      * Make a constructive disjunction constraint
      *
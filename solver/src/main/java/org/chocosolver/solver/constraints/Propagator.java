@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints;
 
 
+import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
@@ -21,6 +22,7 @@ import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.IView;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
@@ -183,6 +185,18 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      * True if this is scheduled for propagation
      */
     private boolean scheduled;
+    /**
+     * Declared idempotence: 0 if not declared, 1 if idempotent, 2 if not idempotent
+     */
+    private byte idempotence;
+    /**
+     * Environment's timestamp when {@link #watermark()} was last called, -1 if never
+     */
+    private int wstamp = -1;
+    /**
+     * Sum of the domain versions of the variables when {@link #watermark()} was last called
+     */
+    private long wversions;
     /**
      * This set of events (modified variables) to propagate next time
      */
@@ -768,6 +782,76 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return state == PASSIVE;
     }
 
+    /**
+     * Declare whether this propagator is idempotent, that is, whether a second call to
+     * {@link #propagate(int)} right after a first one never filters.
+     * <p>
+     * Once declared, a coarse propagation is skipped by the propagation engine when none of the
+     * variables has been modified since the last one.
+     * A propagator declared as not idempotent is scheduled on its own modifications too.
+     * Undeclared propagators are considered idempotent but are never skipped.
+     *
+     * @param idempotent <tt>true</tt> if this propagator is idempotent
+     */
+    protected final void declareIdempotence(boolean idempotent) {
+        this.idempotence = (byte) (idempotent ? 1 : 2);
+    }
+
+    /**
+     * @return <tt>true</tt> if no two variables of the scope are the same variable or views
+     * of the same variable (constants excepted), a condition for most propagators to be idempotent
+     */
+    protected final boolean hasIndependentVariables() {
+        TIntHashSet ids = new TIntHashSet(vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            Variable var = vars[i];
+            while (var instanceof IView) {
+                var = ((IView) var).getVariable();
+            }
+            if ((var.getTypeAndKind() & Variable.CSTE) == 0 && !ids.add(var.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return <tt>false</tt> if this propagator is declared as not idempotent,
+     * see {@link #declareIdempotence(boolean)}
+     */
+    public final boolean isIdempotent() {
+        return idempotence < 2;
+    }
+
+    /**
+     * Record the domain versions of the variables, to detect later whether they changed.
+     * Called by the propagation engine around a coarse propagation.
+     */
+    public final void watermark() {
+        if (idempotence > 0) {
+            wstamp = model.getEnvironment().getTimeStamp();
+            wversions = versions();
+        }
+    }
+
+    /**
+     * @return <tt>true</tt> if idempotence is declared and no variable has been modified since
+     * the last call to {@link #watermark()}, in the same world
+     */
+    public final boolean isUpToDate() {
+        return idempotence > 0
+                && wstamp == model.getEnvironment().getTimeStamp()
+                && wversions == versions();
+    }
+
+    private long versions() {
+        long v = 0;
+        for (int i = 0; i < vars.length; i++) {
+            v += vars[i].getDomainVersion();
+        }
+        return v;
+    }
+
     /**
      * @return true iff the propagator reacts to fine event, that is,
      * it needs to know which variable has been modified and the modification that happened.
@@ -902,7 +986,16 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      * @return propagator priority
      */
     public int doSchedule(CircularQueue<Propagator>[] queues){
-        int prio = priority.priority;
+        return doSchedule(queues, priority.priority);
+    }
+
+    /**
+     * Apply scheduling instruction, in a given queue
+     * @param queues array of queues in which this can be scheduled
+     * @param prio index of the queue to use, if this is not yet scheduled
+     * @return <i>prio</i>
+     */
+    public int doSchedule(CircularQueue<Propagator>[] queues, int prio){
         if(!scheduled) {
             queues[prio].addLast(this);
             schedule();
@@ -16,10 +16,10 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.iterators.DisposableRangeIterator;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 
 /**
  * | X - Y | op C <br/> op = {"==", "<", ">", "=/="} <br/>
@@ -33,7 +33,7 @@ public class PropDistanceXYC extends Propagator<IntVar> {
 
     private final int cste;
 
-    private final RemProc remproc;
+    private final IntDeltaCursor removed;
 
     private final IIntDeltaMonitor[] idms;
 
@@ -49,7 +49,7 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
         this.operator = operator;
         this.cste = cste;
-        this.remproc = new RemProc(this);
+        this.removed = new IntDeltaCursor();
     }
 
     @Override
@@ -106,7 +106,10 @@ public class PropDistanceXYC extends Propagator<IntVar> {
                 } else {
                     if (IntEventType.isRemove(mask) && vars[varIdx].hasEnumeratedDomain()) {
                         idms[varIdx].freeze();
-                        idms[varIdx].forEachRemVal(remproc.set(varIdx));
+                        idms[varIdx].forEachRemoved(removed);
+                        while (removed.hasNext()) {
+                            onValRem(varIdx, idx2, removed.next());
+                        }
                         idms[varIdx].unfreeze();
                     }
                     if (IntEventType.isInclow(mask)) {
@@ -339,38 +342,12 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
     }
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
-
-        private int idx;
-        private final PropDistanceXYC p;
-
-        public RemProc(PropDistanceXYC p) {
-            this.p = p;
+    private void onValRem(int idx, int idx2, int i) throws ContradictionException {
+        if (!vars[idx].contains(i + 2 * cste)) {
+            vars[idx2].removeValue(i + cste, this);
         }
-
-        @Override
-        public UnaryIntProcedure set(Integer integer) {
-            this.idx = integer;
-            return this;
-        }
-
-        @Override
-        public void execute(int i) throws ContradictionException {
-            if (idx == 0) {
-                if (!p.vars[0].contains(i + 2 * p.cste)) {
-                    p.vars[1].removeValue(i + p.cste, this.p);
-                }
-                if (!p.vars[0].contains(i - 2 * p.cste)) {
-                    p.vars[1].removeValue(i - p.cste, this.p);
-                }
-            } else {
-                if (!p.vars[1].contains(i + 2 * p.cste)) {
-                    p.vars[0].removeValue(i + p.cste, this.p);
-                }
-                if (!p.vars[1].contains(i - 2 * p.cste)) {
-                    p.vars[0].removeValue(i - p.cste, this.p);
-                }
-            }
+        if (!vars[idx].contains(i - 2 * cste)) {
+            vars[idx2].removeValue(i - cste, this);
         }
     }
 
@@ -16,11 +16,11 @@ import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
-import org.chocosolver.util.procedure.IntProcedure;
 
 /**
  * X = Y + C
@@ -39,7 +39,7 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
     // incremental filtering of enumerated domains
     private boolean bothEnumerated;
     private IIntDeltaMonitor[] idms;
-    private IntProcedure rem_proc;
+    private IntDeltaCursor removed;
     private int indexToFilter;
     private int offSet;
 
@@ -54,7 +54,7 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
             idms = new IIntDeltaMonitor[2];
             idms[0] = vars[0].monitorDelta(this);
             idms[1] = vars[1].monitorDelta(this);
-            rem_proc = i -> vars[indexToFilter].removeValue(i + offSet, this);
+            removed = new IntDeltaCursor();
         }
     }
 
@@ -107,7 +107,10 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
                 offSet = cste;
             }
             idms[varIdx].freeze();
-            idms[varIdx].forEachRemVal(rem_proc);
+            idms[varIdx].forEachRemoved(removed);
+            while (removed.hasNext()) {
+                vars[indexToFilter].removeValue(removed.next() + offSet, this);
+            }
             idms[varIdx].unfreeze();
         }
     }
@@ -14,10 +14,10 @@ import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
 /**
@@ -29,7 +29,7 @@ import org.chocosolver.util.tools.ArrayUtils;
  */
 public class PropSquare extends Propagator<IntVar> {
 
-    private final RemProc rem_proc;
+    private final IntDeltaCursor removed;
     private final IIntDeltaMonitor[] idms;
     private final IntIterableBitSet vrms;
 
@@ -40,7 +40,7 @@ public class PropSquare extends Propagator<IntVar> {
             idms[i] = vars[i].hasEnumeratedDomain() ? vars[i].monitorDelta(this) : IIntDeltaMonitor.Default.NONE;
         }
         vrms = new IntIterableBitSet();
-        rem_proc = new RemProc(this);
+        removed = new IntDeltaCursor();
     }
 
     @Override
@@ -68,7 +68,10 @@ public class PropSquare extends Propagator<IntVar> {
                 updateHolesinY();
             } else {
                 idms[varIdx].freeze();
-                idms[varIdx].forEachRemVal(rem_proc.set(varIdx));
+                idms[varIdx].forEachRemoved(removed);
+                while (removed.hasNext()) {
+                    updateHoleinY(removed.next());
+                }
                 idms[varIdx].unfreeze();
 //                updateHolesinY();
             }
@@ -83,7 +86,10 @@ public class PropSquare extends Propagator<IntVar> {
                 updateHolesinX();
             } else {
                 idms[varIdx].freeze();
-                idms[varIdx].forEachRemVal(rem_proc.set(varIdx));
+                idms[varIdx].forEachRemoved(removed);
+                while (removed.hasNext()) {
+                    updateHoleinX(removed.next());
+                }
                 idms[varIdx].unfreeze();
 //                updateHolesinX();
             }
@@ -232,29 +238,4 @@ public class PropSquare extends Propagator<IntVar> {
         vars[1].removeValue(-ceil_sqrt(remVal), this);
     }
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
-
-        private final PropSquare p;
-        private int idxVar;
-
-        public RemProc(PropSquare p) {
-            this.p = p;
-        }
-
-        @Override
-        public UnaryIntProcedure set(Integer idxVar) {
-            this.idxVar = idxVar;
-            return this;
-        }
-
-        @Override
-        public void execute(int i) throws ContradictionException {
-            if (idxVar == 0) {
-                p.updateHoleinY(i);
-            } else {
-                p.updateHoleinX(i);
-            }
-        }
-    }
-
 }
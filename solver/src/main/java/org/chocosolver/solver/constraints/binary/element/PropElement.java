@@ -73,6 +73,9 @@ public class PropElement extends Propagator<IntVar> {
         fidx.setOffset(index.getLB());
         pVals = new IntIterableBitSet();
         pVals.setOffset(result.getLB());
+        if (hasIndependentVariables()) {
+            declareIdempotence(true);
+        }
     }
 
     @Override
@@ -12,7 +12,6 @@ package org.chocosolver.solver.constraints.extension.binary;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.iterators.DisposableValueIterator;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
 
 /**
@@ -59,25 +58,21 @@ public class PropBinAC3 extends PropBinCSP {
         int nbs = 0;
         vrms.clear();
         vrms.setOffset(v1.getLB());
-        DisposableValueIterator itv1 = v1.getValueIterator(true);
-        while (itv1.hasNext()) {
-            int val1 = itv1.next();
-            DisposableValueIterator itv0 = v0.getValueIterator(true);
-            while (itv0.hasNext()) {
-                int val0 = itv0.next();
+        int ub1 = v1.getUB();
+        int ub0 = v0.getUB();
+        for (int val1 = v1.getLB(); val1 <= ub1; val1 = v1.nextValue(val1)) {
+            for (int val0 = v0.getLB(); val0 <= ub0; val0 = v0.nextValue(val0)) {
                 if (relation.isConsistent(val0, val1)) {
                     nbs += 1;
                     break;
                 }
             }
-            itv0.dispose();
             if (nbs == 0) {
                 vrms.add(val1);
             }
             nbs = 0;
         }
         v1.removeValues(vrms, this);
-        itv1.dispose();
     }
 
     /**
@@ -87,24 +82,20 @@ public class PropBinAC3 extends PropBinCSP {
         int nbs = 0;
         vrms.clear();
         vrms.setOffset(v0.getLB());
-        DisposableValueIterator itv0 = v0.getValueIterator(true);
-        while (itv0.hasNext()) {
-            int val0 = itv0.next();
-            DisposableValueIterator itv1 = v1.getValueIterator(true);
-            while (itv1.hasNext()) {
-                int val1 = itv1.next();
+        int ub0 = v0.getUB();
+        int ub1 = v1.getUB();
+        for (int val0 = v0.getLB(); val0 <= ub0; val0 = v0.nextValue(val0)) {
+            for (int val1 = v1.getLB(); val1 <= ub1; val1 = v1.nextValue(val1)) {
                 if (relation.isConsistent(val0, val1)) {
                     nbs += 1;
                     break;
                 }
             }
-            itv1.dispose();
             if (nbs == 0) {
                 vrms.add(val0);
             }
             nbs = 0;
         }
         v0.removeValues(vrms, this);
-        itv0.dispose();
     }
 }
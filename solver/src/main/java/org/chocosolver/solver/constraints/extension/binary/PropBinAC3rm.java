@@ -132,35 +132,26 @@ public class PropBinAC3rm extends PropBinCSP {
     private void reviseV1() throws ContradictionException {
         int v0Size = v0.getDomainSize();
         if (minS1 <= (initDomSize0 - v0Size)) {
-            DisposableValueIterator itv1 = v1.getValueIterator(true);
             vrms.clear();
             vrms.setOffset(v1.getLB());
-            try {
-                while (itv1.hasNext()) {
-                    int y = itv1.next();
-                    if (testDeepakConditionV1(y, v0Size)) { //initS1[y - offset1] <= (initDomSize0 - v0Size)) {
-                        if (!v0.contains(getSupportV1(y))) {
-                            boolean found = false;
-                            int support = 0;
-                            DisposableValueIterator itv0 = v0.getValueIterator(true);
-                            while (!found && itv0.hasNext()) {
-                                support = itv0.next();
-                                if (relation.isConsistent(support, y)) found = true;
-                            }
-                            itv0.dispose();
-
-                            if (found) {
-                                storeSupportV1(support, y);
-                            } else {
-                                vrms.add(y);
-                            }
+            int ub1 = v1.getUB();
+            int ub0 = v0.getUB();
+            for (int y = v1.getLB(); y <= ub1; y = v1.nextValue(y)) {
+                if (testDeepakConditionV1(y, v0Size)) { //initS1[y - offset1] <= (initDomSize0 - v0Size)) {
+                    if (!v0.contains(getSupportV1(y))) {
+                        int support = v0.getLB();
+                        while (support <= ub0 && !relation.isConsistent(support, y)) {
+                            support = v0.nextValue(support);
+                        }
+                        if (support <= ub0) {
+                            storeSupportV1(support, y);
+                        } else {
+                            vrms.add(y);
                         }
                     }
                 }
-                v1.removeValues(vrms, this);
-            } finally {
-                itv1.dispose();
             }
+            v1.removeValues(vrms, this);
         }
     }
 
@@ -172,34 +163,26 @@ public class PropBinAC3rm extends PropBinCSP {
     private void reviseV0() throws ContradictionException {
         int v1Size = v1.getDomainSize();
         if (minS0 <= (initDomSize1 - v1Size)) {
-            DisposableValueIterator itv0 = v0.getValueIterator(true);
             vrms.clear();
             vrms.setOffset(v0.getLB());
-            try {
-                while (itv0.hasNext()) {
-                    int x = itv0.next();
-                    if (testDeepakConditionV0(x, v1Size)) { //initS0[x - offset0] <= (initDomSize1 - v1Size)) {
-                        if (!v1.contains(getSupportV0(x))) {
-                            boolean found = false;
-                            int support = 0;
-                            DisposableValueIterator itv1 = v1.getValueIterator(true);
-                            while (!found && itv1.hasNext()) {
-                                support = itv1.next();
-                                if (relation.isConsistent(x, support)) found = true;
-                            }
-                            itv1.dispose();
-                            if (found) {
-                                storeSupportV0(support, x);
-                            } else {
-                                vrms.add(x);
-                            }
+            int ub0 = v0.getUB();
+            int ub1 = v1.getUB();
+            for (int x = v0.getLB(); x <= ub0; x = v0.nextValue(x)) {
+                if (testDeepakConditionV0(x, v1Size)) { //initS0[x - offset0] <= (initDomSize1 - v1Size)) {
+                    if (!v1.contains(getSupportV0(x))) {
+                        int support = v1.getLB();
+                        while (support <= ub1 && !relation.isConsistent(x, support)) {
+                            support = v1.nextValue(support);
+                        }
+                        if (support <= ub1) {
+                            storeSupportV0(support, x);
+                        } else {
+                            vrms.add(x);
                         }
                     }
                 }
-                v0.removeValues(vrms, this);
-            } finally {
-                itv0.dispose();
             }
+            v0.removeValues(vrms, this);
         }
     }
 
@@ -293,36 +276,26 @@ public class PropBinAC3rm extends PropBinCSP {
     private void onInstantiationOf(int idx) throws ContradictionException {
         if (idx == 0) {
             int value = v0.getValue();
-            DisposableValueIterator iterator = v1.getValueIterator(true);
             vrms.clear();
             vrms.setOffset(v1.getLB());
-            try {
-                while (iterator.hasNext()) {
-                    int val = iterator.next();
-                    if (!relation.isConsistent(value, val)) {
-                        vrms.add(val);
-                    }
+            int ub = v1.getUB();
+            for (int val = v1.getLB(); val <= ub; val = v1.nextValue(val)) {
+                if (!relation.isConsistent(value, val)) {
+                    vrms.add(val);
                 }
-                v1.removeValues(vrms, this);
-            } finally {
-                iterator.dispose();
             }
+            v1.removeValues(vrms, this);
         } else {
             int value = v1.getValue();
-            DisposableValueIterator iterator = v0.getValueIterator(true);
             vrms.clear();
             vrms.setOffset(v0.getLB());
-            try {
-                while (iterator.hasNext()) {
-                    int val = iterator.next();
-                    if (!relation.isConsistent(val, value)) {
-                        vrms.add(val);
-                    }
+            int ub = v0.getUB();
+            for (int val = v0.getLB(); val <= ub; val = v0.nextValue(val)) {
+                if (!relation.isConsistent(val, value)) {
+                    vrms.add(val);
                 }
-                v0.removeValues(vrms, this);
-            } finally {
-                iterator.dispose();
             }
+            v0.removeValues(vrms, this);
         }
     }
 }
@@ -13,7 +13,6 @@ import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
-import org.chocosolver.util.iterators.DisposableValueIterator;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
 
 /**
@@ -61,37 +60,27 @@ public class PropBinFC extends PropBinCSP {
 
     private void onInstantiation0() throws ContradictionException {
         int value = v0.getValue();
-        DisposableValueIterator values = v1.getValueIterator(true);
         vrms.clear();
         vrms.setOffset(v1.getLB());
-        try {
-            while (values.hasNext()) {
-                int val = values.next();
-                if (!relation.isConsistent(value, val)) {
-                    vrms.add(val);
-                }
+        int ub = v1.getUB();
+        for (int val = v1.getLB(); val <= ub; val = v1.nextValue(val)) {
+            if (!relation.isConsistent(value, val)) {
+                vrms.add(val);
             }
-            v1.removeValues(vrms, this);
-        } finally {
-            values.dispose();
         }
+        v1.removeValues(vrms, this);
     }
 
     private void onInstantiation1() throws ContradictionException {
         int value = v1.getValue();
-        DisposableValueIterator values = v0.getValueIterator(true);
         vrms.clear();
         vrms.setOffset(v0.getLB());
-        try {
-            while (values.hasNext()) {
-                int val = values.next();
-                if (!relation.isConsistent(val, value)) {
-                    vrms.add(val);
-                }
+        int ub = v0.getUB();
+        for (int val = v0.getLB(); val <= ub; val = v0.nextValue(val)) {
+            if (!relation.isConsistent(val, value)) {
+                vrms.add(val);
             }
-            v0.removeValues(vrms, this);
-        } finally {
-            values.dispose();
         }
+        v0.removeValues(vrms, this);
     }
 }
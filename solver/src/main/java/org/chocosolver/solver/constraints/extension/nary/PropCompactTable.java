@@ -18,6 +18,7 @@ import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.UnaryIntProcedure;
@@ -42,7 +43,7 @@ public class PropCompactTable extends Propagator<IntVar> {
     int[][] residues;
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
-    private UnaryIntProcedure<Integer> onValRem;
+    private final IntDeltaCursor removed;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -63,27 +64,42 @@ public class PropCompactTable extends Propagator<IntVar> {
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
         }
-        onValRem = makeProcedure();
+        removed = new IntDeltaCursor();
     }
 
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
 
+    /**
+     * @param vIdx index of a variable
+     * @return the supports to add to the mask when values are removed from <i>vIdx</i>
+     */
+    protected long[][] removedSupports(int vIdx) {
+        return supports[vIdx];
+    }
+
+    /**
+     * @return a procedure adding to the mask the supports of a removed value, see {@link #removedSupports(int)}
+     * @deprecated removed values are now iterated with a cursor, this procedure is no longer used
+     * by the propagator: override {@link #removedSupports(int)} instead
+     */
+    @Deprecated
     protected UnaryIntProcedure<Integer> makeProcedure() {
         return new UnaryIntProcedure<Integer>() {
-            int var, off;
+            long[][] sup;
+            int off;
 
             @Override
             public UnaryIntProcedure set(Integer o) {
-                var = o;
-                off = offset[var];
+                sup = removedSupports(o);
+                off = offset[o];
                 return this;
             }
 
             @Override
             public void execute(int i) throws ContradictionException {
-                currTable.addToMask((supports[var][i - off]));
+                currTable.addToMask(sup[i - off]);
             }
         };
     }
@@ -149,7 +165,12 @@ public class PropCompactTable extends Propagator<IntVar> {
         currTable.clearMask();
         monitors[vIdx].freeze();
         if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
-            monitors[vIdx].forEachRemVal(onValRem.set(vIdx));
+            monitors[vIdx].forEachRemoved(removed);
+            long[][] sup = removedSupports(vIdx);
+            int off = offset[vIdx];
+            while (removed.hasNext()) {
+                currTable.addToMask(sup[removed.next() - off]);
+            }
             currTable.reverseMask();
         } else {
             int ub = vars[vIdx].getUB();
@@ -10,9 +10,7 @@
 package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.solver.constraints.extension.Tuples;
-import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 
 /**
  * Propagator for table constraint based on
@@ -51,23 +49,10 @@ public class PropCompactTableStar extends PropCompactTable {
     // INITIALIZATION
     //***********************************************************************************
 
-    protected UnaryIntProcedure<Integer> makeProcedure() {
-        return new UnaryIntProcedure<Integer>() {
-            int var, off;
-
-            @Override
-            public UnaryIntProcedure set(Integer o) {
-                var = o;
-                off = offset[var];
-                return this;
-            }
-
-            @Override
-            public void execute(int i) throws ContradictionException {
-                // main reason we re-wrote the class
-                currTable.addToMask((inc_supports[var][i - off]));
-            }
-        };
+    @Override
+    protected long[][] removedSupports(int vIdx) {
+        // main reason we re-wrote the class
+        return inc_supports[vIdx];
     }
 
     protected void computeSupports(Tuples tuples) {
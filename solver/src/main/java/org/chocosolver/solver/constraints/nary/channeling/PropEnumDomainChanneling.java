@@ -14,8 +14,8 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.IntProcedure;
 
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
@@ -31,7 +31,7 @@ import static org.chocosolver.util.tools.ArrayUtils.concat;
 public class PropEnumDomainChanneling extends Propagator<IntVar> {
 
     private final int n;
-    private final IntProcedure rem_proc;
+    private final IntDeltaCursor removed;
     private final IIntDeltaMonitor idm;
     private final int offSet;
 
@@ -41,7 +41,7 @@ public class PropEnumDomainChanneling extends Propagator<IntVar> {
         this.n = bvars.length;
         this.offSet = offSet;
         this.idm = this.vars[n].monitorDelta(this);
-        this.rem_proc = i -> vars[i - offSet].instantiateTo(0, this);
+        this.removed = new IntDeltaCursor();
     }
 
     @Override
@@ -74,7 +74,10 @@ public class PropEnumDomainChanneling extends Propagator<IntVar> {
     public void propagate(int varIdx, int mask) throws ContradictionException {
         if (varIdx == n) {
             idm.freeze();
-            idm.forEachRemVal(rem_proc);
+            idm.forEachRemoved(removed);
+            while (removed.hasNext()) {
+                vars[removed.next() - offSet].instantiateTo(0, this);
+            }
             idm.unfreeze();
         } else {
             if (vars[varIdx].getValue() == 1) {
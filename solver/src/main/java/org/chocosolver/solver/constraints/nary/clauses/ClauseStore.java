@@ -29,6 +29,7 @@ import org.chocosolver.util.objects.tree.IntervalTree;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -274,19 +275,99 @@ public class ClauseStore extends Propagator<IntVar> {
             if (size > learnts.size() && model.getSettings().warnUser()) {
                 System.out.printf("Reduce DB: %d -> %d\n", size, learnts.size());
             }
-            for (IntervalTree<Container> t : watches.values()) {
-                Stack<Container> del = new Stack<>();
-                for (Container c : t) {
-                    c.watchers.removeIf(w -> !w.c.isConnected());
-                    if(c.watchers.isEmpty()){
-                        del.push(c);
-                    }
+            cleanWatchers();
+        }
+    }
+
+    /**
+     * Remove watchers of disconnected signed clauses, and empty containers.
+     */
+    private void cleanWatchers() {
+        for (IntervalTree<Container> t : watches.values()) {
+            Stack<Container> del = new Stack<>();
+            for (Container c : t) {
+                c.watchers.removeIf(w -> !w.c.isConnected());
+                if(c.watchers.isEmpty()){
+                    del.push(c);
                 }
-                while(!del.isEmpty()){
-                    t.delete(del.pop());
+            }
+            while(!del.isEmpty()){
+                t.delete(del.pop());
+            }
+        }
+    }
+
+    /**
+     * Simplify the learnt signed clauses, at root node:
+     * <ol>
+     *     <li>garbage collection: learnt signed clauses satisfied at root node are removed,</li>
+     *     <li>deduplication: learnt signed clauses outshone by another learnt one of the same cardinality are
+     *     removed,</li>
+     *     <li>watchers of removed signed clauses are cleaned up.</li>
+     * </ol>
+     * Simplification stops as soon as <i>deadline</i> is reached.
+     *
+     * @param deadline time limit, as given by {@link System#nanoTime()}
+     */
+    public void simplify(long deadline) {
+        int size = learnts.size();
+        simplifyDB();
+        // duplicates can only be found among clauses of the same cardinality,
+        // sort positions so that learnts keeps its chronological order (see detectDominance())
+        int n = learnts.size();
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> learnts.get(i).cardinality()));
+        boolean[] outshone = new boolean[n];
+        top:
+        for (int i = 0; i < n && System.nanoTime() < deadline; i++) {
+            if (outshone[order[i]]) {
+                continue;
+            }
+            SignedClause ci = learnts.get(order[i]);
+            for (int j = i + 1; j < n && learnts.get(order[j]).cardinality() == ci.cardinality(); j++) {
+                if (System.nanoTime() >= deadline) {
+                    break top;
                 }
+                SignedClause cj = learnts.get(order[j]);
+                if (!outshone[order[j]] && cj.isNotLocked() && isIncludedIn(ci, cj)) {
+                    outshone[order[j]] = true;
+                }
+            }
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            if (outshone[i]) {
+                remove(i);
+            }
+        }
+        if (size > learnts.size()) {
+            last = null;
+            cleanWatchers();
+        }
+        if (size > learnts.size() && model.getSettings().warnUser()) {
+            System.out.printf("Inprocessing DB: %d -> %d\n", size, learnts.size());
+        }
+    }
+
+    /**
+     * @param ci a signed clause
+     * @param cj another signed clause
+     * @return <tt>true</tt> if each literal of <i>ci</i> is included in a literal of <i>cj</i>,
+     * in that case <i>ci</i> outshines <i>cj</i>.
+     */
+    private static boolean isIncludedIn(SignedClause ci, SignedClause cj) {
+        for (int i = 0; i < ci.cardinality(); i++) {
+            boolean found = false;
+            for (int j = 0; j < cj.cardinality() && !found; j++) {
+                found = ci.v(i) == cj.v(j) && cj.l(j) <= ci.l(i) && ci.u(i) <= cj.u(j);
+            }
+            if (!found) {
+                return false;
             }
         }
+        return true;
     }
 
     private void detectDominance() {
@@ -54,6 +54,10 @@ public class PropElementV_fast extends Propagator<IntVar> {
         this.index = vars[1];
         this.offset = offset;
         this.fast = fast;
+        // filtering loops until no more modification
+        if (hasIndependentVariables()) {
+            declareIdempotence(true);
+        }
     }
 
     @Override
@@ -14,13 +14,13 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
 import org.chocosolver.util.objects.graphs.DirectedGraph;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetType;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 
 import java.util.BitSet;
 
@@ -50,7 +50,7 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
     private DirectedGraph digraph;
     private int[] nodeSCC;
     private BitSet free;
-    private UnaryIntProcedure<Integer> remProc;
+    private final IntDeltaCursor removed;
     private final IIntDeltaMonitor[] idms;
     private StrongConnectivityFinder SCCfinder;
     // for augmenting matching (BFS)
@@ -98,7 +98,7 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
         fifo = new int[n2];
         digraph = new DirectedGraph(model, n2 + 2, SetType.LINKED_LIST, false);
         free = new BitSet(n2);
-        remProc = new DirectedRemProc();
+        removed = new IntDeltaCursor();
         father = new int[n2];
         in = new BitSet(n2);
         SCCfinder = new StrongConnectivityFinder(digraph);
@@ -294,7 +294,12 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
     public void propagate(int varIdx, int mask) throws ContradictionException {
         if (varIdx < n) {
             idms[varIdx].freeze();
-            idms[varIdx].forEachRemVal(remProc.set(varIdx));
+            idms[varIdx].forEachRemoved(removed);
+            while (removed.hasNext()) {
+                int j = map.get(removed.next());
+                digraph.removeArc(varIdx, j);
+                digraph.removeArc(j, varIdx);
+            }
             idms[varIdx].unfreeze();
         }
         forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
@@ -328,20 +333,4 @@ public class PropAtLeastNValues_AC extends Propagator<IntVar> {
         }
         return ESat.UNDEFINED;
     }
-
-    private class DirectedRemProc implements UnaryIntProcedure<Integer> {
-
-        private int idx;
-
-        public void execute(int i) throws ContradictionException {
-            digraph.removeArc(idx, map.get(i));
-            digraph.removeArc(map.get(i), idx);
-        }
-
-        @Override
-        public UnaryIntProcedure set(Integer integer) {
-            this.idx = integer;
-            return this;
-        }
-    }
 }
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Deque;
+import java.util.List;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.SatSolver;
 import org.chocosolver.sat.SatSolver.Clause;
@@ -67,9 +68,41 @@ public class PropNogoods extends Propagator<Variable> {
     private SatSolver sat_;
 
     /**
-     * Binds couple (variable-value) to a unique literal
+     * Largest span of values a dense literal table is allowed to cover when first allocated.
+     * Beyond that, the table only covers the first value requested and grows on demand.
      */
-    private TLongIntHashMap[] vv2lit;
+    private static final int MAX_INIT_TABLE_SIZE = 1 << 12;
+
+    /**
+     * Largest span of values a dense literal table is allowed to cover.
+     * Beyond that, literals of the variable are stored in a hash map instead.
+     */
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    /**
+     * Binds couple (variable-value) to a unique literal.
+     * One dense table per variable ({@link Variable#getId()}), lazily allocated.
+     * Entry <code>2 * (value - offset)</code> stores "= value" (or "&isin;"),
+     * entry <code>2 * (value - offset) + 1</code> stores "&le; value".
+     */
+    private int[][] vv2lit;
+
+    /**
+     * Binds couple (variable-value) to a unique literal, for variables whose values are too far apart
+     * to be stored in a dense table ({@link #MAX_TABLE_SIZE}).
+     * Keys are <code>value</code> for "= value" and {@link #leq(int)} for "&le; value".
+     */
+    private TLongIntHashMap[] vv2map;
+
+    /**
+     * Smallest value covered by a dense literal table, per variable ({@link Variable#getId()}).
+     */
+    private int[] offsets;
+
+    /**
+     * Literals declared for each variable ({@link Variable#getId()}), in creation order.
+     */
+    private TIntArrayList[] var2lits;
 
     /**
      * Binds variable ({@link Variable#getId()} to a unique position
@@ -134,7 +167,10 @@ public class PropNogoods extends Propagator<Variable> {
         this.vars = new Variable[0];// erase model.ONE from the variable scope
 
         int k = 16;
-        this.vv2lit = new TLongIntHashMap[k];//new TIntObjectHashMap<>(16, .5f, NO_ENTRY);
+        this.vv2lit = new int[k][];
+        this.vv2map = new TLongIntHashMap[k];
+        this.offsets = new int[k];
+        this.var2lits = new TIntArrayList[k];
         this.lit2val = new long[k];//new TIntIntHashMap(16, .5f, NO_ENTRY, NO_ENTRY);
         Arrays.fill(lit2val, NO_ENTRY);
         this.lit2pos = new int[k];//new TIntIntHashMap(16, .5f, NO_ENTRY, NO_ENTRY);
@@ -186,36 +222,40 @@ public class PropNogoods extends Propagator<Variable> {
     }
 
     private void doVariableBound(IntVar var) throws ContradictionException {
-        TLongIntHashMap map;
-        for (long k : (map = vv2lit[var.getId()]).keys()) {
+        TIntArrayList lits = var2lits[var.getId()];
+        for (int i = 0; i < lits.size(); i++) {
+            int lit = lits.getQuick(i);
+            long k = lit2val[lit];
             int value = ivalue(k);
             if (iseq(k)) {
                 if (var.contains(value)) {
                     if (var.isInstantiated()) {
-                        VariableBound(map.get(k), true);
+                        VariableBound(lit, true);
                     }
                 } else {
-                    VariableBound(map.get(k), false);
+                    VariableBound(lit, false);
                 }
             } else {
                 if (var.getUB() <= value) {
-                    VariableBound(map.get(k), true);
+                    VariableBound(lit, true);
                 } else if (var.getLB() > value) {
-                    VariableBound(map.get(k), false);
+                    VariableBound(lit, false);
                 }
             }
         }
     }
 
     private void doVariableBound(SetVar var) throws ContradictionException {
-        TLongIntHashMap map;
-        for (long k : (map = vv2lit[var.getId()]).keys()) {
+        TIntArrayList lits = var2lits[var.getId()];
+        for (int i = 0; i < lits.size(); i++) {
+            int lit = lits.getQuick(i);
+            long k = lit2val[lit];
             int value = ivalue(k);
             if (iseq(k)) {
                 if (var.getLB().contains(value)) {
-                    VariableBound(map.get(k), true);
+                    VariableBound(lit, true);
                 } else if (!var.getUB().contains(value)) {
-                    VariableBound(map.get(k), false);
+                    VariableBound(lit, false);
                 }
             } else {
                 throw new UnsupportedOperationException("SetVar does not support that case");
@@ -402,56 +442,7 @@ public class PropNogoods extends Propagator<Variable> {
      */
     public int Literal(IntVar ivar, int value, boolean eq) {
         // TODO: deal with BoolVar
-        int vid = ivar.getId();
-        int var;
-        TLongIntHashMap map;
-        if (vid >= vv2lit.length) {
-            TLongIntHashMap[] tmp = vv2lit;
-            vv2lit = new TLongIntHashMap[vid + 1];
-            System.arraycopy(tmp, 0, vv2lit, 0, tmp.length);
-
-            int[] tmpi = var2pos;
-            var2pos = new int[vid + 1];
-            System.arraycopy(tmpi, 0, var2pos, 0, tmpi.length);
-            Arrays.fill(var2pos, tmpi.length, vid + 1, NO_ENTRY);
-        }
-        if ((map = vv2lit[vid]) == null) {
-            map = new TLongIntHashMap(16, .5f, NO_ENTRY, NO_ENTRY);
-            vv2lit[vid] = map;
-        }
-
-        int pos;
-        if ((pos = var2pos[vid]) == NO_ENTRY) {
-            if (initialized) {
-                addVariable(ivar);
-                pos = vars.length - 1;
-            } else {
-                add_var.add(ivar);
-                pos = add_var.size() - 1;
-            }
-            var2pos[vid] = pos;
-        }
-        long lvalue = eq ? value : leq(value);
-        if ((var = map.get(lvalue)) == NO_ENTRY) {
-            var = sat_.newVariable();
-            map.put(lvalue, var);
-            if (var >= lit2pos.length) {
-                int[] itmp = lit2pos;
-                lit2pos = new int[var + 1];
-                System.arraycopy(itmp, 0, lit2pos, 0, itmp.length);
-                Arrays.fill(lit2pos, itmp.length, var + 1, NO_ENTRY);
-
-                long[] ltmp = lit2val;
-                lit2val = new long[var + 1];
-                System.arraycopy(ltmp, 0, lit2val, 0, ltmp.length);
-                Arrays.fill(lit2val, ltmp.length, var + 1, NO_ENTRY);
-            }
-
-
-            lit2pos[var] = pos;
-            lit2val[var] = lvalue;
-        }
-        return makeLiteral(var, true);
+        return Literal(ivar, ivar.getLB(), ivar.getUB(), value, eq);
     }
 
     /**
@@ -469,57 +460,154 @@ public class PropNogoods extends Propagator<Variable> {
      * @return the literal corresponding to <code>value</code> (<code>in</code>?"&isin;":"&notin;") <code>svar</code>
      */
     public int Literal(SetVar svar, int value, boolean in) {
-        // TODO: deal with BoolVar
-        int vid = svar.getId();
-        int var;
-        TLongIntHashMap map;
+        int lb = svar.getUB().isEmpty() ? value : svar.getUB().min();
+        int ub = svar.getUB().isEmpty() ? value : svar.getUB().max();
+        return Literal(svar, lb, ub, value, in);
+    }
+
+    /**
+     * Creates or returns if already existing, the literal corresponding to
+     * <code>avar</code> (<code>eq</code>?"=":"<=") <code>value</code>.
+     * When no literal has been declared yet for <code>avar</code>, its dense table is allocated
+     * to cover [<code>lb</code>, <code>ub</code>] (if that span is not too large).
+     *
+     * @param avar  a variable
+     * @param lb    smallest value the table of <code>avar</code> should cover
+     * @param ub    largest value the table of <code>avar</code> should cover
+     * @param value a value
+     * @param eq    set to <tt>true</tt> to select "=", to <tt>false</tt> to select "<=".
+     * @return the literal corresponding to <code>avar</code> (<code>eq</code>?"=":"<=") <code>value</code>
+     */
+    private int Literal(Variable avar, int lb, int ub, int value, boolean eq) {
+        int vid = avar.getId();
         if (vid >= vv2lit.length) {
-            TLongIntHashMap[] tmp = vv2lit;
-            vv2lit = new TLongIntHashMap[vid + 1];
-            System.arraycopy(tmp, 0, vv2lit, 0, tmp.length);
+            int n = Math.max(vid + 1, vv2lit.length * 3 / 2 + 1);
+            vv2lit = Arrays.copyOf(vv2lit, n);
+            vv2map = Arrays.copyOf(vv2map, n);
+            offsets = Arrays.copyOf(offsets, n);
+            var2lits = Arrays.copyOf(var2lits, n);
 
             int[] tmpi = var2pos;
-            var2pos = new int[vid + 1];
-            System.arraycopy(tmpi, 0, var2pos, 0, tmpi.length);
-            Arrays.fill(var2pos, tmpi.length, vid + 1, NO_ENTRY);
+            var2pos = Arrays.copyOf(tmpi, n);
+            Arrays.fill(var2pos, tmpi.length, n, NO_ENTRY);
         }
-        if ((map = vv2lit[vid]) == null) {
-            map = new TLongIntHashMap(16, .5f, NO_ENTRY, NO_ENTRY);
-            vv2lit[vid] = map;
+        int[] table = vv2lit[vid];
+        if (vv2map[vid] != null) {
+            table = null;
+        } else if (table == null) {
+            if ((long) ub - lb >= MAX_INIT_TABLE_SIZE || value < lb || value > ub) {
+                lb = ub = value;
+            }
+            table = new int[2 * (ub - lb + 1)];
+            Arrays.fill(table, NO_ENTRY);
+            vv2lit[vid] = table;
+            offsets[vid] = lb;
+            var2lits[vid] = new TIntArrayList();
+        } else if (value < offsets[vid] || value >= offsets[vid] + table.length / 2) {
+            table = growTable(vid, value);
         }
 
         int pos;
         if ((pos = var2pos[vid]) == NO_ENTRY) {
             if (initialized) {
-                addVariable(svar);
+                addVariable(avar);
                 pos = vars.length - 1;
             } else {
-                add_var.add(svar);
+                add_var.add(avar);
                 pos = add_var.size() - 1;
             }
             var2pos[vid] = pos;
         }
-        long lvalue = in ? value : leq(value);
-        if ((var = map.get(lvalue)) == NO_ENTRY) {
-            var = sat_.newVariable();
-            map.put(lvalue, var);
-            if (var >= lit2pos.length) {
-                int[] itmp = lit2pos;
-                lit2pos = new int[var + 1];
-                System.arraycopy(itmp, 0, lit2pos, 0, itmp.length);
-                Arrays.fill(lit2pos, itmp.length, var + 1, NO_ENTRY);
-
-                long[] ltmp = lit2val;
-                lit2val = new long[var + 1];
-                System.arraycopy(ltmp, 0, lit2val, 0, ltmp.length);
-                Arrays.fill(lit2val, ltmp.length, var + 1, NO_ENTRY);
+        int var;
+        if (table == null) {
+            TLongIntHashMap map = vv2map[vid];
+            long key = eq ? value : leq(value);
+            if ((var = map.get(key)) == NO_ENTRY) {
+                var = newLiteral(vid, pos, value, eq);
+                map.put(key, var);
             }
+        } else {
+            int idx = 2 * (value - offsets[vid]) + (eq ? 0 : 1);
+            if ((var = table[idx]) == NO_ENTRY) {
+                var = newLiteral(vid, pos, value, eq);
+                table[idx] = var;
+            }
+        }
+        return makeLiteral(var, true);
+    }
 
+    /**
+     * Creates a new literal for <i>vid</i> (<code>eq</code>?"=":"<=") <code>value</code>.
+     *
+     * @param vid   id of the variable
+     * @param pos   position of the variable
+     * @param value a value
+     * @param eq    set to <tt>true</tt> to select "=", to <tt>false</tt> to select "<=".
+     * @return the new SAT variable
+     */
+    private int newLiteral(int vid, int pos, int value, boolean eq) {
+        int var = sat_.newVariable();
+        var2lits[vid].add(var);
+        if (var >= lit2pos.length) {
+            int n = Math.max(var + 1, lit2pos.length * 3 / 2 + 1);
+            int[] itmp = lit2pos;
+            lit2pos = Arrays.copyOf(itmp, n);
+            Arrays.fill(lit2pos, itmp.length, n, NO_ENTRY);
+
+            long[] ltmp = lit2val;
+            lit2val = Arrays.copyOf(ltmp, n);
+            Arrays.fill(lit2val, ltmp.length, n, NO_ENTRY);
+        }
+        lit2pos[var] = pos;
+        lit2val[var] = eq ? value : leq(value);
+        return var;
+    }
 
-            lit2pos[var] = pos;
-            lit2val[var] = lvalue;
+    /**
+     * Extends the dense literal table of a variable to make it cover <i>value</i>.
+     * The span covered is, at least, doubled to amortize successive extensions.
+     * If the span would exceed {@link #MAX_TABLE_SIZE}, the literals are moved to a hash map
+     * and <tt>null</tt> is returned.
+     *
+     * @param vid   id of the variable
+     * @param value value to cover
+     * @return the new table, or <tt>null</tt> if literals are now stored in {@link #vv2map}
+     */
+    private int[] growTable(int vid, int value) {
+        int[] table = vv2lit[vid];
+        long size = table.length / 2;
+        long lb = offsets[vid];
+        long ub = lb + size - 1;
+        if (Math.max(ub, value) - Math.min(lb, value) + 1 > MAX_TABLE_SIZE) {
+            TLongIntHashMap map = new TLongIntHashMap(16, .5f, NO_ENTRY, NO_ENTRY);
+            TIntArrayList lits = var2lits[vid];
+            for (int i = 0; i < lits.size(); i++) {
+                int lit = lits.getQuick(i);
+                map.put(lit2val[lit], lit);
+            }
+            vv2map[vid] = map;
+            vv2lit[vid] = null;
+            return null;
         }
-        return makeLiteral(var, true);
+        if (value < lb) {
+            lb = Math.max(Integer.MIN_VALUE, Math.min(value, lb - size));
+        } else {
+            ub = Math.min(Integer.MAX_VALUE, Math.max(value, ub + size));
+        }
+        if (ub - lb + 1 > MAX_TABLE_SIZE) {
+            // do not double beyond the cap, the requested value is covered anyway
+            if (value < offsets[vid]) {
+                lb = Math.max(lb, ub - MAX_TABLE_SIZE + 1);
+            } else {
+                ub = Math.min(ub, lb + MAX_TABLE_SIZE - 1);
+            }
+        }
+        int[] ntable = new int[(int) (2 * (ub - lb + 1))];
+        Arrays.fill(ntable, NO_ENTRY);
+        System.arraycopy(table, 0, ntable, (int) (2 * (offsets[vid] - lb)), table.length);
+        vv2lit[vid] = ntable;
+        offsets[vid] = (int) lb;
+        return ntable;
     }
 
     /**
@@ -707,33 +795,200 @@ public class PropNogoods extends Propagator<Variable> {
      * @param lits clause
      */
     public void addLearnt(int... lits) {
+        int first = sat_.nLearnt();
         sat_.learnClause(lits);
         // early deductions of learnt clause may lead to incorrect behavior on backtrack
         // since early deduction is not backtrackable.
         forcePropagationOnBacktrack(); // issue#327
-        // compare the current clauses with the previous stored one,
-        // just in case the current one dominates the previous none
-        if (sat_.nLearnt() > 1) {
-            Clause last = sat_.learnts.get(sat_.learnts.size() - 1);
+        removeDominated(first);
+    }
+
+    /**
+     * Add a batch of learnt clauses to no-goods store.
+     * Equivalent to calling {@link #addLearnt(int...)} for each clause, but the propagator
+     * is scheduled for propagation on backtrack only once.
+     *
+     * @param clauses learnt clauses
+     */
+    public void addLearnts(List<int[]> clauses) {
+        if (clauses.isEmpty()) {
+            return;
+        }
+        int first = sat_.nLearnt();
+        for (int i = 0; i < clauses.size(); i++) {
+            sat_.learnClause(clauses.get(i));
+        }
+        forcePropagationOnBacktrack(); // issue#327
+        removeDominated(first);
+    }
+
+    /**
+     * Compare each learnt clause stored from position <i>first</i> with the previous stored ones,
+     * just in case the former dominates the latter.
+     *
+     * @param first position of the first clause to compare
+     */
+    private void removeDominated(int first) {
+        for (int j = Math.max(first, 1); j < sat_.nLearnt(); j++) {
+            Clause last = sat_.learnts.get(j);
+            if (last.size() < 2) {
+                continue;
+            }
             test_eq.clear();
             for (int i = last.size() - 1; i >= 0; i--) {
                 test_eq.set(last._g(i));
             }
-            for (int c = sat_.learnts.size() - 2; c >= 0; c--) {
-                int s = test_eq.cardinality();
+            int card = test_eq.cardinality();
+            for (int c = j - 1; c >= 0; c--) {
+                int s = card;
                 Clause prev = sat_.learnts.get(c);
-                if (last.size() > 1 && last.size() < prev.size()) {
+                if (last.size() < prev.size()) {
                     for (int i = prev.size() - 1; i >= 0; i--) {
                         s -= test_eq.get(prev._g(i)) ? 1 : 0;
                     }
                     if (s == 0) { // then last dominates prev
                         sat_.detachLearnt(c);
+                        j--;
                     }
                 }
             }
         }
     }
 
+    /**
+     * Simplify the learnt no-goods of the underlying SAT solver, at decision level 0.
+     * <ol>
+     *     <li>vivification: each learnt no-good is detached, then the negation of its literals are
+     *     propagated one after the other. As soon as a failure occurs, or a literal of the no-good is
+     *     implied, the remaining literals are useless and the no-good is strengthened,</li>
+     *     <li>deduplication and subsumption: a learnt no-good that includes another one is removed
+     *     from the store.</li>
+     * </ol>
+     * Simplification stops as soon as <i>deadline</i> is reached.
+     * It is expected to be called at root node, before any propagation, typically on restart.
+     *
+     * @param deadline time limit, as given by {@link System#nanoTime()}
+     */
+    public void simplify(long deadline) {
+        if (!sat_.ok_ || sat_.nLearnt() == 0) {
+            return;
+        }
+        // unit no-goods learnt since the last propagation are pending, they must not be lost
+        storeEarlyDeductions();
+        sat_.cancelUntil(0);
+        // the SAT solver is now out of sync with the CP domains, this is restored on next propagation
+        forcePropagationOnBacktrack();
+        vivify(sat_.nLearnt(), deadline);
+        removeSubsumed(deadline);
+    }
+
+    /**
+     * Vivify the <i>n</i> oldest learnt no-goods.
+     * Each of them is detached then learnt again, possibly shortened, at the end of the learnts list.
+     * @param n number of learnt no-goods to vivify
+     * @param deadline time limit, as given by {@link System#nanoTime()}
+     */
+    private void vivify(int n, long deadline) {
+        int[] lits = new int[16];
+        for (int c = 0; c < n && System.nanoTime() < deadline; c++) {
+            Clause cl = sat_.learnts.get(0);
+            int size = cl.size();
+            if (size > lits.length) {
+                lits = new int[size];
+            }
+            for (int i = 0; i < size; i++) {
+                lits[i] = cl._g(i);
+            }
+            sat_.detachLearnt(0);
+            int k = 0;
+            boolean ok = true;
+            while (k < size && ok) {
+                ok = sat_.propagateOneLiteral(negated(lits[k++]));
+            }
+            sat_.cancelUntil(0);
+            sat_.touched_variables_.resetQuick();
+            sat_.learnClause(Arrays.copyOf(lits, k));
+            if (k == 1) {
+                // a unit no-good is not stored in the SAT solver, it is an early deduction
+                storeEarlyDeductions();
+            }
+        }
+    }
+
+    /**
+     * Remove learnt no-goods which include (or are equal to) another learnt no-good.
+     * @param deadline time limit, as given by {@link System#nanoTime()}
+     */
+    private void removeSubsumed(long deadline) {
+        int n = sat_.nLearnt();
+        int[][] lits = new int[n][];
+        TIntObjectHashMap<TIntList> occurrences = new TIntObjectHashMap<>();
+        for (int c = 0; c < n; c++) {
+            Clause cl = sat_.learnts.get(c);
+            lits[c] = new int[cl.size()];
+            for (int i = 0; i < cl.size(); i++) {
+                lits[c][i] = cl._g(i);
+                TIntList occ = occurrences.get(lits[c][i]);
+                if (occ == null) {
+                    occ = new TIntArrayList();
+                    occurrences.put(lits[c][i], occ);
+                }
+                occ.add(c);
+            }
+            Arrays.sort(lits[c]);
+        }
+        // smallest no-goods first, they are the most likely to subsume others
+        Integer[] order = new Integer[n];
+        for (int c = 0; c < n; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (c1, c2) -> lits[c1].length - lits[c2].length);
+        BitSet removed = new BitSet(n);
+        for (int o = 0; o < n && System.nanoTime() < deadline; o++) {
+            int c = order[o];
+            if (removed.get(c)) continue;
+            // only no-goods containing the least frequent literal of c need to be checked
+            TIntList occ = occurrences.get(lits[c][0]);
+            for (int i = 1; i < lits[c].length; i++) {
+                TIntList tmp = occurrences.get(lits[c][i]);
+                if (tmp.size() < occ.size()) {
+                    occ = tmp;
+                }
+            }
+            for (int i = 0; i < occ.size(); i++) {
+                int d = occ.get(i);
+                if (d != c && !removed.get(d) && isIncludedIn(lits[c], lits[d])) {
+                    removed.set(d);
+                }
+            }
+        }
+        for (int c = removed.previousSetBit(n - 1); c >= 0; c = removed.previousSetBit(c - 1)) {
+            sat_.detachLearnt(c);
+        }
+    }
+
+    /**
+     * @param a a sorted array of literals
+     * @param b another sorted array of literals
+     * @return <tt>true</tt> if all literals of <i>a</i> appear in <i>b</i>
+     */
+    private static boolean isIncludedIn(int[] a, int[] b) {
+        if (a.length > b.length) {
+            return false;
+        }
+        int j = 0;
+        for (int i = 0; i < a.length; i++) {
+            while (j < b.length && b[j] < a[i]) {
+                j++;
+            }
+            if (j == b.length || b[j] != a[i]) {
+                return false;
+            }
+            j++;
+        }
+        return true;
+    }
+
     private void storeEarlyDeductions() {
         for (int i = 0; i < sat_.touched_variables_.size(); ++i) {
             int lit = sat_.touched_variables_.get(i);
@@ -137,6 +137,7 @@ public class PropSat extends Propagator<BoolVar> {
             }
             boolean OK = clauseEntailed(sat_.clauses);
             OK &= clauseEntailed(sat_.learnts);
+            OK &= pseudoBooleanEntailed(sat_.pseudoBooleans);
             return ESat.eval(OK);
         }
         return ESat.UNDEFINED;
@@ -165,6 +166,24 @@ public class PropSat extends Propagator<BoolVar> {
         return true;
     }
 
+    /**
+     * Checks if all pseudo-Boolean constraints from <code>pbs</code> are satisfied
+     * @param pbs list of pseudo-Boolean constraints
+     * @return <tt>true</tt> if all pseudo-Boolean constraints are satisfied, <tt>false</tt> otherwise
+     */
+    private boolean pseudoBooleanEntailed(ArrayList<PseudoBoolean> pbs) {
+        int lit;
+        for (PseudoBoolean pb : pbs) {
+            long sum = 0;
+            for (int i = 0; i < pb.size(); i++) {
+                lit = pb._g(i);
+                if (vars[var(lit)].getValue() == (sign(lit) ? 1 : 0)) sum += pb.coeff(i); // if the lit is true
+            }
+            if (sum < pb.degree()) return false;
+        }
+        return true;
+    }
+
     /**
      * @return the underlying SAT solver
      */
@@ -287,6 +306,16 @@ public class PropSat extends Propagator<BoolVar> {
         return result;
     }
 
+    /**
+     * Simplify the clauses of the SAT solver, see {@link SatSolver#preprocess()}.
+     * Literals fixed on the way are applied on the next (coarse grain) propagation.
+     * Must be called before the initial propagation.
+     */
+    public void preprocess() {
+        sat_.preprocess();
+        storeEarlyDeductions();
+    }
+
     /**
      * Add learnt clause to SAT solver
      *
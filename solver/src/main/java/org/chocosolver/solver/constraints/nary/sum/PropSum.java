@@ -92,6 +92,10 @@ public class PropSum extends Propagator<IntVar> {
      */
     public PropSum(IntVar[] variables, int pos, Operator o, int b) {
         this(variables, pos, o, b, computePriority(variables.length), false);
+        // filtering on bounds reaches its fixpoint in one call, unless variables depend on each other
+        if (hasIndependentVariables()) {
+            declareIdempotence(true);
+        }
     }
 
 
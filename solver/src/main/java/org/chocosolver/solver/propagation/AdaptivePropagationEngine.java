@@ -0,0 +1,286 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.view.IView;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A propagation engine which schedules propagators wrt their observed behaviour,
+ * instead of their declared priority.
+ * <p>
+ * For each propagator, the engine measures the time spent per revision and the rate of revisions
+ * which are effective, that is, which filter a domain or fail.
+ * Both are exponential moving averages.
+ * Once a propagator has been revised a few times, it is scheduled in the queue matching
+ * its expected cost per effective revision, in a logarithmic scale:
+ * cheap and effective propagators are revised first.
+ * <p>
+ * In weak fixpoint mode, below a given depth, expensive propagators (see
+ * {@link #AdaptivePropagationEngine(Model, int, double)}) which rarely filter are not revised,
+ * but from time to time, to keep on measuring their effectiveness.
+ * Only propagators which do not react on fine events are skipped, so that no incremental
+ * data structure misses an event.
+ * Only propagators whose variables are all decision variables of the search strategy (or views
+ * over them) are skipped, and never when all their variables are instantiated: so, once no
+ * decision variable is free, every propagator is revised and solutions are still checked,
+ * including the ones on auxiliary and objective variables, which are never branched on.
+ * The fixpoint reached is then weaker, but the search remains correct.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class AdaptivePropagationEngine extends PropagationEngine {
+
+    /**
+     * Number of revisions before relying on measures
+     */
+    private static final int WARMUP = 8;
+    /**
+     * A skipped propagator is revised once every PROBE times
+     */
+    private static final int PROBE = 16;
+    /**
+     * Average time, in nanoseconds, from which a propagator is considered as expensive
+     */
+    private static final double EXPENSIVE = 10_000;
+    /**
+     * Weight of the last revision in moving averages
+     */
+    private static final double ALPHA = .1;
+    /**
+     * The model declaring this engine
+     */
+    private final Model model;
+    /**
+     * Depth from which expensive propagators may be skipped, -1 to disable the weak mode
+     */
+    private final int depth;
+    /**
+     * Effectiveness rate under which an expensive propagator may be skipped
+     */
+    private final double rate;
+    /**
+     * Average time spent per revision, in nanoseconds, given propagator id
+     */
+    private double[] costs;
+    /**
+     * Average rate of effective revisions, given propagator id
+     */
+    private double[] effects;
+    /**
+     * Number of revisions, given propagator id
+     */
+    private int[] revisions;
+    /**
+     * Queue to schedule each propagator in, given propagator id, 0 if not yet computed
+     */
+    private byte[] queues;
+    /**
+     * Number of revisions skipped, given propagator id
+     */
+    private int[] skipped;
+    /**
+     * Indicates if all variables of a propagator are decision variables, given propagator id:
+     * 0 if not yet computed, 1 if so, 2 otherwise
+     */
+    private byte[] scopes;
+    /**
+     * Ids of the decision variables of {@link #strategy}
+     */
+    private BitSet decisions;
+    /**
+     * The search strategy {@link #decisions} and {@link #scopes} are computed from
+     */
+    private AbstractStrategy<?> strategy;
+    /**
+     * The propagator under revision
+     */
+    private Propagator revised;
+    /**
+     * Set to <tt>true</tt> when {@link #revised} modifies a variable
+     */
+    private boolean effective;
+    /**
+     * Number of revisions skipped
+     */
+    private long skips;
+
+    /**
+     * Create an adaptive propagation engine which always reaches the fixpoint
+     *
+     * @param model the declaring model
+     */
+    public AdaptivePropagationEngine(Model model) {
+        this(model, -1, 0.);
+    }
+
+    /**
+     * Create an adaptive propagation engine with weak fixpoint.
+     * Below <i>depth</i>, a propagator whose priority is at least
+     * {@link PropagatorPriority#QUADRATIC} or whose revisions last 10 microseconds on average,
+     * and which is effective less than <i>rate</i> of the time, is not revised.
+     *
+     * @param model the declaring model
+     * @param depth depth from which expensive propagators may be skipped, -1 to always reach
+     *              the fixpoint
+     * @param rate  effectiveness rate, in [0,1], under which an expensive propagator is skipped
+     */
+    public AdaptivePropagationEngine(Model model, int depth, double rate) {
+        super(model);
+        this.model = model;
+        this.depth = depth;
+        this.rate = rate;
+        this.costs = new double[16];
+        this.effects = new double[16];
+        this.revisions = new int[16];
+        this.queues = new byte[16];
+        this.skipped = new int[16];
+        this.scopes = new byte[16];
+    }
+
+    @Override
+    public void schedule(Propagator prop, int pindice, int mask) {
+        int id = prop.getId();
+        int q = id < queues.length ? queues[id] : 0;
+        schedule(prop, pindice, mask, q > 0 ? q : prop.getPriority().priority);
+    }
+
+    @Override
+    void revise(Propagator propagator) throws ContradictionException {
+        if (skip(propagator)) {
+            propagator.doFlush();
+            skips++;
+            return;
+        }
+        revised = propagator;
+        effective = false;
+        boolean failed = true;
+        long time = System.nanoTime();
+        try {
+            super.revise(propagator);
+            failed = false;
+        } finally {
+            record(propagator, System.nanoTime() - time, failed || effective);
+            revised = null;
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        if (cause == revised) {
+            effective = true;
+        }
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    /**
+     * @return number of revisions skipped in weak fixpoint mode
+     */
+    public long getSkipCount() {
+        return skips;
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return the queue the propagator is scheduled in, in [1,7]
+     */
+    public int getQueue(Propagator propagator) {
+        int id = propagator.getId();
+        return id < queues.length && queues[id] > 0 ? queues[id] : propagator.getPriority().priority;
+    }
+
+    private boolean skip(Propagator propagator) {
+        if (depth < 0 || propagator.reactToFineEvent()) {
+            return false;
+        }
+        int id = propagator.getId();
+        return id < revisions.length
+                && revisions[id] >= WARMUP
+                && effects[id] < rate
+                && (propagator.getPriority().priority >= PropagatorPriority.QUADRATIC.priority
+                || costs[id] >= EXPENSIVE)
+                && model.getSolver().getDecisionPath().size() > depth
+                && !propagator.isCompletelyInstantiated()
+                && onDecisionVariablesOnly(propagator)
+                && ++skipped[id] % PROBE != 0; // revise it from time to time to update measures
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return <tt>true</tt> if all variables of <i>propagator</i> are decision variables
+     * of the current search strategy, or views over them
+     */
+    private boolean onDecisionVariablesOnly(Propagator propagator) {
+        AbstractStrategy<?> search = model.getSolver().getSearch();
+        if (search != strategy) {
+            strategy = search;
+            decisions = new BitSet();
+            if (search != null) {
+                for (Variable var : search.getVariables()) {
+                    decisions.set(var.getId());
+                }
+            }
+            Arrays.fill(scopes, (byte) 0);
+        }
+        int id = propagator.getId();
+        if (scopes[id] == 0) {
+            scopes[id] = 1;
+            for (int i = 0; i < propagator.getNbVars(); i++) {
+                Variable var = propagator.getVar(i);
+                while (var instanceof IView) {
+                    var = ((IView) var).getVariable();
+                }
+                if (!decisions.get(var.getId())) {
+                    scopes[id] = 2;
+                    break;
+                }
+            }
+        }
+        return scopes[id] == 1;
+    }
+
+    private void record(Propagator propagator, long time, boolean effect) {
+        int id = propagator.getId();
+        if (id >= costs.length) {
+            int size = Math.max(id + 1, costs.length * 3 / 2);
+            costs = Arrays.copyOf(costs, size);
+            effects = Arrays.copyOf(effects, size);
+            revisions = Arrays.copyOf(revisions, size);
+            queues = Arrays.copyOf(queues, size);
+            skipped = Arrays.copyOf(skipped, size);
+            scopes = Arrays.copyOf(scopes, size);
+        }
+        if (revisions[id]++ == 0) {
+            costs[id] = time;
+            effects[id] = effect ? 1. : 0.;
+        } else {
+            costs[id] += ALPHA * (time - costs[id]);
+            effects[id] += ALPHA * ((effect ? 1. : 0.) - effects[id]);
+        }
+        if (revisions[id] >= WARMUP) {
+            // expected time per effective revision: 100ns -> 1, 1us -> 2, ..., 100ms -> 7
+            double expected = costs[id] / Math.max(effects[id], .01);
+            int q = (int) Math.floor(Math.log10(Math.max(expected, 1.))) - 1;
+            queues[id] = (byte) Math.max(1, Math.min(7, q));
+        }
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.trail.SynchronizedTrail;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.learn.AbstractEventObserver;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.solver.variables.view.IView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Predicate;
+
+/**
+ * A propagation engine which reaches the fixpoint of independent groups of propagators in
+ * parallel.
+ * <p>
+ * On {@link #initialize()}, the constraint graph is partitioned into connected components:
+ * two propagators are in the same component when they share a variable, directly or through
+ * views and tasks.
+ * Components are then dispatched into at most as many parts as the parallelism of the pool,
+ * the largest components first.
+ * Propagators declared as links (see {@link #ParallelPropagationEngine(Model, ForkJoinPool, Predicate)})
+ * and propagators added after initialization do not partition the graph:
+ * they are executed sequentially, by the calling thread, between two parallel rounds.
+ * So, parts only synchronize on the variables of the links.
+ * <p>
+ * Since the parts share no variable, the fixpoint reached does not depend on the threads
+ * interleaving.
+ * <p>
+ * Limitations:
+ * <ul>
+ *     <li>the environment has to be built with {@link org.chocosolver.memory.EnvironmentBuilder#synchronize()},
+ *     vectors of stored values are not supported (this engine refuses to start otherwise),</li>
+ *     <li>the propagation is sequential when explanations are enabled,</li>
+ *     <li>variable monitors have to be thread-safe,</li>
+ *     <li>each part fails with its own contradiction exception
+ *     (see {@link org.chocosolver.solver.Solver#setThreadContradictionException(ContradictionException)}),
+ *     when more than one part fails in a round, the contradiction of the first of them is thrown,</li>
+ *     <li>a propagator whose scope is modified during search should be declared as a link.</li>
+ * </ul>
+ * Running parts in parallel has a cost, this engine is relevant on models made of loosely
+ * coupled blocks of expensive propagators.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ParallelPropagationEngine extends PropagationEngine {
+
+    /**
+     * The model declaring this engine
+     */
+    private final Model model;
+    /**
+     * Pool in which parts are propagated
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Propagators which link components and are executed sequentially
+     */
+    private final Predicate<Propagator> link;
+    /**
+     * The part propagated by the current thread, set during a round only
+     */
+    private final ThreadLocal<Part> current;
+    /**
+     * Parts of the constraint graph, <tt>null</tt> if propagation is sequential
+     */
+    private Part[] parts;
+    /**
+     * Index of the part of each propagator, given its id, -1 for links
+     */
+    private TIntIntHashMap groups;
+    /**
+     * Number of connected components
+     */
+    private int nbComponents;
+    /**
+     * Set to <tt>true</tt> while parts are propagated
+     */
+    private boolean running;
+
+    /**
+     * Create a parallel propagation engine which relies on the common pool
+     *
+     * @param model the declaring model
+     */
+    public ParallelPropagationEngine(Model model) {
+        this(model, ForkJoinPool.commonPool(), p -> false);
+    }
+
+    /**
+     * Create a parallel propagation engine
+     *
+     * @param model the declaring model
+     * @param pool  pool in which parts are propagated
+     * @param link  indicates propagators which link components and are executed sequentially
+     */
+    public ParallelPropagationEngine(Model model, ForkJoinPool pool, Predicate<Propagator> link) {
+        super(model);
+        this.model = model;
+        this.pool = pool;
+        this.link = link;
+        this.current = new ThreadLocal<>();
+    }
+
+    @Override
+    public void initialize() throws SolverException {
+        if (!isInitialized()) {
+            partition();
+            super.initialize();
+        }
+    }
+
+    /**
+     * @return the number of connected components propagated in parallel,
+     * 0 if propagation is sequential
+     */
+    public int getNbComponents() {
+        return nbComponents;
+    }
+
+    @Override
+    void awake(Propagator propagator) {
+        Part part = partOf(propagator);
+        if (part != null) {
+            part.awake(propagator);
+        } else {
+            super.awake(propagator);
+        }
+    }
+
+    @Override
+    public void propagate() throws ContradictionException {
+        if (parts == null) {
+            super.propagate();
+            return;
+        }
+        do {
+            super.propagate();
+            round();
+        } while (!isQuiet() || !partsAreQuiet());
+    }
+
+    private boolean partsAreQuiet() {
+        for (Part part : parts) {
+            if (!part.isQuiet()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Propagate the parts with pending events, in parallel, then forward events on links
+     *
+     * @throws ContradictionException if a part fails
+     */
+    private void round() throws ContradictionException {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        Part last = null;
+        for (Part part : parts) {
+            if (!part.isQuiet()) {
+                tasks.add(ForkJoinTask.adapt(part::run));
+                last = part;
+            }
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        running = true;
+        try {
+            if (tasks.size() == 1) {
+                last.run();
+            } else {
+                pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            }
+        } finally {
+            running = false;
+        }
+        for (Part part : parts) {
+            if (part.failure != null) {
+                ContradictionException failure = part.failure;
+                part.failure = null;
+                throw failure;
+            }
+        }
+        for (Part part : parts) {
+            part.forward();
+        }
+    }
+
+    @Override
+    public void execute(Propagator propagator) throws ContradictionException {
+        if (running) {
+            current.get().execute(propagator);
+        } else {
+            super.execute(propagator);
+        }
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        if (parts != null) {
+            for (Part part : parts) {
+                part.flush();
+                part.outbox.clear();
+                part.indices.resetQuick();
+                part.failure = null;
+            }
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        if (running) {
+            current.get().onVariableUpdate(variable, type, cause);
+        } else {
+            super.onVariableUpdate(variable, type, cause);
+        }
+    }
+
+    @Override
+    public long getCoalescedEventCount() {
+        long count = super.getCoalescedEventCount();
+        if (parts != null) {
+            for (Part part : parts) {
+                count += part.getCoalescedEventCount();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void schedule(Propagator prop, int pindice, int mask) {
+        if (running) {
+            current.get().schedule(prop, pindice, mask);
+        } else {
+            Part part = partOf(prop);
+            if (part != null) {
+                part.schedule(prop, pindice, mask);
+            } else {
+                super.schedule(prop, pindice, mask);
+            }
+        }
+    }
+
+    @Override
+    public void delayedPropagation(Propagator propagator, PropagatorEventType type) {
+        if (running) {
+            current.get().delayedPropagation(propagator, type);
+        } else {
+            super.delayedPropagation(propagator, type);
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        parts = null;
+        groups = null;
+        nbComponents = 0;
+    }
+
+    @Override
+    public void ignoreModifications() {
+        if (running) {
+            current.get().ignoreModifications();
+        } else {
+            super.ignoreModifications();
+        }
+    }
+
+    @Override
+    public synchronized void dynamicAddition(boolean permanent, Propagator... ps) throws SolverException {
+        super.dynamicAddition(permanent, ps);
+    }
+
+    @Override
+    public synchronized void propagateOnBacktrack(Propagator propagator) {
+        super.propagateOnBacktrack(propagator);
+    }
+
+    @Override
+    public synchronized void dynamicDeletion(Propagator... ps) {
+        super.dynamicDeletion(ps);
+    }
+
+    private Part partOf(Propagator propagator) {
+        if (parts == null) {
+            return null;
+        }
+        int g = groups.get(propagator.getId());
+        return g < 0 ? null : parts[g];
+    }
+
+    /**
+     * Partition the propagators into connected components, and dispatch them into parts
+     */
+    private void partition() {
+        parts = null;
+        groups = null;
+        nbComponents = 0;
+        List<Propagator> props = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator p : c.getPropagators()) {
+                if (p.getNbVars() > 0 && !link.test(p)) {
+                    props.add(p);
+                }
+            }
+        }
+        UnionFind uf = new UnionFind();
+        for (Propagator p : props) {
+            for (int i = 1; i < p.getNbVars(); i++) {
+                uf.union(p.getVar(0), p.getVar(i));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<Task> tasks = (List<Task>) model.getHook(Model.TASK_SET_HOOK_NAME);
+        if (tasks != null) {
+            for (Task t : tasks) {
+                uf.union(t.getStart(), t.getDuration());
+                uf.union(t.getStart(), t.getEnd());
+            }
+        }
+        // count propagators per component
+        TIntIntHashMap components = new TIntIntHashMap(16, .5f, -1, -1);
+        TIntArrayList sizes = new TIntArrayList();
+        int[] roots = new int[props.size()];
+        for (int i = 0; i < props.size(); i++) {
+            int r = uf.find(props.get(i).getVar(0));
+            int c = components.putIfAbsent(r, sizes.size());
+            if (c < 0) {
+                c = sizes.size();
+                sizes.add(0);
+            }
+            sizes.setQuick(c, sizes.getQuick(c) + 1);
+            roots[i] = c;
+        }
+        if (sizes.size() < 2
+                || model.getSolver().getEventObserver() != AbstractEventObserver.SILENT_OBSERVER) {
+            return;
+        }
+        if (!isSynchronized(model.getEnvironment())) {
+            throw new SolverException("ParallelPropagationEngine requires an environment " +
+                    "built with EnvironmentBuilder#synchronize()");
+        }
+        if (((EnvironmentTrailing) model.getEnvironment()).hasVectorTrail()) {
+            throw new SolverException("ParallelPropagationEngine does not support vectors of stored values, " +
+                    "as their trails are not synchronized");
+        }
+        // dispatch the largest components first, each in the least loaded part
+        Integer[] order = new Integer[sizes.size()];
+        for (int c = 0; c < order.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (c1, c2) -> Integer.compare(sizes.getQuick(c2), sizes.getQuick(c1)));
+        int k = Math.min(order.length, Math.max(1, pool.getParallelism()));
+        int[] loads = new int[k];
+        int[] dispatch = new int[order.length];
+        for (Integer c : order) {
+            int best = 0;
+            for (int j = 1; j < k; j++) {
+                if (loads[j] < loads[best]) {
+                    best = j;
+                }
+            }
+            loads[best] += sizes.getQuick(c);
+            dispatch[c] = best;
+        }
+        groups = new TIntIntHashMap(props.size(), .5f, -1, -1);
+        for (int i = 0; i < props.size(); i++) {
+            groups.put(props.get(i).getId(), dispatch[roots[i]]);
+        }
+        parts = new Part[k];
+        for (int j = 0; j < k; j++) {
+            parts[j] = new Part();
+        }
+        // variables are now modified by several threads at a time
+        model.synchronizeClock();
+        nbComponents = order.length;
+    }
+
+    private static boolean isSynchronized(IEnvironment environment) {
+        if (environment instanceof EnvironmentTrailing) {
+            EnvironmentTrailing env = (EnvironmentTrailing) environment;
+            return env.getIntTrail() instanceof SynchronizedTrail
+                    && env.getBoolTrail() instanceof SynchronizedTrail
+                    && env.getLongTrail() instanceof SynchronizedTrail
+                    && env.getDoubleTrail() instanceof SynchronizedTrail
+                    && env.getOperationTrail() instanceof SynchronizedTrail;
+        }
+        return false;
+    }
+
+    /**
+     * A part of the constraint graph, with its own queues.
+     * Events for propagators out of the part are stored, and forwarded at the end of the round.
+     */
+    private final class Part extends PropagationEngine {
+
+        /**
+         * Propagators out of this part to schedule
+         */
+        private final List<Propagator> outbox;
+        /**
+         * Index of the variable and mask of each event in {@link #outbox}
+         */
+        private final TIntArrayList indices;
+        /**
+         * Contradiction exception filled by the propagators of this part
+         */
+        private final ContradictionException exception;
+        /**
+         * The contradiction met during the last round, if any
+         */
+        private ContradictionException failure;
+
+        Part() {
+            super(model);
+            this.outbox = new ArrayList<>();
+            this.indices = new TIntArrayList();
+            this.exception = new ContradictionException();
+        }
+
+        void run() {
+            current.set(this);
+            model.getSolver().setThreadContradictionException(exception);
+            try {
+                propagate();
+            } catch (ContradictionException e) {
+                failure = e;
+            } finally {
+                model.getSolver().setThreadContradictionException(null);
+                current.remove();
+            }
+        }
+
+        @Override
+        public void schedule(Propagator prop, int pindice, int mask) {
+            if (partOf(prop) == this) {
+                super.schedule(prop, pindice, mask);
+            } else {
+                outbox.add(prop);
+                indices.add(pindice);
+                indices.add(mask);
+            }
+        }
+
+        /**
+         * Forward stored events to the engine
+         */
+        void forward() {
+            for (int i = 0; i < outbox.size(); i++) {
+                ParallelPropagationEngine.this.schedule(outbox.get(i),
+                        indices.getQuick(2 * i), indices.getQuick(2 * i + 1));
+            }
+            outbox.clear();
+            indices.resetQuick();
+        }
+    }
+
+    /**
+     * A union-find over variables, given their id
+     */
+    private static final class UnionFind {
+
+        private final TIntIntHashMap index = new TIntIntHashMap(16, .5f, -1, -1);
+        private final TIntArrayList parent = new TIntArrayList();
+
+        int find(Variable v) {
+            int i = index.get(v.getId());
+            if (i < 0) {
+                i = parent.size();
+                index.put(v.getId(), i);
+                parent.add(i);
+                if (v instanceof IView) {
+                    // a view shares its component with the variable it observes
+                    union(v, ((IView) v).getVariable());
+                    i = index.get(v.getId());
+                }
+            }
+            while (parent.getQuick(i) != i) {
+                parent.setQuick(i, parent.getQuick(parent.getQuick(i)));
+                i = parent.getQuick(i);
+            }
+            return i;
+        }
+
+        void union(Variable v, Variable w) {
+            int i = find(v);
+            int j = find(w);
+            if (i != j) {
+                parent.setQuick(Math.max(i, j), Math.min(i, j));
+            }
+        }
+    }
+}
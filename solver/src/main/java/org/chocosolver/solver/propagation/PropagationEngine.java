@@ -30,6 +30,8 @@ import java.util.function.Consumer;
  * This engine is priority-driven constraint-oriented seven queues engine.
  * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
  * one of the 7 queues wrt to its priority for future revision.
+ * Events of a variable are merged until the variable is processed, so that its propagators are
+ * scheduled once for all of them.
  * <p>
  * <br/>
  *
@@ -78,6 +80,14 @@ public class PropagationEngine {
      * PropagatorEventType's mask for delayed propagation
      */
     private int delayedPropagationType;
+    /**
+     * Number of variable updates merged with pending ones
+     */
+    private long coalesced;
+    /**
+     * Number of coarse propagations skipped since no variable changed
+     */
+    private long upToDate;
     /**
      * Set to <tt>true</tt> once {@link #initialize()} has been called.
      */
@@ -139,11 +149,27 @@ public class PropagationEngine {
             }
             for (int i = 0; i < propagators.size(); i++) {
                 propagators.get(i).setPosition(i);
-                awake_queue.addLast(propagators.get(i));
+                awake(propagators.get(i));
             }
         }
     }
 
+    /**
+     * Schedule a propagator for its initial propagation
+     *
+     * @param propagator a propagator to awake
+     */
+    void awake(Propagator propagator) {
+        awake_queue.addLast(propagator);
+    }
+
+    /**
+     * @return <tt>true</tt> if no propagator and no event is pending
+     */
+    boolean isQuiet() {
+        return notEmpty == 0 && var_queue.isEmpty() && awake_queue.isEmpty();
+    }
+
     /**
      * Is the engine initialized?
      * Important for dynamic addition of constraints
@@ -172,16 +198,7 @@ public class PropagationEngine {
                 }
                 // revision of the variable
                 lastProp.unschedule();
-                delayedPropagationType = 0;
-                if (lastProp.reactToFineEvent()) {
-                    lastProp.doFinePropagation();
-                    // now we can check whether a delayed propagation has been scheduled
-                    if (delayedPropagationType > 0) {
-                        lastProp.propagate(delayedPropagationType);
-                    }
-                } else if (lastProp.isActive()) { // need to be checked due to views
-                    lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
-                }
+                revise(lastProp);
                 if (hybrid < 0b01) {
                     manageModifications();
                 }
@@ -189,6 +206,35 @@ public class PropagationEngine {
         } while (!var_queue.isEmpty());
     }
 
+    /**
+     * Propagate a propagator popped from a queue
+     *
+     * @param propagator the propagator to propagate
+     * @throws ContradictionException if propagation fails
+     */
+    void revise(Propagator propagator) throws ContradictionException {
+        delayedPropagationType = 0;
+        if (propagator.reactToFineEvent()) {
+            propagator.doFinePropagation();
+            // now we can check whether a delayed propagation has been scheduled
+            if (delayedPropagationType > 0) {
+                propagator.propagate(delayedPropagationType);
+            }
+        } else if (propagator.isActive()) { // need to be checked due to views
+            if (propagator.isUpToDate()) {
+                upToDate++;
+            } else if (propagator.isIdempotent()) {
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+                // its own modifications are part of the fixpoint
+                propagator.watermark();
+            } else {
+                // its own modifications may trigger further filtering
+                propagator.watermark();
+                propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            }
+        }
+    }
+
     /**
      * Checks if some propagators were added or have to be propagated on backtrack
      * @throws ContradictionException if a propagation fails
@@ -214,6 +260,9 @@ public class PropagationEngine {
         }
         if (propagator.isActive()) {
             propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            if (propagator.isIdempotent()) {
+                propagator.watermark();
+            }
             while (!var_queue.isEmpty()) {
                 schedule(var_queue.pollFirst());
             }
@@ -270,10 +319,32 @@ public class PropagationEngine {
             }
             assert found : variable + " not in scope of " + cause;
         }
-        var_queue.addLast(variable);
+        if (variable.getCause() == null) {
+            // not yet in var_queue
+            var_queue.addLast(variable);
+        } else {
+            // events are merged with the pending ones, scheduled at once
+            coalesced++;
+        }
         variable.storeEvents(type.getMask(), cause);
     }
 
+    /**
+     * @return number of coarse propagations skipped because the propagator was idempotent
+     * and none of its variables changed since its last propagation
+     */
+    public long getUpToDateSkipCount() {
+        return upToDate;
+    }
+
+    /**
+     * @return number of variable updates merged with pending ones,
+     * that is, number of variable schedulings avoided
+     */
+    public long getCoalescedEventCount() {
+        return coalesced;
+    }
+
     private void schedule(Variable variable) {
         int mask = variable.getMask();
         if (mask > 0) {
@@ -289,7 +360,7 @@ public class PropagationEngine {
                 int t = variable.getDindex(si.next());
                 for (; p < t; p++) {
                     prop = vpropagators[p];
-                    if (prop.isActive() && cause != prop) {
+                    if (prop.isActive() && (cause != prop || !prop.isIdempotent())) {
                         schedule(prop, vindices[p], mask);
                     }
                 }
@@ -303,6 +374,21 @@ public class PropagationEngine {
         notEmpty |= (1 << prop.doSchedule(pro_queue));
     }
 
+    /**
+     * Schedule a propagator in a given queue, if it is not yet scheduled
+     *
+     * @param prop    a propagator
+     * @param pindice index of the modified variable in <i>prop</i>
+     * @param mask    type of modification event
+     * @param queue   index of the queue, in [0,7]
+     */
+    void schedule(Propagator prop, int pindice, int mask, int queue) {
+        prop.doScheduleEvent(pindice, mask);
+        if (!prop.isScheduled()) {
+            notEmpty |= (1 << prop.doSchedule(pro_queue, queue));
+        }
+    }
+
     /**
      * Exeucte a delayed propagator
      *
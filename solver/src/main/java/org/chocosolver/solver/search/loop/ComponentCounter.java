@@ -0,0 +1,279 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.IView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the solutions of a model by decomposing it into independent components.
+ * <p>
+ * At each node of a depth-first search, after propagation, the uninstantiated variables are
+ * partitioned into connected components: two variables are connected when they both appear,
+ * directly or through views, in a propagator which is not passive.
+ * Instantiated variables and passive propagators thus split the network.
+ * Each component is then enumerated independently and the number of solutions is the product
+ * of the components' counts.
+ * <p>
+ * All variables have to be integer variables (views excepted), every assignment of them
+ * satisfying the constraints is counted.
+ * The model is left in its initial state.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ComponentCounter {
+
+    /**
+     * The model to count solutions of
+     */
+    private final Model model;
+    /**
+     * Number of nodes explored during the last count
+     */
+    private long nodes;
+    /**
+     * Number of times the variables split into more than one component during the last count
+     */
+    private long splits;
+
+    /**
+     * Create a solution counter based on component decomposition
+     *
+     * @param model the model to count solutions of
+     */
+    public ComponentCounter(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * Count the solutions of the model.
+     *
+     * @return the number of solutions
+     * @throws SolverException     if the model contains variables which are not integer variables
+     * @throws ArithmeticException if the number of solutions overflows a long
+     */
+    public long count() {
+        List<IntVar> vars = new ArrayList<>();
+        for (Variable v : model.getVars()) {
+            if (v instanceof IView) {
+                continue;
+            }
+            if (!(v instanceof IntVar)) {
+                throw new SolverException("ComponentCounter only deals with integer variables, " +
+                        v.getName() + " is not");
+            }
+            vars.add((IntVar) v);
+        }
+        nodes = 0;
+        splits = 0;
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        boolean init = solver.getEngine().isInitialized();
+        long count = 0;
+        env.worldPush();
+        try {
+            solver.propagate();
+            count = count(vars.toArray(new IntVar[0]));
+        } catch (ContradictionException ignored) {
+        } finally {
+            env.worldPop();
+            if (!init) {
+                // the initial propagation has been undone
+                solver.getEngine().reset();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of nodes explored during the last count
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * @return the number of times the variables split into more than one component
+     * during the last count
+     */
+    public long getSplitCount() {
+        return splits;
+    }
+
+    /**
+     * Count the solutions of the sub-network defined by <i>vars</i>
+     */
+    private long count(IntVar[] vars) {
+        List<IntVar[]> components = components(vars);
+        if (components.size() > 1) {
+            splits++;
+        }
+        long count = 1;
+        for (int i = 0; i < components.size() && count > 0; i++) {
+            count = Math.multiplyExact(count, branch(components.get(i)));
+        }
+        return count;
+    }
+
+    /**
+     * Enumerate the values of the variable with the smallest domain in <i>component</i>
+     */
+    private long branch(IntVar[] component) {
+        IntVar var = component[0];
+        for (int i = 1; i < component.length; i++) {
+            if (component[i].getDomainSize() < var.getDomainSize()) {
+                var = component[i];
+            }
+        }
+        IEnvironment env = model.getEnvironment();
+        long count = 0;
+        int ub = var.getUB();
+        for (int v = var.getLB(); v <= ub; v = var.nextValue(v)) {
+            nodes++;
+            env.worldPush();
+            try {
+                var.instantiateTo(v, Cause.Null);
+                model.getSolver().propagate();
+                count = Math.addExact(count, count(component));
+            } catch (ContradictionException ignored) {
+            }
+            env.worldPop();
+        }
+        return count;
+    }
+
+    /**
+     * Compute the connected components of the uninstantiated variables of <i>vars</i>,
+     * with respect to propagators which are not passive.
+     *
+     * @param vars variables to partition, views excluded
+     * @return the connected components, an empty list if all variables are instantiated
+     */
+    public List<IntVar[]> components(IntVar[] vars) {
+        TIntIntHashMap index = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        int[] parent = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                index.put(vars[i].getId(), i);
+            }
+            parent[i] = i;
+        }
+        TIntHashSet visited = new TIntHashSet();
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                connect(vars[i], index, parent, visited);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        List<Task> tasks = (List<Task>) model.getHook(Model.TASK_SET_HOOK_NAME);
+        if (tasks != null) {
+            for (Task t : tasks) {
+                int s = index.get(base(t.getStart()).getId());
+                int d = index.get(base(t.getDuration()).getId());
+                int e = index.get(base(t.getEnd()).getId());
+                union(parent, s, d);
+                union(parent, s, e);
+                union(parent, d, e);
+            }
+        }
+        TIntIntHashMap roots = new TIntIntHashMap(16, .5f, -1, -1);
+        List<TIntArrayList> members = new ArrayList<>();
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                int r = find(parent, i);
+                int c = roots.putIfAbsent(r, members.size());
+                if (c < 0) {
+                    c = members.size();
+                    members.add(new TIntArrayList());
+                }
+                members.get(c).add(i);
+            }
+        }
+        List<IntVar[]> components = new ArrayList<>(members.size());
+        for (TIntArrayList m : members) {
+            IntVar[] component = new IntVar[m.size()];
+            for (int j = 0; j < m.size(); j++) {
+                component[j] = vars[m.getQuick(j)];
+            }
+            components.add(component);
+        }
+        return components;
+    }
+
+    /**
+     * Connect the variables of the non-passive propagators of <i>var</i> and of its views
+     */
+    private static void connect(Variable var, TIntIntHashMap index, int[] parent, TIntHashSet visited) {
+        for (int p = 0; p < var.getNbProps(); p++) {
+            Propagator<?> prop = var.getPropagator(p);
+            if (!prop.isPassive() && visited.add(prop.getId())) {
+                int first = -1;
+                for (int j = 0; j < prop.getNbVars(); j++) {
+                    int k = index.get(base(prop.getVar(j)).getId());
+                    if (k > -1) {
+                        if (first < 0) {
+                            first = k;
+                        } else {
+                            union(parent, first, k);
+                        }
+                    }
+                }
+            }
+        }
+        for (int v = 0; v < var.getNbViews(); v++) {
+            connect(var.getView(v), index, parent, visited);
+        }
+    }
+
+    /**
+     * @return the variable observed by <i>var</i>, through views
+     */
+    private static Variable base(Variable var) {
+        while (var instanceof IView) {
+            var = ((IView) var).getVariable();
+        }
+        return var;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int i, int j) {
+        if (i > -1 && j > -1) {
+            int ri = find(parent, i);
+            int rj = find(parent, j);
+            if (ri != rj) {
+                parent[Math.max(ri, rj)] = Math.min(ri, rj);
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ package org.chocosolver.solver.search.loop.lns;
 import org.chocosolver.solver.search.loop.lns.neighbors.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
 
 /**
  * Factory to creates INeighbor objects that configures LNS
@@ -91,6 +92,69 @@ public class INeighborFactory {
         return new ReversePropagationGuidedNeighborhood(vars, 0, 30, seed);
     }
 
+    /**
+     * Create an objective-guided neighborhood relaxing the terms of a scalar objective
+     * with the worst contributions, that is the highest ones when minimizing
+     * and the lowest ones when maximizing
+     * @param coeffs   the coefficients of the scalar objective
+     * @param vars     the terms of the scalar objective
+     * @return an objective-guided neighborhood
+     */
+    public static IntNeighbor objectiveGuided(int[] coeffs, IntVar... vars) {
+        return objectiveGuided(0, coeffs, vars);
+    }
+
+    /**
+     * Create an objective-guided neighborhood relaxing the terms of a scalar objective
+     * with the worst contributions, that is the highest ones when minimizing
+     * and the lowest ones when maximizing
+     * @param seed     the seed for randomness
+     * @param coeffs   the coefficients of the scalar objective
+     * @param vars     the terms of the scalar objective
+     * @return an objective-guided neighborhood
+     */
+    public static IntNeighbor objectiveGuided(long seed, int[] coeffs, IntVar... vars) {
+        return new ObjectiveGuidedNeighborhood(vars, (i, v) -> coeffs[i] * v, .3, seed);
+    }
+
+    /**
+     * Create a neighborhood relaxing the tasks on a critical path of the last schedule
+     * @param tasks    the tasks, whose start variables are freezed
+     * @return a critical-path neighborhood
+     */
+    public static IntNeighbor criticalPath(Task... tasks) {
+        return criticalPath(0, tasks);
+    }
+
+    /**
+     * Create a neighborhood relaxing the tasks on a critical path of the last schedule
+     * @param seed     the seed for randomness
+     * @param tasks    the tasks, whose start variables are freezed
+     * @return a critical-path neighborhood
+     */
+    public static IntNeighbor criticalPath(long seed, Task... tasks) {
+        return new CriticalPathNeighborhood(tasks, .3, seed);
+    }
+
+    /**
+     * Create a neighborhood relaxing variables close to each other in the constraint graph
+     * @param vars     the pool of variables to be freezed
+     * @return a graph-distance neighborhood
+     */
+    public static IntNeighbor graphDistance(IntVar... vars) {
+        return graphDistance(0, vars);
+    }
+
+    /**
+     * Create a neighborhood relaxing variables close to each other in the constraint graph
+     * @param seed     the seed for randomness
+     * @param vars     the pool of variables to be freezed
+     * @return a graph-distance neighborhood
+     */
+    public static IntNeighbor graphDistance(long seed, IntVar... vars) {
+        return new GraphDistanceNeighborhood(vars, .3, seed);
+    }
+
     /**
      * Creates a composite INeighbor grouping a set of neighbors
      * @param neighbors a set of neighbors to be grouped
@@ -100,6 +164,17 @@ public class INeighborFactory {
         return new SequenceNeighborhood(neighbors);
     }
 
+    /**
+     * Creates a composite INeighbor selecting, before each LNS run, one of the neighbors with UCB1.
+     * A neighbor is rewarded by the improvement of the objective per nanosecond.
+     * @param objective the objective variable
+     * @param neighbors a set of neighbors to select among
+     * @return a composite INeighbor based on a multi-armed bandit
+     */
+    public static INeighbor bandit(IntVar objective, INeighbor... neighbors) {
+        return new BanditNeighborhood(objective, Math.sqrt(2), neighbors);
+    }
+
     /**
      * Creates a random neighborhood fixing a set variable randomly
      * @param setVar the set var to be freezed
@@ -0,0 +1,192 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A neighbor which is based on multiple neighbors, selected by a multi-armed bandit (UCB1).
+ * <p>
+ * Each call to {@link #fixSomeVariables()} pulls an arm, that is one of the neighbors.
+ * The pull ends when a solution is recorded or when the next arm is pulled.
+ * Its reward is the improvement of the objective divided by the time spent, in nanoseconds,
+ * normalized by the best rate observed so far.
+ * A pull that does not improve the objective is rewarded with 0.
+ * <p>
+ * The arm which maximizes <i>mean reward + c.sqrt(ln(pulls) / arm pulls)</i> is selected,
+ * arms never pulled being selected first.
+ * Each neighbor tunes its own relaxation, since {@link #restrictLess()} is only
+ * forwarded to the neighbor currently pulled.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class BanditNeighborhood implements INeighbor {
+
+    /**
+     * neighbors declared, the arms
+     */
+    private final INeighbor[] neighbors;
+    /**
+     * the objective variable
+     */
+    private final IntVar objective;
+    /**
+     * exploration factor
+     */
+    private final double c;
+    /**
+     * Number of times each neighbor was pulled
+     */
+    private final int[] pulls;
+    /**
+     * Sum of the improvement rates of each neighbor
+     */
+    private final double[] rates;
+    /**
+     * total number of pulls
+     */
+    private int total;
+    /**
+     * best improvement rate observed so far, used to normalize rewards
+     */
+    private double max;
+    /**
+     * neighbor currently pulled, -1 if none
+     */
+    private int who;
+    /**
+     * time when the current pull started
+     */
+    private long start;
+    /**
+     * objective value of the last solution recorded
+     */
+    private int last;
+    /**
+     * set to <tt>true</tt> when {@link #last} is known
+     */
+    private boolean known;
+
+    /**
+     * Create a neighbor which selects among <i>neighbors</i> with UCB1.
+     *
+     * @param objective the objective variable
+     * @param c         exploration factor, {@code Math.sqrt(2)} is a common choice
+     * @param neighbors neighbors to select among
+     */
+    public BanditNeighborhood(IntVar objective, double c, INeighbor... neighbors) {
+        this.objective = objective;
+        this.c = c;
+        this.neighbors = neighbors;
+        this.pulls = new int[neighbors.length];
+        this.rates = new double[neighbors.length];
+        this.who = -1;
+    }
+
+    @Override
+    public void recordSolution() {
+        int value = objective.getValue();
+        if (who > -1 && known) {
+            reward(Math.abs(value - last));
+        }
+        last = value;
+        known = true;
+        for (int i = 0; i < neighbors.length; i++) {
+            neighbors[i].recordSolution();
+        }
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        end();
+        known = false;
+        for (int i = 0; i < neighbors.length; i++) {
+            neighbors[i].loadFromSolution(solution);
+        }
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        end();
+        who = select();
+        pulls[who]++;
+        total++;
+        start = System.nanoTime();
+        neighbors[who].fixSomeVariables();
+    }
+
+    @Override
+    public void restrictLess() {
+        if (who > -1) {
+            neighbors[who].restrictLess();
+        }
+    }
+
+    @Override
+    public boolean isSearchComplete() {
+        boolean isComplete = false;
+        for (int i = 0; i < neighbors.length; i++) {
+            isComplete |= neighbors[i].isSearchComplete();
+        }
+        return isComplete;
+    }
+
+    @Override
+    public void init() {
+        for (int i = 0; i < neighbors.length; i++) {
+            neighbors[i].init();
+        }
+    }
+
+    /**
+     * @param i index of a neighbor
+     * @return number of times the i<sup>th</sup> neighbor was pulled
+     */
+    public int getPulls(int i) {
+        return pulls[i];
+    }
+
+    /**
+     * Ends the current pull, if any, with no improvement.
+     */
+    private void end() {
+        if (who > -1) {
+            reward(0);
+        }
+    }
+
+    private void reward(int improvement) {
+        double rate = improvement / (double) Math.max(1, System.nanoTime() - start);
+        rates[who] += rate;
+        max = Math.max(max, rate);
+        who = -1;
+    }
+
+    private int select() {
+        int best = 0;
+        double score = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < neighbors.length; i++) {
+            if (pulls[i] == 0) {
+                return i;
+            }
+            double s = (max > 0 ? rates[i] / (pulls[i] * max) : 0)
+                    + c * Math.sqrt(Math.log(total) / pulls[i]);
+            if (s > score) {
+                score = s;
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * A LNS dedicated to scheduling problems, which relaxes the tasks on a critical path of the last
+ * schedule.
+ * <p>
+ * A critical path is made of the tasks ending at the makespan and, recursively, of the tasks
+ * ending when a task of the path starts.
+ * If the critical path is smaller than the fragment, tasks are added randomly.
+ * Start variables of the other tasks are frozen.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class CriticalPathNeighborhood extends GrowingFragmentNeighbor {
+
+    /**
+     * The tasks
+     */
+    private final Task[] tasks;
+    /**
+     * End of each task in the last solution
+     */
+    private final int[] ends;
+    /**
+     * For randomness
+     */
+    private final Random rd;
+    /**
+     * Tasks on the critical path
+     */
+    private final BitSet critical;
+    /**
+     * Indicate which tasks are frozen
+     */
+    private final BitSet fragment;
+
+    /**
+     * Create a critical-path neighbor for LNS
+     *
+     * @param tasks set of tasks to consider
+     * @param ratio initial ratio of tasks to relax, in ]0,1]
+     * @param seed  for randomness
+     */
+    public CriticalPathNeighborhood(Task[] tasks, double ratio, long seed) {
+        super(starts(tasks), ratio);
+        this.tasks = tasks;
+        this.ends = new int[n];
+        this.rd = new Random(seed);
+        this.critical = new BitSet(n);
+        this.fragment = new BitSet(n);
+    }
+
+    private static IntVar[] starts(Task[] tasks) {
+        IntVar[] starts = new IntVar[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            starts[i] = tasks[i].getStart();
+        }
+        return starts;
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        for (int i = 0; i < n; i++) {
+            ends[i] = tasks[i].getEnd().getValue();
+        }
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        super.loadFromSolution(solution);
+        for (int i = 0; i < n; i++) {
+            ends[i] = solution.getIntVal(tasks[i].getEnd());
+        }
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        criticalPath();
+        fragment.set(0, n); // all tasks are frozen
+        int k = 0;
+        while (k < size && !critical.isEmpty()) {
+            int i = pick(critical);
+            critical.clear(i);
+            fragment.clear(i);
+            k++;
+        }
+        while (k < size && !fragment.isEmpty()) {
+            fragment.clear(pick(fragment));
+            k++;
+        }
+        for (int i = fragment.nextSetBit(0); i >= 0; i = fragment.nextSetBit(i + 1)) {
+            if (variables[i].contains(values[i])) {
+                freeze(i);
+            }
+        }
+    }
+
+    /**
+     * Compute the tasks on a critical path of the last solution
+     */
+    private void criticalPath() {
+        critical.clear();
+        int makespan = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            makespan = Math.max(makespan, ends[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            if (ends[i] == makespan) {
+                critical.set(i);
+            }
+        }
+        BitSet todo = (BitSet) critical.clone();
+        while (!todo.isEmpty()) {
+            int t = todo.nextSetBit(0);
+            todo.clear(t);
+            for (int u = 0; u < n; u++) {
+                if (!critical.get(u) && ends[u] == values[t]) {
+                    critical.set(u);
+                    todo.set(u);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param set a non-empty set of tasks
+     * @return a task picked randomly in <i>set</i>
+     */
+    private int pick(BitSet set) {
+        int cc = rd.nextInt(set.cardinality());
+        int id;
+        for (id = set.nextSetBit(0); id >= 0 && cc > 0; id = set.nextSetBit(id + 1)) {
+            cc--;
+        }
+        return id;
+    }
+}
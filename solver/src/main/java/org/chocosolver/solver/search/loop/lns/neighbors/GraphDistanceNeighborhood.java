@@ -0,0 +1,106 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * A LNS which relaxes variables close to each other in the constraint graph.
+ * <p>
+ * A variable is picked randomly, then variables are relaxed in breadth-first order over the
+ * constraint graph, where two variables are adjacent when they share a propagator.
+ * Variables out of the pool are crossed but not relaxed.
+ * Other variables of the pool are frozen.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class GraphDistanceNeighborhood extends GrowingFragmentNeighbor {
+
+    /**
+     * Position in {@link #variables} of each variable, given its id
+     */
+    private final TIntIntHashMap positions;
+    /**
+     * For randomness
+     */
+    private final Random rd;
+    /**
+     * Indicate which variables are frozen
+     */
+    private final BitSet fragment;
+
+    /**
+     * Create a graph-distance neighbor for LNS
+     *
+     * @param vars  set of variables to consider
+     * @param ratio initial ratio of variables to relax, in ]0,1]
+     * @param seed  for randomness
+     */
+    public GraphDistanceNeighborhood(IntVar[] vars, double ratio, long seed) {
+        super(vars, ratio);
+        this.positions = new TIntIntHashMap(n, .5f, -1, -1);
+        for (int i = 0; i < n; i++) {
+            positions.put(vars[i].getId(), i);
+        }
+        this.rd = new Random(seed);
+        this.fragment = new BitSet(n);
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        fragment.set(0, n); // all variables are frozen
+        TIntHashSet visited = new TIntHashSet();
+        ArrayDeque<Variable> queue = new ArrayDeque<>();
+        int k = 0;
+        while (k < size && !fragment.isEmpty()) {
+            if (queue.isEmpty()) {
+                // start from (or jump to) a random variable not relaxed yet
+                int cc = rd.nextInt(fragment.cardinality());
+                int id;
+                for (id = fragment.nextSetBit(0); id >= 0 && cc > 0; id = fragment.nextSetBit(id + 1)) {
+                    cc--;
+                }
+                visited.add(variables[id].getId());
+                queue.add(variables[id]);
+            }
+            Variable var = queue.poll();
+            int pos = positions.get(var.getId());
+            if (pos > -1 && fragment.get(pos)) {
+                fragment.clear(pos);
+                k++;
+            }
+            for (int p = 0; p < var.getNbProps(); p++) {
+                Propagator<?> prop = var.getPropagator(p);
+                for (int j = 0; j < prop.getNbVars(); j++) {
+                    Variable nxt = prop.getVar(j);
+                    if (visited.add(nxt.getId())) {
+                        queue.add(nxt);
+                    }
+                }
+            }
+        }
+        for (int i = fragment.nextSetBit(0); i >= 0; i = fragment.nextSetBit(i + 1)) {
+            if (variables[i].contains(values[i])) {
+                freeze(i);
+            }
+        }
+    }
+}
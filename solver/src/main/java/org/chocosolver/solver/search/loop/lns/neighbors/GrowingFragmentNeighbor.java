@@ -0,0 +1,67 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * An abstract neighbor which relaxes a number of variables that starts from a ratio of the
+ * variables, grows by 1% of them (at least one) on each call to {@link #restrictLess()},
+ * and is reset each time a solution is recorded.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public abstract class GrowingFragmentNeighbor extends IntNeighbor {
+
+    /**
+     * Number of variables
+     */
+    protected final int n;
+    /**
+     * Initial number of variables to relax
+     */
+    private final double desiredSize;
+    /**
+     * Current number of variables to relax
+     */
+    protected double size;
+
+    /**
+     * Create a neighbor which relaxes a growing number of variables
+     *
+     * @param vars  set of variables to consider
+     * @param ratio initial ratio of variables to relax, in ]0,1]
+     */
+    protected GrowingFragmentNeighbor(IntVar[] vars, double ratio) {
+        super(vars);
+        this.n = vars.length;
+        this.desiredSize = Math.max(1., ratio * n);
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        size = desiredSize;
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        super.loadFromSolution(solution);
+        size = desiredSize;
+    }
+
+    @Override
+    public void restrictLess() {
+        size = Math.min(n, size + Math.max(1., n / 100.));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * An objective-guided LNS, which relaxes the variables contributing the most to the objective.
+ * <p>
+ * The contribution of each variable is computed from its value in the last solution,
+ * for instance <i>c<sub>i</sub>.x<sub>i</sub></i> for a scalar objective.
+ * Variables are ranked by decreasing contribution (increasing when maximizing) and
+ * the variables to relax are drawn with a bias toward the worst ones,
+ * as in "An Adaptive Large Neighborhood Search Heuristic for the Pickup and Delivery Problem
+ * with Time Windows", Ropke and Pisinger, Transportation Science 2006.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ObjectiveGuidedNeighborhood extends GrowingFragmentNeighbor {
+
+    /**
+     * The higher, the more the worst variables are preferred
+     */
+    private static final double DETERMINISM = 3.;
+    /**
+     * Contribution of a variable to the objective, given its index and its value
+     */
+    private final IntBinaryOperator contribution;
+    /**
+     * Contribution of each variable in the last solution
+     */
+    private final int[] costs;
+    /**
+     * For randomness
+     */
+    private final Random rd;
+    /**
+     * Indicate which variables are frozen
+     */
+    private final BitSet fragment;
+
+    /**
+     * Create an objective-guided neighbor for LNS
+     *
+     * @param vars         set of variables to consider
+     * @param contribution contribution of a variable to the objective, given its index in
+     *                     <i>vars</i> and its value
+     * @param ratio        initial ratio of variables to relax, in ]0,1]
+     * @param seed         for randomness
+     */
+    public ObjectiveGuidedNeighborhood(IntVar[] vars, IntBinaryOperator contribution, double ratio, long seed) {
+        super(vars, ratio);
+        this.contribution = contribution;
+        this.costs = new int[n];
+        this.rd = new Random(seed);
+        this.fragment = new BitSet(n);
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        boolean maximize = variables[0].getModel().getSolver().getObjectiveManager()
+                .getPolicy() == ResolutionPolicy.MAXIMIZE;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            costs[i] = contribution.applyAsInt(i, values[i]);
+            if (maximize) {
+                costs[i] = -costs[i];
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> Integer.compare(costs[j], costs[i]));
+        List<Integer> ranked = new ArrayList<>(Arrays.asList(order));
+        fragment.set(0, n); // all variables are frozen
+        for (int k = 0; k < size && !ranked.isEmpty(); k++) {
+            int r = (int) (Math.pow(rd.nextDouble(), DETERMINISM) * ranked.size());
+            fragment.clear(ranked.remove(r));
+        }
+        for (int i = fragment.nextSetBit(0); i >= 0; i = fragment.nextSetBit(i + 1)) {
+            if (variables[i].contains(values[i])) {  // to deal with objective variable and related
+                freeze(i);
+            }
+        }
+    }
+}
@@ -25,6 +25,14 @@ public interface IMonitorRestart extends ISearchMonitor {
         // nothing to do by default
     }
 
+    /**
+     * Actions to execute once the search is back to the root node and before the root propagation,
+     * typically to simplify learnt constraints (inprocessing)
+     */
+    default void inprocess(){
+        // nothing to do by default
+    }
+
     /**
      * Actions to execute after restarting the search
      */
@@ -47,6 +47,18 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
      */
     default void setNoGoodRecordingFromRestarts() {
         ref().plugMonitor(new NogoodFromRestarts(ref().getModel()));
+        if (ref().getModel().getSettings().getTimeLimitForInprocessing() > 0) {
+            setInprocessingOnRestarts();
+        }
+    }
+
+    /**
+     * Simplify learnt no-goods and learnt signed clauses anytime the search restarts, that is,
+     * vivify, strengthen and deduplicate them, and remove useless ones.
+     * Each simplification is limited in time, see {@link org.chocosolver.solver.Settings#getTimeLimitForInprocessing()}.
+     */
+    default void setInprocessingOnRestarts() {
+        ref().plugMonitor(new NogoodInprocessing(ref().getModel()));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.loop.monitors;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import org.chocosolver.sat.SatSolver;
 import org.chocosolver.solver.Model;
@@ -46,6 +47,11 @@ public class NogoodFromRestarts implements IMonitorRestart {
     @SuppressWarnings("rawtypes")
     private ArrayDeque<Decision> decisions;
 
+    /**
+     * No-goods extracted from the decision path, added all at once to the store
+     */
+    private final ArrayList<int[]> nogoods;
+
     /**
      * The (unique) no-good store
      */
@@ -72,6 +78,7 @@ public class NogoodFromRestarts implements IMonitorRestart {
     public NogoodFromRestarts(Model model, NogoodStealer stealer) {
         this.png = model.getNogoodStore().getPropNogoods();
         this.decisions = new ArrayDeque<>(16);
+        this.nogoods = new ArrayList<>(16);
         this.nogoodStealer = stealer;
         this.nogoodStealer.add(model);
     }
@@ -98,13 +105,15 @@ public class NogoodFromRestarts implements IMonitorRestart {
             } else {
                 if (i == 0) {
                     // value can be removed permanently from var!
-                    png.addLearnt(lit);
+                    nogoods.add(new int[]{lit});
                 } else {
                     lits[i] = lit;
-                    png.addLearnt(Arrays.copyOf(lits, i + 1));
+                    nogoods.add(Arrays.copyOf(lits, i + 1));
                 }
             }
         }
+        png.addLearnts(nogoods);
+        nogoods.clear();
     }
 
     /**
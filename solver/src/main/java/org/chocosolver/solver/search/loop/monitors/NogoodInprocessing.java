@@ -0,0 +1,76 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
+import org.chocosolver.solver.constraints.nary.nogood.NogoodConstraint;
+import org.chocosolver.util.tools.TimeUtils;
+
+/**
+ * A monitor that simplifies, on each restart, the learnt no-goods stored in
+ * {@link org.chocosolver.solver.constraints.nary.sat.PropNogoods}
+ * and the learnt signed clauses stored in {@link org.chocosolver.solver.constraints.nary.clauses.ClauseStore}.
+ * <p>
+ * Simplification (vivification, strengthening, deduplication and removal of useless learnt constraints)
+ * is done once back to the root node, before the root propagation, and within a time limit.
+ * <br/>
+ * Beware :
+ * - Must be plugged as a monitor
+ * - Only stores already declared in the model are simplified, none is created
+ *
+ * @author agent
+ * @see org.chocosolver.solver.Settings#getTimeLimitForInprocessing()
+ * @since 19/10/2026
+ */
+public class NogoodInprocessing implements IMonitorRestart {
+
+    /**
+     * The model to observe
+     */
+    private final Model model;
+
+    /**
+     * Time limit, in nanoseconds, for each simplification
+     */
+    private final long timeLimit;
+
+    /**
+     * Simplify learnt constraints on each restart, for at most
+     * {@link org.chocosolver.solver.Settings#getTimeLimitForInprocessing()} milliseconds.
+     * @param model model to observe
+     */
+    public NogoodInprocessing(Model model) {
+        this(model, model.getSettings().getTimeLimitForInprocessing());
+    }
+
+    /**
+     * Simplify learnt constraints on each restart, for at most <i>timeLimit</i> milliseconds.
+     * @param model model to observe
+     * @param timeLimit time limit in milliseconds
+     */
+    public NogoodInprocessing(Model model, long timeLimit) {
+        this.model = model;
+        this.timeLimit = timeLimit * TimeUtils.MILLISECONDS_IN_NANOSECONDS;
+    }
+
+    @Override
+    public void inprocess() {
+        long deadline = System.nanoTime() + timeLimit;
+        NogoodConstraint ngc = (NogoodConstraint) model.getHook(Model.NOGOODS_HOOK_NAME);
+        if (ngc != null) {
+            ngc.getPropNogoods().simplify(deadline);
+        }
+        ClauseConstraint clc = (ClauseConstraint) model.getHook(Model.CLAUSES_HOOK_NAME);
+        if (clc != null) {
+            clc.getClauseStore().simplify(deadline);
+        }
+    }
+}
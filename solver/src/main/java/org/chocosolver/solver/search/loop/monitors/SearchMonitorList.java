@@ -142,6 +142,13 @@ public final class SearchMonitorList implements IMonitorClose, IMonitorContradic
         }
     }
 
+    @Override
+    public void inprocess() {
+        for (int i = 0; i < mrest.size(); i++) {
+            mrest.get(i).inprocess();
+        }
+    }
+
     @Override
     public void afterRestart() {
         for (int i = 0; i < mrest.size(); i++) {
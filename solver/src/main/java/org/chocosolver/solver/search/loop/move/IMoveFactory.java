@@ -16,10 +16,18 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.limits.SolutionCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainIncumbent;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDegCACD;
+import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.criteria.LongCriterion;
 
 /**
@@ -76,6 +84,24 @@ public interface IMoveFactory extends ISelf<Solver> {
         ref().setMove(new MoveBinaryHBFS(ref().getModel(), ref().getSearch(), a, b, N));
     }
 
+    /**
+     * Creates a move object based on:
+     * Hybrid Best-First Search[1] algorithms with binary integer decisions,
+     * whose open list is bounded in memory.
+     * <p>
+     * [1]:D. Allouche, S. de Givry, G. Katsirelos, T. Schiex, M. Zytnicki,
+     * Anytime Hybrid Best-First Search with Tree Decomposition for Weighted CSP, CP-2015.
+     *
+     * @param a               lower bound to limit the rate of redundantly propagated decisions
+     * @param b               upper bound to limit the rate of redundantly propagated decisions.
+     * @param N               backtrack limit for each DFS try, should be large enough to limit redundancy
+     * @param budget          maximum estimated size of the open list, in bytes
+     * @see MoveBinaryHBFSBounded
+     */
+    default void setHBFS(double a, double b, long N, long budget) {
+        ref().setMove(new MoveBinaryHBFSBounded(ref().getModel(), ref().getSearch(), a, b, N, budget));
+    }
+
     /**
      * Creates a Move object that encapsulates the current move within a restart move.
      * Every time the <code>restartCriterion</code> is met, a restart is done, the new restart limit is updated
@@ -202,4 +228,38 @@ public interface IMoveFactory extends ISelf<Solver> {
     default void setLNS(INeighbor neighbor) {
         setLNS(neighbor, ICounter.Impl.None, null);
     }
+
+    /**
+     * Configure a solution-guided search[1].
+     * Variables are selected by <code>varSelector</code> and are assigned to their value in the incumbent solution,
+     * if any and if it is still in domain, or to the value given by <code>valSelector</code> otherwise.
+     * The incumbent is updated on each solution.
+     * The search restarts on failures, following the cutoff sequence <code>restartStrategy</code>,
+     * in order to explore the neighborhood of the incumbent.
+     * <p>
+     * [1]: E. Demirovic, G. Chu, P.J. Stuckey, Solution-Based Phase Saving for CP: A Value-Selection Heuristic
+     * to Simulate Local Search Behavior in Complete Solvers, CP-18.
+     *
+     * @param varSelector     the variable selector
+     * @param valSelector     the value selector to fall back on
+     * @param restartStrategy the cutoff sequence of restarts, based on the number of failures
+     *                        (for instance, {@link LubyCutoffStrategy} or {@link GeometricalCutoffStrategy})
+     * @param vars            variables to branch on
+     */
+    default void setSolutionGuidedSearch(VariableSelector<IntVar> varSelector, IntValueSelector valSelector,
+                                         ICutoffStrategy restartStrategy, IntVar... vars) {
+        ref().setSearch(Search.intVarSearch(varSelector, new IntDomainIncumbent(vars, valSelector), vars));
+        ref().setRestarts(new FailCounter(ref().getModel(), 0), restartStrategy, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Configure a solution-guided search with {@link DomOverWDegCACD} as variable selector,
+     * {@link IntDomainMin} as value selector to fall back on and Luby restarts (with a scale factor of 100).
+     *
+     * @param vars variables to branch on
+     * @see #setSolutionGuidedSearch(VariableSelector, IntValueSelector, ICutoffStrategy, IntVar...)
+     */
+    default void setSolutionGuidedSearch(IntVar... vars) {
+        setSolutionGuidedSearch(new DomOverWDegCACD(vars, 0), new IntDomainMin(), new LubyCutoffStrategy(100), vars);
+    }
 }
@@ -0,0 +1,546 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.search.limits.BacktrackCounter;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A memory-bounded variant of {@link MoveBinaryHBFS}, dedicated to integer decisions.
+ * <p>
+ * Open right branches are stored as arrays of <tt>long</tt>, one per decision, encoding the index
+ * of the variable in the model, the operator, the value and the branch of the decision.
+ * When the estimated size of the open list exceeds a budget, in bytes, the least promising open
+ * right branches are evicted.
+ * Since the subtrees of evicted branches are no longer reachable, the search tree is then
+ * explored again from the root node before claiming completeness.
+ * <p>
+ * Moreover, the state of the decisions shared by the current decision path and the next open
+ * right branch is kept on the trail: the search backtracks to that prefix
+ * instead of restarting and replaying it from the root node.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class MoveBinaryHBFSBounded extends MoveBinaryDFS {
+
+    /**
+     * Estimated size, in bytes, of an open right branch, in addition to its decisions
+     */
+    private static final long OPEN_SIZE = 48;
+    /**
+     * Operators that can be encoded
+     */
+    private static final List<DecisionOperator<IntVar>> OPERATORS = Arrays.asList(
+            DecisionOperatorFactory.makeIntEq(),
+            DecisionOperatorFactory.makeIntNeq(),
+            DecisionOperatorFactory.makeIntSplit(),
+            DecisionOperatorFactory.makeIntReverseSplit());
+
+    /**
+     * limited number of backtracks for each DFS try
+     */
+    private BacktrackCounter dfslimit;
+
+    /**
+     * limit of bracktracks for the next DFS try.
+     */
+    private long Z;
+
+    /**
+     * minimum value of Z, doubled each time the search tree is explored again from the root node,
+     * to ensure termination.
+     */
+    private long minZ;
+
+    /**
+     * as limit is globally maintained, limit += Z at each try.
+     */
+    private long limit;
+    /**
+     * maximum number of backtracks to not exceed when updating node recomputation parameters.
+     */
+    private long N;
+
+    /**
+     * for node recomputation.
+     */
+    private long nodesRecompute;
+
+    /**
+     * lower bound to limit the rate of redundantly propagated decisions.
+     */
+    private double a;
+    /**
+     * upper bound to limit the rate of redundantly propagated decisions.
+     */
+    private double b;
+
+    /**
+     * The current objective manager, to deal with best bounds.
+     */
+    private IObjectiveManager<IntVar> objectiveManager;
+
+    /**
+     * Indicates if the current resolution policy is minimization.
+     */
+    private boolean isMinimization;
+
+    /**
+     * open right branches, from the most promising to the least promising one.
+     */
+    private TreeSet<Open> opens;
+
+    /**
+     * Maximum estimated size of {@link #opens}, in bytes.
+     */
+    private long budget;
+
+    /**
+     * Current estimated size of {@link #opens}, in bytes.
+     */
+    private long used;
+
+    /**
+     * Set to <tt>true</tt> when an open right branch has been evicted since the last DFS try
+     * started from the root node.
+     */
+    private boolean evicted;
+
+    /**
+     * To break ties between open right branches.
+     */
+    private long stamp;
+
+    /**
+     * Current open right branch.
+     */
+    private Decision[] copen;
+
+    /**
+     * Used to find the first unknown open right branch
+     */
+    private List<Decision> _unkopen;
+
+    /**
+     * Current decision in copen
+     */
+    private int current;
+
+    /**
+     * Position of each variable in the model, given its id
+     */
+    private TIntIntHashMap positions;
+
+    /**
+     * The owner model.
+     */
+    private Model mModel;
+
+    /**
+     * Create a move dedicated to run a memory-bounded Hybrid Best-First Search with binary decisions.
+     * @param model a model
+     * @param strategy the search strategy to use
+     * @param a lower bound to limit the rate of redundantly propagated decisions.
+     * @param b upper bound to limit the rate of redundantly propagated decisions.
+     * @param N maximum number of backtracks to not exceed when updating node recomputation parameters.
+     * @param budget maximum estimated size of the open list, in bytes.
+     */
+    public MoveBinaryHBFSBounded(Model model, AbstractStrategy strategy, double a, double b, long N, long budget) {
+        super(strategy);
+        this.mModel = model;
+        this.dfslimit = new BacktrackCounter(model, N);
+        this.opens = new TreeSet<>();
+        this.budget = budget;
+        this.copen = new Decision[0];
+        this.current = 0;
+        this.Z = 1;
+        this.minZ = 1;
+        this.limit = Z;
+        this.N = N;
+        this.a = a;
+        this.b = b;
+        this._unkopen = new ArrayList<>();
+        this.positions = new TIntIntHashMap(16, .5f, -1, -1);
+    }
+
+    @Override
+    public boolean init() {
+        boolean init = super.init();
+        this.objectiveManager = mModel.getSolver().getObjectiveManager();
+        if (objectiveManager.getPolicy() == ResolutionPolicy.SATISFACTION) {
+            throw new UnsupportedOperationException("HBFS is not adapted to satisfaction problems.");
+        }
+        isMinimization = objectiveManager.getPolicy() == ResolutionPolicy.MINIMIZE;
+        return init;
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        boolean extend;
+        // as we observe the number of backtracks, no limit can be reached on extend()
+        if (current < copen.length) {
+            solver.getDecisionPath().pushDecision(copen[current++]);
+            solver.getEnvironment().worldPush();
+            extend = true;
+        } else /*cut will checker with propagation */ {
+            extend = super.extend(solver);
+        }
+        return extend;
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        boolean repair;
+        if (!dfslimit.isMet(limit)) {
+            current = copen.length;
+            repair = super.repair(solver);
+            if (!repair && evicted) {
+                // the subtrees of evicted branches have to be explored, start again from the root node
+                copen = new Decision[0];
+                current = 0;
+                evicted = false;
+                minZ *= 2;
+                limit = dfslimit.currentValue() + minZ;
+                solver.restart();
+                repair = true;
+            }
+        } else {
+            extractOpenRightBranches(solver);
+            repair = true;
+        }
+        return repair;
+    }
+
+    /**
+     * @return the estimated size of the open list, in bytes
+     */
+    public long getUsedMemory() {
+        return used;
+    }
+
+    /**
+     * @return the number of open right branches
+     */
+    public int getNbOpens() {
+        return opens.size();
+    }
+
+    /**
+     * This methods extracts and stores all open right branches for future exploration
+     * @param solver reference to the solver
+     */
+    protected void extractOpenRightBranches(Solver solver) {
+        // update parameters for restarts
+        if (nodesRecompute > 0) {
+            double ratio = nodesRecompute * 1.d / solver.getNodeCount();
+            if (ratio > b && Z <= N) {
+                Z *= 2;
+            } else if (ratio < a && Z >= 2) {
+                Z /= 2;
+            }
+        }
+        Z = Math.max(Z, minZ);
+        limit += Z;
+        // the current node may have failed, only its ancestors can be reused
+        int depth = solver.getEnvironment().getWorldIndex() - solver.getSearchWorldIndex() - 2;
+        // then start the extraction of open right branches
+        int i = compareSubpath(solver);
+        if (i < _unkopen.size()) {
+            extractOB(solver, i);
+        }
+        // finally, get the best ORB to keep up the search
+        Open next = poll();
+        while (next != null && !isValid(next.currentBound)) {
+            next = poll();
+        }
+        if (next != null) {
+            int k = reusablePrefix(solver, next, depth);
+            DecisionPath dp = solver.getDecisionPath();
+            copen = new Decision[next.path.length];
+            for (int j = 0; j < k; j++) {
+                copen[j] = dp.getDecision(topDecisionPosition + 1 + j);
+            }
+            for (int j = k; j < copen.length; j++) {
+                copen[j] = decode(dp, next.path[j]);
+            }
+            current = k;
+            nodesRecompute = solver.getNodeCount() + copen.length - k;
+            if (k > 0) {
+                backtrackTo(solver, solver.getSearchWorldIndex() + 1 + topDecisionPosition + k);
+                return;
+            }
+        } else {
+            // to be sure not to use the previous path
+            copen = new Decision[0];
+            current = 0;
+            evicted = false;
+        }
+        // then do the restart
+        solver.restartFromSnapshot();
+    }
+
+    /**
+     * Copy the current decision path in _unkopen, for comparison with copen.
+     * Then, it compares each decision, from the top to the bottom, to find the first difference.
+     * This is required to avoid adding the same decision sub-path more than once
+     * @param solver the search loop
+     * @return the index of the decision, in _unkopen, that stops the loop
+     */
+    private int compareSubpath(Solver solver) {
+        _unkopen.clear();
+        DecisionPath decisionPath = solver.getDecisionPath();
+        int pos = decisionPath.size() - 1;
+        Decision decision = decisionPath.getDecision(pos);
+        while (decision.getPosition() != topDecisionPosition) {
+            _unkopen.add(decision);
+            decision = decisionPath.getDecision(--pos);
+        }
+        Collections.reverse(_unkopen);
+        //
+        int i = 0;
+        int I = Math.min(_unkopen.size(), copen.length);
+        while(i < I && copen[i].isEquivalentTo(_unkopen.get(i))){
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Extract the open right branches from the current path until it reaches the i^th decision of _unkopen
+     * @param solver the search loop
+     * @param i the index of the decision, in _unkopen, that stops the loop
+     */
+    private void extractOB(Solver solver, int i) {
+        int stopAt = _unkopen.get(i).getPosition()-1;
+        // then, goes up in the search tree, and detect open nodes
+        solver.getEnvironment().worldPop();
+        DecisionPath dp = solver.getDecisionPath();
+        int bound;
+        Decision decision = dp.getLastDecision();
+        while (decision.getPosition() != stopAt) {
+            bound = isMinimization ?
+                    objectiveManager.getObjective().getLB() :
+                    objectiveManager.getObjective().getUB();
+            if (decision.hasNext() && isValid(bound)) {
+                add(new Open(decision, dp, bound));
+            }
+            dp.synchronize();
+            decision = dp.getLastDecision();
+            solver.getEnvironment().worldPop();
+        }
+    }
+
+    /**
+     * Add an open right branch, then evict the least promising ones while the budget is exceeded.
+     * @param open an open right branch
+     */
+    private void add(Open open) {
+        opens.add(open);
+        used += open.size();
+        while (used > budget && opens.size() > 1) {
+            used -= opens.pollLast().size();
+            evicted = true;
+        }
+    }
+
+    /**
+     * @return the most promising open right branch, or <i>null</i>
+     */
+    private Open poll() {
+        Open open = opens.pollFirst();
+        if (open != null) {
+            used -= open.size();
+        }
+        return open;
+    }
+
+    /**
+     * Compute the number of decisions shared by the current decision path and <i>open</i>,
+     * which are not deeper than <i>depth</i>.
+     * @param solver the search loop
+     * @param open an open right branch
+     * @param depth maximal depth of a node whose state can be restored
+     * @return the number of decisions that can be kept
+     */
+    private int reusablePrefix(Solver solver, Open open, int depth) {
+        DecisionPath dp = solver.getDecisionPath();
+        depth = Math.min(depth, solver.getEnvironment().getWorldIndex() - solver.getSearchWorldIndex() - 1);
+        int k = 0;
+        while (k < open.path.length
+                && topDecisionPosition + k + 1 <= depth
+                && topDecisionPosition + k + 1 < dp.size()
+                && encode(dp.getDecision(topDecisionPosition + k + 1)) == open.path[k]) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Backtrack to a world without restarting
+     * @param solver the search loop
+     * @param world index of the world to backtrack to
+     */
+    private void backtrackTo(Solver solver, int world) {
+        IEnvironment environment = solver.getEnvironment();
+        while (environment.getWorldIndex() > world) {
+            solver.getMeasures().incBackTrackCount();
+            solver.getMeasures().decDepth();
+            environment.worldPop();
+        }
+        solver.getDecisionPath().synchronize();
+    }
+
+    /**
+     * If the bound of an O.R.B exceed the best known so far, it returns false.
+     * @param bound the current bound of an O.R.B.
+     * @return true if bound is valid wrt the best known so far.
+     */
+    private boolean isValid(int bound) {
+        return isMinimization ?
+                bound < objectiveManager.getBestUB().intValue() :
+                bound > objectiveManager.getBestLB().intValue();
+    }
+
+    /**
+     * Encode a decision, as it will be when replayed, in a <tt>long</tt>:
+     * the 32 high bits store the variable position, the operator, the arity and the number of
+     * tries left, the 32 low bits store the value.
+     * @param decision an integer decision
+     * @return the decision encoding
+     */
+    private long encode(Decision decision) {
+        if (!(decision instanceof IntDecision)) {
+            throw new SolverException("Memory-bounded HBFS only deals with integer decisions, found: " + decision);
+        }
+        IntDecision d = (IntDecision) decision;
+        int op = OPERATORS.indexOf(d.getDecOp());
+        if (op < 0) {
+            throw new SolverException("Memory-bounded HBFS cannot encode the operator of " + decision);
+        }
+        int tries = decision.triesLeft() + 1;
+        int high = (position(d.getDecisionVariable()) << 4) | (op << 2) | ((d.getArity() - 1) << 1) | (tries - 1);
+        return ((long) high << 32) | (d.getDecisionValue() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Decode a decision encoded by {@link #encode(Decision)}.
+     * @param dp the decision path, to create decisions
+     * @param code a decision encoding
+     * @return a new decision
+     */
+    private Decision decode(DecisionPath dp, long code) {
+        int high = (int) (code >>> 32);
+        IntVar var = (IntVar) mModel.getVar(high >>> 4);
+        IntDecision d = dp.makeIntDecision(var, OPERATORS.get((high >>> 2) & 3), (int) code);
+        if (((high >>> 1) & 1) == 0) {
+            d.setRefutable(false);
+        }
+        int tries = (high & 1) + 1;
+        while (d.triesLeft() != tries) {
+            d.buildNext();
+        }
+        return d;
+    }
+
+    /**
+     * @param var a variable of the model
+     * @return position of <i>var</i> in the model
+     */
+    private int position(IntVar var) {
+        int p = positions.get(var.getId());
+        if (p < 0) {
+            for (int i = 0; i < mModel.getNbVars(); i++) {
+                positions.put(mModel.getVar(i).getId(), i);
+            }
+            p = positions.get(var.getId());
+        }
+        return p;
+    }
+
+    /**
+     * A class to represent an open right branch, from which the search can be kept up.
+     */
+    private class Open implements Comparable<Open> {
+
+        /**
+         * Encoded decisions, from the top to the bottom
+         */
+        private final long[] path;
+        /**
+         * store the current lower bound of the decision path for minimization
+         */
+        private final int currentBound;
+        /**
+         * To break ties
+         */
+        private final long id;
+
+        /**
+         * Create an open right branch for HBFS
+         *
+         * @param decision      an open decision in <i>decisionPath</i>
+         * @param decisionPath  the current decision path
+         * @param currentBound current lower (resp. upper) bound of the objective value for mimimization (resp. maximization)
+         */
+        Open(Decision decision, DecisionPath decisionPath, int currentBound) {
+            this.path = new long[decision.getPosition() - topDecisionPosition];
+            for (int i = path.length - 1; i >= 0; i--) {
+                path[i] = encode(decision);
+                decision = decisionPath.getDecision(decision.getPosition() - 1);
+            }
+            this.currentBound = currentBound;
+            this.id = stamp++;
+        }
+
+        /**
+         * @return estimated size of this, in bytes
+         */
+        long size() {
+            return OPEN_SIZE + 8L * path.length;
+        }
+
+        @Override
+        public int compareTo(Open o) {
+            // the minimum lower bound
+            int clb = isMinimization ?
+                    Integer.compare(currentBound, o.currentBound) :
+                    Integer.compare(o.currentBound, currentBound);
+            if (clb == 0) {
+                // the maximum depth
+                clb = Integer.compare(o.path.length, path.length);
+            }
+            if (clb == 0) {
+                clb = Long.compare(id, o.id);
+            }
+            return clb;
+        }
+    }
+}
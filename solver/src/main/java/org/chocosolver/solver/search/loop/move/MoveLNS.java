@@ -272,7 +272,9 @@ public class MoveLNS implements Move {
     }
 
     /**
-     * Extend the neighbor when conditions are met and do the restart
+     * Extend the neighbor when conditions are met and do the restart.
+     * The state of the root node reached on the previous restart is restored,
+     * so that only the new cut, if any, and the fragment are propagated.
      *
      * @param solver SearchLoop
      */
@@ -282,7 +284,7 @@ public class MoveLNS implements Move {
         }
         freshRestart = true;
         counter.overrideLimit(counter.currentValue() + frequency);
-        solver.restart();
+        solver.restartFromSnapshot();
     }
 
     @Override
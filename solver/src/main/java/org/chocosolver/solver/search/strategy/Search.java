@@ -36,10 +36,13 @@ import org.chocosolver.solver.search.strategy.selectors.values.SetDomainMin;
 import org.chocosolver.solver.search.strategy.selectors.values.SetValueSelector;
 import org.chocosolver.solver.search.strategy.selectors.variables.ActivityBased;
 import org.chocosolver.solver.search.strategy.selectors.variables.Cyclic;
+import org.chocosolver.solver.search.strategy.selectors.variables.ConflictHistorySearch;
 import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDegCACD;
 import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
 import org.chocosolver.solver.search.strategy.selectors.variables.GeneralizedMinDomVarSelector;
 import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
+import org.chocosolver.solver.search.strategy.selectors.variables.PickOnDom;
 import org.chocosolver.solver.search.strategy.selectors.variables.Random;
 import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
@@ -324,6 +327,42 @@ public class Search {
         return new DomOverWDeg(vars, 0, new IntDomainMin());
     }
 
+    /**
+     * Assignment strategy which selects a variable according to <code>dom/wdeg<sup>ca.cd</sup></code>
+     * and assign it to its lower bound
+     *
+     * @param vars list of variables
+     * @return assignment strategy
+     * @see DomOverWDegCACD
+     */
+    public static IntStrategy domOverWDegCACDSearch(IntVar... vars) {
+        return intVarSearch(new DomOverWDegCACD(vars, 0), new IntDomainMin(), vars);
+    }
+
+    /**
+     * Assignment strategy which selects a variable according to <code>Conflict-History Search</code>
+     * and assign it to its lower bound
+     *
+     * @param vars list of variables
+     * @return assignment strategy
+     * @see ConflictHistorySearch
+     */
+    public static IntStrategy conflictHistorySearch(IntVar... vars) {
+        return intVarSearch(new ConflictHistorySearch(vars, 0), new IntDomainMin(), vars);
+    }
+
+    /**
+     * Assignment strategy which selects a variable according to <code>PickOnDom</code>
+     * and assign it to its lower bound
+     *
+     * @param vars list of variables
+     * @return assignment strategy
+     * @see PickOnDom
+     */
+    public static IntStrategy pickOnDomSearch(IntVar... vars) {
+        return intVarSearch(new PickOnDom(vars, 0), new IntDomainMin(), vars);
+    }
+
     /**
      * Create an Activity based search strategy.
      * <p>
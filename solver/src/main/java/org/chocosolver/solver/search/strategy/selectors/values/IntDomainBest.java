@@ -89,6 +89,19 @@ public final class IntDomainBest implements IntValueSelector {
     }
 
     private int bound(IntVar var, int val) {
+        return bound(var, val, dop);
+    }
+
+    /**
+     * Evaluate the objective bound after applying a decision
+     *
+     * @param var a variable
+     * @param val a value
+     * @param dop the decision operator
+     * @return the objective bound after applying <i>dop(var, val)</i> and propagating,
+     * the smaller the better, or {@link Integer#MAX_VALUE} if it fails
+     */
+    static int bound(IntVar var, int val, DecisionOperator<IntVar> dop) {
         Model model = var.getModel();
         int cost;
         // // if decision is '<=' ('>='), UB (LB) should be ignored to avoid infinite loop
@@ -0,0 +1,224 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Value selector for optimization problems:
+ * Branches on the value with the best objective bound, like {@link IntDomainBest},
+ * but objective bounds are cached between nodes.
+ * <p>
+ * The bound of an assignment <i>(x, v)</i> is computed once and reused until either <i>x</i>
+ * is modified or a new solution is found.
+ * Changes are detected with {@link IntVar#getModificationStamp()}, so a bound remains valid
+ * when <i>x</i> is restored on backtrack to the state it was computed in.
+ * Bounds are thus estimations: modifications of other variables are ignored.
+ * <p>
+ * Optionally, only a sample of the values of large domains is evaluated.
+ * In any case, evaluation stops as soon as a value reaches the best possible bound,
+ * that is, the current bound of the objective.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class IntDomainBestCached implements IntValueSelector, IMonitorSolution {
+
+    /**
+     * Maximum range of a domain for its bounds to be cached
+     */
+    private static final int MAX_RANGE = 1 << 12;
+
+    /**
+     * Maximum enumerated domain size this selector falls into.
+     * Otherwise, only bounds are considered.
+     */
+    private final int maxdom;
+
+    /**
+     * The decision operator used to make the decision
+     */
+    private final DecisionOperator<IntVar> dop;
+
+    /**
+     * Maximum number of values evaluated per domain, 0 to evaluate all of them
+     */
+    private final int samples;
+
+    /**
+     * Randomness to sample values
+     */
+    private final Random random;
+
+    /**
+     * Cached bounds, indexed by variable id, then by value - offset
+     */
+    private final int[][] bounds;
+
+    /**
+     * Modification stamp of the variable when each bound was computed, indexed like
+     * {@link #bounds}, -1 if the bound is not valid
+     */
+    private final long[][] stamps;
+
+    /**
+     * Smallest value of each cached domain, indexed by variable id
+     */
+    private final int[] offsets;
+
+    /**
+     * Whether the bounds of a variable are cached, indexed by variable id
+     */
+    private final boolean[] cached;
+
+    /**
+     * Create a value selector that returns the best value wrt to the objective to optimize,
+     * and that caches objective bounds of assignments of <i>vars</i>.
+     * When an enumerated variable domain exceeds {@link #maxdom}, only bounds are considered.
+     *
+     * @param vars    variables whom assignments are cached
+     * @param maxdom  a maximum domain size to satisfy to use this value selector.
+     * @param dop     the decision operator used to make the decision
+     * @param samples maximum number of values to evaluate per domain, 0 to evaluate all of them
+     * @param seed    seed for sampling values
+     */
+    public IntDomainBestCached(IntVar[] vars, int maxdom, DecisionOperator<IntVar> dop, int samples, long seed) {
+        this.maxdom = maxdom;
+        this.dop = dop;
+        this.samples = samples;
+        this.random = new Random(seed);
+        int max = 0;
+        for (IntVar var : vars) {
+            max = Math.max(max, var.getId());
+        }
+        this.bounds = new int[max + 1][];
+        this.stamps = new long[max + 1][];
+        this.offsets = new int[max + 1];
+        this.cached = new boolean[max + 1];
+        for (IntVar var : vars) {
+            cached[var.getId()] = true;
+        }
+        vars[0].getModel().getSolver().plugMonitor(this);
+    }
+
+    /**
+     * Create a value selector for assignments that returns the best value wrt to the objective to
+     * optimize, and that caches objective bounds of assignments of <i>vars</i>.
+     * When an enumerated variable domain exceeds 100, only bounds are considered.
+     *
+     * @param vars variables whom assignments are cached
+     */
+    public IntDomainBestCached(IntVar[] vars) {
+        this(vars, 100, DecisionOperatorFactory.makeIntEq(), 0, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        assert var.getModel().getObjective() != null;
+        int target = target(var.getModel());
+        if (var.hasEnumeratedDomain() && var.getDomainSize() < maxdom) {
+            int bestCost = Integer.MAX_VALUE;
+            int ub = var.getUB();
+            // if decision is '<=', default value is LB, UB in any other cases
+            int bestV = dop == DecisionOperatorFactory.makeIntReverseSplit() ? ub : var.getLB();
+            int stride = 1, skip = 0;
+            if (samples > 0 && var.getDomainSize() > samples) {
+                stride = (var.getDomainSize() + samples - 1) / samples;
+                skip = random.nextInt(stride);
+            }
+            for (int v = var.getLB(), k = 0; v <= ub; v = var.nextValue(v), k++) {
+                if (k % stride == skip) {
+                    int bound = bound(var, v);
+                    if (bound < bestCost) {
+                        bestCost = bound;
+                        bestV = v;
+                        if (bound <= target) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return bestV;
+        } else {
+            int lbB = bound(var, var.getLB());
+            int ubB = lbB <= target ? Integer.MAX_VALUE : bound(var, var.getUB());
+            // if values are equivalent
+            if (lbB == ubB) {
+                // if decision is '<=', default value is LB, UB in any other cases
+                return dop == DecisionOperatorFactory.makeIntReverseSplit() ? var.getUB() : var.getLB();
+            } else {
+                return lbB < ubB ? var.getLB() : var.getUB();
+            }
+        }
+    }
+
+    /**
+     * @param model the model
+     * @return the best possible bound, the smaller the better
+     */
+    private static int target(Model model) {
+        ResolutionPolicy rp = model.getSolver().getObjectiveManager().getPolicy();
+        if (rp == ResolutionPolicy.SATISFACTION) {
+            return 1;
+        } else if (rp == ResolutionPolicy.MINIMIZE) {
+            return ((IntVar) model.getObjective()).getLB();
+        } else {
+            return -((IntVar) model.getObjective()).getUB();
+        }
+    }
+
+    private int bound(IntVar var, int val) {
+        int id = var.getId();
+        if (id >= cached.length || !cached[id]) {
+            return IntDomainBest.bound(var, val, dop);
+        }
+        if (stamps[id] == null) {
+            int range = var.getUB() - var.getLB() + 1;
+            if (range > MAX_RANGE) {
+                return IntDomainBest.bound(var, val, dop);
+            }
+            offsets[id] = var.getLB();
+            bounds[id] = new int[range];
+            stamps[id] = new long[range];
+            Arrays.fill(stamps[id], -1);
+        }
+        int k = val - offsets[id];
+        long[] t = stamps[id];
+        if (k < 0 || k >= t.length) {
+            return IntDomainBest.bound(var, val, dop);
+        }
+        // the bound is computed in a new world, which leaves the stamp of var unchanged
+        long stamp = var.getModificationStamp();
+        if (t[k] != stamp) {
+            bounds[id][k] = IntDomainBest.bound(var, val, dop);
+            t[k] = stamp;
+        }
+        return bounds[id][k];
+    }
+
+    @Override
+    public void onSolution() {
+        for (long[] t : stamps) {
+            if (t != null) {
+                Arrays.fill(t, -1);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import java.util.BitSet;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Value selector for solution-guided search:
+ * Branches on the value in the incumbent solution, if still in domain.
+ * <p>
+ * The incumbent is recorded in a primitive array each time a solution is found
+ * (this selector plugs itself in the solver as a search monitor on construction).
+ * Unlike {@link IntDomainLast}, no {@link org.chocosolver.solver.Solution} object is required.
+ * Combined with restarts, the search is steered toward the neighborhood of the incumbent.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class IntDomainIncumbent implements IntValueSelector, IMonitorSolution {
+
+    /**
+     * Variables whom values are recorded
+     */
+    private final IntVar[] vars;
+    /**
+     * Value of each variable in the incumbent solution, indexed by {@link IntVar#getId()}
+     */
+    private final int[] incumbent;
+    /**
+     * Set bit <i>i</i> indicates that the variable with id <i>i</i> is instantiated in the incumbent solution
+     */
+    private final BitSet recorded;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+
+    /**
+     * Create a value selector that returns the value in the incumbent solution.
+     * If no solution was found, the variable is not one of 'vars' or its value does not exist anymore,
+     * falls back to 'mainSelector'.
+     *
+     * @param vars         variables whom values are recorded
+     * @param mainSelector falling back selector
+     */
+    public IntDomainIncumbent(IntVar[] vars, IntValueSelector mainSelector) {
+        int max = 0;
+        for (IntVar var : vars) {
+            max = Math.max(max, var.getId());
+        }
+        this.vars = vars;
+        this.incumbent = new int[max + 1];
+        this.recorded = new BitSet(max + 1);
+        this.mainSelector = mainSelector;
+        vars[0].getModel().getSolver().plugMonitor(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int id = var.getId();
+        if (recorded.get(id)) {
+            int value = incumbent[id];
+            if (IntValueSelector.relevant(var, value)) {
+                return value;
+            }
+        }
+        return mainSelector.selectValue(var);
+    }
+
+    @Override
+    public void onSolution() {
+        for (IntVar var : vars) {
+            if (var.isInstantiated()) {
+                incumbent[var.getId()] = var.getValue();
+                recorded.set(var.getId());
+            } else {
+                recorded.clear(var.getId());
+            }
+        }
+    }
+}
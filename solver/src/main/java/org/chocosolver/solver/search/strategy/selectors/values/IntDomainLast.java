@@ -60,19 +60,12 @@ public final class IntDomainLast implements IntValueSelector {
     public int selectValue(IntVar var) {
         if (lastSolution.exists()) {
             int value = lastSolution.getIntVal(var);
-            if (relevant(var, value) && condition.test(var, value)) {
+            if (IntValueSelector.relevant(var, value) && condition.test(var, value)) {
                 return value;
             }
         }
         return mainSelector.selectValue(var);
     }
 
-    private boolean relevant(IntVar var, int value) {
-        return (
-            (var.hasEnumeratedDomain() && var.contains(value))
-                || (!var.hasEnumeratedDomain() &&
-                (var.getLB() == value || var.getUB() == value))
-        );
-    }
 }
 
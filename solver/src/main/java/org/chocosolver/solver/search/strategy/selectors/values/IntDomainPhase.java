@@ -0,0 +1,95 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IEventType;
+
+/**
+ * Phase saving value selector.
+ * <p>
+ * Each time a variable is instantiated, either by a decision or by propagation (including
+ * propagation of learnt constraints), its value is recorded.
+ * When the variable is selected again, typically after a restart, the recorded value is returned
+ * if it still belongs to its domain.
+ * Otherwise, or if the variable has never been instantiated yet, falls back to 'mainSelector'.
+ * <p>
+ * Recorded values are not restored on backtrack, thus they survive restarts.
+ * This selector can be combined with {@link IntDomainLast}, which then gives priority to the last solution found.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class IntDomainPhase implements IntValueSelector, IVariableMonitor<IntVar> {
+
+    /**
+     * Last value assigned to each variable, indexed by {@link IntVar#getId()}
+     */
+    private int[] phases;
+    /**
+     * Set bit <i>i</i> indicates that a value is recorded for the variable with id <i>i</i>
+     */
+    private final BitSet saved;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+
+    /**
+     * Create a value selector that returns the last value assigned to a variable.
+     * If the variable has never been instantiated or the value does not exist anymore,
+     * falls back to 'mainSelector'.
+     *
+     * @param vars         variables whom values are recorded
+     * @param mainSelector falling back selector
+     */
+    public IntDomainPhase(IntVar[] vars, IntValueSelector mainSelector) {
+        int max = 0;
+        for (IntVar var : vars) {
+            max = Math.max(max, var.getId());
+        }
+        this.phases = new int[max + 1];
+        this.saved = new BitSet(max + 1);
+        this.mainSelector = mainSelector;
+        for (IntVar var : vars) {
+            var.addMonitor(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int id = var.getId();
+        if (saved.get(id)) {
+            int value = phases[id];
+            if (IntValueSelector.relevant(var, value)) {
+                return value;
+            }
+        }
+        return mainSelector.selectValue(var);
+    }
+
+    @Override
+    public void onUpdate(IntVar var, IEventType evt) {
+        if (var.isInstantiated()) {
+            int id = var.getId();
+            if (id >= phases.length) {
+                phases = Arrays.copyOf(phases, id + 1);
+            }
+            phases[id] = var.getValue();
+            saved.set(id);
+        }
+    }
+}
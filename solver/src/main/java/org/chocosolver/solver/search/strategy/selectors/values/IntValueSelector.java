@@ -31,4 +31,20 @@ public interface IntValueSelector  {
      */
     int selectValue(IntVar var);
 
+    /**
+     * Check if a value, recorded earlier for <i>var</i>, can be returned by {@link #selectValue(IntVar)}:
+     * it must belong to the domain of <i>var</i> and, if the domain is bounded, be one of its bounds.
+     *
+     * @param var   a variable
+     * @param value a value
+     * @return <tt>true</tt> if <i>value</i> can be selected for <i>var</i>
+     */
+    static boolean relevant(IntVar var, int value) {
+        return (
+            (var.hasEnumeratedDomain() && var.contains(value))
+                || (!var.hasEnumeratedDomain() &&
+                (var.getLB() == value || var.getUB() == value))
+        );
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * Implementation of Conflict-History Search (CHS)[1].
+ * <p>
+ * A score <i>q(p)</i> is attached to each propagator <i>p</i>. When <i>p</i> fails, its score is updated
+ * with an exponential recency weighted average:
+ * <i>q(p) = (1 - &alpha;).q(p) + &alpha;.r(p)</i>, where <i>r(p) = 1 / (#conflicts - last(p) + 1)</i>
+ * rewards propagators that failed recently. The step-size <i>&alpha;</i> decreases on each conflict
+ * and is reset on restart, when scores are also smoothed.
+ * <p>
+ * The selected variable maximizes <i>(&Sigma; (q(p) + &delta;)) / |dom(x)|</i>, over propagators of <i>x</i>
+ * with at least two uninstantiated variables.
+ * <p>
+ * [1]: D. Habet, C. Terrioux, Conflict History based Search for Constraint Satisfaction Problem, SAC-19. <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ConflictHistorySearch extends FailureBased implements IMonitorRestart {
+
+    /**
+     * Initial value of the step-size
+     */
+    private static final double ALPHA = .1d;
+    /**
+     * Decrement of the step-size on each conflict
+     */
+    private static final double STEP = 1e-6;
+    /**
+     * Minimal value of the step-size
+     */
+    private static final double MIN_ALPHA = .06d;
+    /**
+     * Smoothing factor applied on restart
+     */
+    private static final double DECAY = .995d;
+    /**
+     * Bonus given to each propagator, to break ties before any conflict
+     */
+    private static final double DELTA = 1e-4;
+
+    /**
+     * Score of each propagator, indexed by propagator id
+     */
+    private double[] q;
+    /**
+     * Number of conflicts when each propagator last failed, indexed by propagator id
+     */
+    private int[] last;
+    /**
+     * Number of conflicts so far
+     */
+    private int conflicts;
+    /**
+     * Current step-size
+     */
+    private double alpha;
+
+    /**
+     * Creates a Conflict-History Search variable selector
+     *
+     * @param vars decision variables
+     * @param seed seed for breaking ties randomly
+     */
+    public ConflictHistorySearch(IntVar[] vars, long seed) {
+        super(vars, seed);
+        this.q = new double[0];
+        this.last = new int[0];
+        this.alpha = ALPHA;
+    }
+
+    @Override
+    protected double weight(IntVar var) {
+        double w = 0;
+        int nbp = var.getNbProps();
+        for (int i = 0; i < nbp; i++) {
+            Propagator<?> prop = var.getPropagator(i);
+            if (futvars(prop) > 1) {
+                int pid = prop.getId();
+                w += DELTA;
+                if (pid < q.length) {
+                    w += q[pid];
+                }
+            }
+        }
+        return w;
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (cex.c instanceof Propagator) {
+            int pid = ((Propagator<?>) cex.c).getId();
+            q = grow(q, pid);
+            last = grow(last, pid);
+            double r = 1d / (conflicts - last[pid] + 1);
+            q[pid] = (1 - alpha) * q[pid] + alpha * r;
+            last[pid] = conflicts;
+        }
+        conflicts++;
+        if (alpha > MIN_ALPHA) {
+            alpha -= STEP;
+        }
+    }
+
+    @Override
+    public void afterRestart() {
+        alpha = ALPHA;
+        for (int pid = 0; pid < q.length; pid++) {
+            if (q[pid] > 0) {
+                q[pid] *= Math.pow(DECAY, conflicts - last[pid]);
+            }
+        }
+    }
+}
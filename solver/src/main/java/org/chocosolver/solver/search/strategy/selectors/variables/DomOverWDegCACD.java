@@ -0,0 +1,143 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of dom/wdeg<sup>ca.cd</sup>[1].
+ * <p>
+ * A weight is attached to each pair (propagator, variable), initially set to 1.
+ * When a propagator fails:
+ * <ul>
+ *     <li>each of its <i>k</i> uninstantiated variables sees its weight increased by <i>1/k</i> (constraint aware),</li>
+ *     <li>each of its variables assigned by the decision at depth <i>d</i> sees its weight increased
+ *     by <i>1/(n - d + 1)</i>, where <i>n</i> is the number of decisions (chronological distance).</li>
+ * </ul>
+ * The weighted degree of a variable <i>x</i> is the sum of the weights of the pairs (p, x) such that
+ * <i>p</i> has at least two uninstantiated variables.
+ * <p>
+ * [1]: H. Wattez, C. Lecoutre, A. Paparrizou, S. Tabary, Refining Constraint Weighting, ICTAI-19. <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class DomOverWDegCACD extends FailureBased {
+
+    /**
+     * Weights of each pair (propagator, variable), indexed by propagator id, then by variable index
+     */
+    private double[][] weights;
+    /**
+     * Depth of the decision on each variable, indexed by variable id, valid when stamp matches
+     */
+    private int[] depths;
+    /**
+     * Stamp of the decision depths of each variable
+     */
+    private int[] dstamps;
+    /**
+     * Current stamp for decision depths
+     */
+    private int dstamp;
+
+    /**
+     * Creates a dom/wdeg<sup>ca.cd</sup> variable selector
+     *
+     * @param vars decision variables
+     * @param seed seed for breaking ties randomly
+     */
+    public DomOverWDegCACD(IntVar[] vars, long seed) {
+        super(vars, seed);
+        this.weights = new double[0][];
+        this.depths = new int[0];
+        this.dstamps = new int[0];
+    }
+
+    @Override
+    protected double weight(IntVar var) {
+        double w = 0;
+        int nbp = var.getNbProps();
+        for (int i = 0; i < nbp; i++) {
+            Propagator<?> prop = var.getPropagator(i);
+            if (futvars(prop) > 1) {
+                w += 1;
+                int pid = prop.getId();
+                int idx = var.getIndexInPropagator(i);
+                // some propagators, like PropNogoods, add variables during search
+                if (pid < weights.length && weights[pid] != null && idx < weights[pid].length) {
+                    w += weights[pid][idx];
+                }
+            }
+        }
+        return w;
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (cex.c instanceof Propagator) {
+            Propagator<?> prop = (Propagator<?>) cex.c;
+            int pid = prop.getId();
+            if (pid >= weights.length) {
+                weights = Arrays.copyOf(weights, Math.max(pid + 1, weights.length * 3 / 2 + 1));
+            }
+            if (weights[pid] == null) {
+                weights[pid] = new double[prop.getNbVars()];
+            } else if (weights[pid].length < prop.getNbVars()) {
+                weights[pid] = Arrays.copyOf(weights[pid], prop.getNbVars());
+            }
+            int fut = prop.arity();
+            boolean past = fut < prop.getNbVars();
+            int n = past ? storeDepths() : 0;
+            for (int i = 0; i < prop.getNbVars(); i++) {
+                Variable var = prop.getVar(i);
+                if (!var.isInstantiated()) {
+                    weights[pid][i] += 1d / fut;
+                } else if (past) {
+                    int id = var.getId();
+                    if (id < dstamps.length && dstamps[id] == dstamp) {
+                        weights[pid][i] += 1d / (n - depths[id] + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the depth of the decision made on each variable of the decision path
+     *
+     * @return number of decisions in the decision path
+     */
+    private int storeDepths() {
+        dstamp++;
+        DecisionPath path = solver.getDecisionPath();
+        // the first decision is the root one
+        int n = path.size() - 1;
+        for (int d = 1; d <= n; d++) {
+            Decision<?> dec = path.getDecision(d);
+            Object var = dec.getDecisionVariable();
+            if (var instanceof Variable) {
+                int id = ((Variable) var).getId();
+                depths = grow(depths, id);
+                dstamps = grow(dstamps, id);
+                depths[id] = d;
+                dstamps[id] = dstamp;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Abstract class for failure-driven variable selectors, such as weighted-degree ones.
+ * <p>
+ * It selects the uninstantiated variable that maximizes <i>weight(x) / |dom(x)|</i>, where
+ * <i>weight(x)</i> is provided by sub-classes, typically from failures.
+ * Ties are broken randomly.
+ * <p>
+ * Data attached to propagators are stored in arrays indexed by propagator id
+ * (see {@link #grow(double[], int)}), to avoid hash maps.
+ * This selector plugs itself in the solver as a search monitor on {@link #init()},
+ * and unplugs itself on {@link #remove()}.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public abstract class FailureBased implements VariableSelector<IntVar>, IMonitorContradiction {
+
+    /**
+     * The solver this selector is attached to
+     */
+    protected final Solver solver;
+    /**
+     * Randomness to break ties
+     */
+    private final Random random;
+    /**
+     * Temporary. Stores index of variables with the same (best) score
+     */
+    private final TIntArrayList bests;
+    /**
+     * Number of future variables of each propagator, valid when the stamp matches {@link #stamp}
+     */
+    private int[] futvars;
+    /**
+     * Stamp of each propagator, to know if {@link #futvars} is up to date
+     */
+    private int[] stamps;
+    /**
+     * Current stamp, incremented on each selection
+     */
+    private int stamp;
+
+    /**
+     * Create a failure-based variable selector.
+     *
+     * @param vars decision variables
+     * @param seed seed for breaking ties randomly
+     */
+    protected FailureBased(IntVar[] vars, long seed) {
+        this.solver = vars[0].getModel().getSolver();
+        this.random = new Random(seed);
+        this.bests = new TIntArrayList();
+        this.futvars = new int[0];
+        this.stamps = new int[0];
+    }
+
+    @Override
+    public boolean init() {
+        if (!solver.getSearchMonitors().contains(this)) {
+            solver.plugMonitor(this);
+        }
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        if (solver.getSearchMonitors().contains(this)) {
+            solver.unplugMonitor(this);
+        }
+    }
+
+    /**
+     * @param var an uninstantiated variable
+     * @return weight of <i>var</i>, the greater the better
+     */
+    protected abstract double weight(IntVar var);
+
+    @Override
+    public IntVar getVariable(IntVar[] variables) {
+        bests.resetQuick();
+        stamp++;
+        double best = -1;
+        for (int idx = 0; idx < variables.length; idx++) {
+            int dsize = variables[idx].getDomainSize();
+            if (dsize > 1) {
+                double score = weight(variables[idx]) / dsize;
+                if (score > best) {
+                    bests.resetQuick();
+                    bests.add(idx);
+                    best = score;
+                } else if (score == best) {
+                    bests.add(idx);
+                }
+            }
+        }
+        if (bests.size() > 0) {
+            return variables[bests.get(random.nextInt(bests.size()))];
+        }
+        return null;
+    }
+
+    /**
+     * Return the number of uninstantiated variables of <i>prop</i>.
+     * The value is computed once per selection.
+     *
+     * @param prop a propagator
+     * @return number of future variables of <i>prop</i>
+     */
+    protected final int futvars(Propagator<?> prop) {
+        int pid = prop.getId();
+        if (pid >= stamps.length) {
+            int o = stamps.length;
+            int n = Math.max(pid + 1, o * 3 / 2 + 1);
+            stamps = Arrays.copyOf(stamps, n);
+            Arrays.fill(stamps, o, n, -1);
+            futvars = Arrays.copyOf(futvars, n);
+        }
+        if (stamps[pid] != stamp) {
+            stamps[pid] = stamp;
+            futvars[pid] = prop.arity();
+        }
+        return futvars[pid];
+    }
+
+    /**
+     * Ensure that <i>array</i> can be accessed at index <i>idx</i>.
+     *
+     * @param array an array indexed by ids
+     * @param idx   an id
+     * @return <i>array</i> or a larger copy of it
+     */
+    protected static double[] grow(double[] array, int idx) {
+        if (idx >= array.length) {
+            return Arrays.copyOf(array, Math.max(idx + 1, array.length * 3 / 2 + 1));
+        }
+        return array;
+    }
+
+    /**
+     * Ensure that <i>array</i> can be accessed at index <i>idx</i>.
+     *
+     * @param array an array indexed by ids
+     * @param idx   an id
+     * @return <i>array</i> or a larger copy of it
+     */
+    protected static int[] grow(int[] array, int idx) {
+        if (idx >= array.length) {
+            return Arrays.copyOf(array, Math.max(idx + 1, array.length * 3 / 2 + 1));
+        }
+        return array;
+    }
+}
@@ -12,10 +12,13 @@ package org.chocosolver.solver.search.strategy.selectors.variables;
 import static org.chocosolver.util.tools.VariableUtils.searchSpaceSize;
 
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.chocosolver.memory.IStateDouble;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
@@ -67,6 +70,8 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
 
     private int idx = 0;
 
+    private IntVar[][] copies; // decision variables of copies of the model, for parallel init()
+
     /**
      * Create an Impact-based search strategy with Node Impact strategy.
      * <p/>
@@ -175,6 +180,25 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
         }
     }
 
+    /**
+     * Distribute the initialisation phase over worker threads.
+     * Each worker probes variables on its own copy of the model, given by its decision variables.
+     * Copies must be built exactly like the model of this strategy, with the decision variables
+     * declared in the same order (as for {@link org.chocosolver.solver.ParallelPortfolio}).
+     * The model of this strategy is probed in the calling thread, thus <i>n</i> copies lead to <i>n+1</i> workers.
+     * Copies are restored to their initial state on completion.
+     * @param copies decision variables of each copy of the model
+     */
+    public void setParallelInitialisation(IntVar[]... copies) {
+        for (IntVar[] copy : copies) {
+            if (copy.length != vars.length || copy[0].getModel() == model) {
+                throw new SolverException("ImpactBased: each copy should have " + vars.length
+                        + " variables and be declared in its own model");
+            }
+        }
+        this.copies = copies.length > 0 ? copies : null;
+    }
+
     /**
      * Define a time limit on reevaluation phase (done every {@link #nodeImpact} nodes).
      * When the limit is reached, reevaluting impacts stops and the search can go on.
@@ -199,68 +223,36 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
         double before = searchSpaceSize(vars);
         searchSpaceSize.set(before);
         learnsAndFails = false;
-        loop:
-        for (int i = 0; i < vars.length; i++) {
-            IntVar v = vars[i];
-            int offset = v.getLB();
-            int UB = v.getUB();
-            int dsz = UB - offset + 1;//v.getDomainSize();
-            if (!v.isInstantiated()) { // if the variable is not instantiated
-                Ilabel[i] = new double[v.hasEnumeratedDomain() ? dsz : 1];
-                offsets[i] = offset;
-
-                if (v.hasEnumeratedDomain()) {
-                    if (v.getDomainSize() < split) { // try each value
-                        DisposableValueIterator it = v.getValueIterator(true);
-                        while (it.hasNext()) {
-                            if (System.currentTimeMillis() > tl) {
-                                break loop;
-                            }
-                            int a = it.next();
-                            double im = computeImpact(v, a, before);
-                            Ilabel[i][a - offset] = im;
-                        }
-                        it.dispose();
-                    } else { // estimate per subdomains
-                        int size = dsz / split;
-                        int a, b;
-                        DisposableValueIterator it = v.getValueIterator(true);
-                        while (it.hasNext()) {
-                            int step = 0;
-                            if (System.currentTimeMillis() > tl) {
-                                break loop;
-                            }
-                            a = b = it.next();
-                            while(step < size && it.hasNext()) {
-                                b = it.next();
-                                step++;
-                            }
-                            double im =  computeImpactB(v, a, b, before);
-                            for(int j = a; j <=b; j++){
-                                Ilabel[i][j - offset] = im;
-                            }
+        if (copies == null) {
+            for (int i = 0; i < vars.length; i++) {
+                if (!initImpact(i, vars, before, tl)) {
+                    break;
+                }
+            }
+        } else {
+            AtomicInteger next = new AtomicInteger();
+            IntStream.range(0, copies.length + 1).parallel().forEach(w -> {
+                IntVar[] scope = w == 0 ? vars : copies[w - 1];
+                if (w == 0 || synchronize(scope)) {
+                    int i;
+                    while ((i = next.getAndIncrement()) < vars.length) {
+                        if (!initImpact(i, scope, before, tl)) {
+                            break;
                         }
-                        it.dispose();
                     }
-                } else {
-                    if (System.currentTimeMillis() > tl) {
-                        break;
-                    }
-                    // A. choose 3 values in the domain to have an estimation of the impact
-                    double i1 = computeImpact(v, v.getLB(), before);
-                    double i2 = computeImpact(v, v.getUB(), before);
-                    double i3 = computeImpact(v, (v.getLB() + v.getUB()) / 2, before);
-                    Ilabel[i][0] = (i1 + i2 + i3) / 3d;
                 }
-            }
+                if (w > 0) {
+                    scope[0].getModel().getEnvironment().worldPop();
+                }
+            });
         }
         if (learnsAndFails) {
             // If the initialisation detects a failure, then the problem has no solution!
             learnsAndFails = false;
 //            solver.getEngine().fails(this, lAfVar, "Impact::init:: detect failures");
             return false;
-        } else if (System.currentTimeMillis() > tl) {
-            if(model.getSettings().warnUser()) {
+        } else {
+            if (System.currentTimeMillis() > tl && model.getSettings().warnUser()) {
                 model.getSolver().getErr().print("impact Search stops its init phase -- reach time limit!");
             }
             for (int i = 0; i < vars.length; i++) {  // create arrays to avoid null pointer errors
@@ -277,6 +269,101 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
         return true;
     }
 
+    /**
+     * Estimate the impacts of the <i>i</i>-th variable, by probing <i>scope[i]</i>.
+     *
+     * @param i      index of the variable
+     * @param scope  decision variables of the model to probe, either {@link #vars} or one of its copies
+     * @param before search space size before any assignment
+     * @param tl     time limit
+     * @return <tt>false</tt> if the time limit is reached
+     */
+    private boolean initImpact(int i, IntVar[] scope, double before, long tl) {
+        IntVar v = scope[i];
+        int offset = v.getLB();
+        int UB = v.getUB();
+        int dsz = UB - offset + 1;//v.getDomainSize();
+        if (!v.isInstantiated()) { // if the variable is not instantiated
+            double[] impacts = new double[v.hasEnumeratedDomain() ? dsz : 1];
+            Ilabel[i] = impacts;
+            offsets[i] = offset;
+            if (v.hasEnumeratedDomain()) {
+                if (v.getDomainSize() < split) { // try each value
+                    DisposableValueIterator it = v.getValueIterator(true);
+                    while (it.hasNext()) {
+                        if (System.currentTimeMillis() > tl) {
+                            return false;
+                        }
+                        int a = it.next();
+                        double im = computeImpact(v, a, before, scope);
+                        impacts[a - offset] = im;
+                    }
+                    it.dispose();
+                } else { // estimate per subdomains
+                    int size = dsz / split;
+                    int a, b;
+                    DisposableValueIterator it = v.getValueIterator(true);
+                    while (it.hasNext()) {
+                        int step = 0;
+                        if (System.currentTimeMillis() > tl) {
+                            return false;
+                        }
+                        a = b = it.next();
+                        while(step < size && it.hasNext()) {
+                            b = it.next();
+                            step++;
+                        }
+                        double im =  computeImpactB(v, a, b, before, scope);
+                        for(int j = a; j <=b; j++){
+                            impacts[j - offset] = im;
+                        }
+                    }
+                    it.dispose();
+                }
+            } else {
+                if (System.currentTimeMillis() > tl) {
+                    return false;
+                }
+                // A. choose 3 values in the domain to have an estimation of the impact
+                double i1 = computeImpact(v, v.getLB(), before, scope);
+                double i2 = computeImpact(v, v.getUB(), before, scope);
+                double i3 = computeImpact(v, (v.getLB() + v.getUB()) / 2, before, scope);
+                impacts[0] = (i1 + i2 + i3) / 3d;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Restrict the domains of a copy of {@link #vars} to the current domains of {@link #vars}
+     * and propagate, in a new world.
+     *
+     * @param copy decision variables of a copy of the model
+     * @return <tt>false</tt> if the copy cannot be synchronized, <tt>true</tt> otherwise
+     */
+    private boolean synchronize(IntVar[] copy) {
+        Model m = copy[0].getModel();
+        m.getEnvironment().worldPush();
+        try {
+            m.getSolver().propagate();
+            for (int i = 0; i < vars.length; i++) {
+                copy[i].updateBounds(vars[i].getLB(), vars[i].getUB(), this);
+                if (copy[i].hasEnumeratedDomain()) {
+                    for (int a = copy[i].getLB(); a <= copy[i].getUB(); a = copy[i].nextValue(a)) {
+                        if (!vars[i].contains(a)) {
+                            copy[i].removeValue(a, this);
+                        }
+                    }
+                }
+            }
+            m.getSolver().propagate();
+            return true;
+        } catch (ContradictionException e) {
+            m.getSolver().getEngine().flush();
+            return false;
+        }
+    }
+
     @Override
     public void remove() {
         if (!initOnly && model.getSolver().getSearchMonitors().contains(this)) {
@@ -335,15 +422,17 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
      * @param v      the variable
      * @param a      the value
      * @param before search space size before the assignment
+     * @param scope  variables the search space size is computed on
      * @return the impact I(v = a)
      */
-    private double computeImpact(IntVar v, int a, double before) {
+    private double computeImpact(IntVar v, int a, double before, IntVar[] scope) {
+        Model model = v.getModel();
         model.getEnvironment().worldPush();
         double after;
         try {
             v.instantiateTo(a, this);
             model.getSolver().getEngine().propagate();
-            after = searchSpaceSize(vars);
+            after = searchSpaceSize(scope);
             return 1.0d - (after / before);
         } catch (ContradictionException e) {
             model.getSolver().getEngine().flush();
@@ -369,15 +458,17 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
      * @param v      the variable
      * @param a      the value
      * @param before search space size before the assignment
+     * @param scope  variables the search space size is computed on
      * @return the impact I(v = a)
      */
-    private double computeImpactB(IntVar v, int a, int b, double before) {
+    private double computeImpactB(IntVar v, int a, int b, double before, IntVar[] scope) {
+        Model model = v.getModel();
         model.getEnvironment().worldPush();
         double after;
         try {
             v.updateBounds(a, b, this);
             model.getSolver().getEngine().propagate();
-            after = searchSpaceSize(vars);
+            after = searchSpaceSize(scope);
             return 1.0d - (after / before);
         } catch (ContradictionException e) {
             model.getSolver().getEngine().flush();
@@ -435,7 +526,7 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
                             DisposableValueIterator it = v.getValueIterator(true);
                             while (it.hasNext()) {
                                 int a = it.next();
-                                double im = computeImpact(v, a, before);
+                                double im = computeImpact(v, a, before, vars);
                                 assert !Double.isNaN(im);
                                 updateImpact(im, idx, a);
                             }
@@ -451,7 +542,7 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
                                     b = it.next();
                                     step++;
                                 }
-                                double im =  computeImpactB(v, a, b, before);
+                                double im =  computeImpactB(v, a, b, before, vars);
                                 for(int j = a; j <=b; j++){
                                     updateImpact(im, idx, j);
                                 }
@@ -460,9 +551,9 @@ public class ImpactBased extends AbstractStrategy<IntVar> implements IMonitorDow
                         }
                     } else {
                         // A. choose 3 values in the domain to have an estimation of the impact
-                        double i1 = computeImpact(v, v.getLB(), before);
-                        double i2 = computeImpact(v, v.getUB(), before);
-                        double i3 = computeImpact(v, (v.getLB() + v.getUB()) / 2, before);
+                        double i1 = computeImpact(v, v.getLB(), before, vars);
+                        double i2 = computeImpact(v, v.getUB(), before, vars);
+                        double i3 = computeImpact(v, (v.getLB() + v.getUB()) / 2, before, vars);
                         double im = (i1 + i2 + i3) / 3d;
                         assert !Double.isNaN(im);
                         updateImpact(im, idx, 0);
@@ -0,0 +1,298 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import gnu.trove.list.array.TIntArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IntMap;
+
+/**
+ * Implementation of DowOverWDeg[1], based on a heap maintained incrementally.
+ * <p>
+ * As in {@link DomOverWDeg}, each propagator has a weight, increased by one each time it fails,
+ * and the weighted degree of a variable is 1 plus the sum of the weights of its propagators
+ * with at least two uninstantiated variables.
+ * Here, the number of uninstantiated variables of each propagator is maintained on instantiations
+ * and restored on backtrack, and the weighted degree of a variable is updated when one of its
+ * propagators fails, gets down to one uninstantiated variable, or gets back to two on backtrack.
+ * The variable with the smallest dom/wdeg is then selected in O(log n) instead of O(n.d).
+ * Ties are broken by the smallest index.
+ * <p>
+ * Only the propagators of the decision variables known on creation are weighted:
+ * propagators posted afterwards are ignored.
+ * <p>
+ * [1]: F. Boussemart, F. Hemery, C. Lecoutre, and L. Sais, Boosting Systematic Search by Weighting
+ * Constraints, ECAI-04. <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IncrementalDomOverWDeg extends AbstractStrategy<IntVar> implements IMonitorContradiction {
+
+    /**
+     * The way value is selected for a given variable
+     */
+    private final IntValueSelector valueSelector;
+
+    /**
+     * Map propagator id to its index in {@link #weights}
+     */
+    private final IntMap pid2idx;
+
+    /**
+     * Weight of each propagator, that is, the number of times it fails
+     */
+    private final int[] weights;
+
+    /**
+     * Number of uninstantiated variables of each propagator, restored on backtrack
+     */
+    private final int[] futvars;
+
+    /**
+     * For each propagator, indices of its decision variables
+     */
+    private final int[][] p2vars;
+
+    /**
+     * Weighted degree of each decision variable
+     */
+    private final int[] wdeg;
+
+    /**
+     * Heap of variables ordered by dom/wdeg
+     */
+    private final IncrementalVariableHeap heap;
+
+    /**
+     * Creates a DomOverWDeg variable selector, based on a heap
+     *
+     * @param variables     decision variables
+     * @param valueSelector a value selector
+     */
+    public IncrementalDomOverWDeg(IntVar[] variables, IntValueSelector valueSelector) {
+        super(variables);
+        this.valueSelector = valueSelector;
+        this.wdeg = new int[vars.length];
+        Arrays.fill(wdeg, 1);
+        this.heap = new IncrementalVariableHeap(vars) {
+            @Override
+            double score(int idx) {
+                return this.vars[idx].getDomainSize() / (double) wdeg[idx];
+            }
+        };
+        // collect the propagators of the decision variables
+        List<Propagator<?>> props = new ArrayList<>();
+        this.pid2idx = new IntMap(16, -1);
+        for (IntVar var : vars) {
+            for (int i = 0; i < var.getNbProps(); i++) {
+                Propagator<?> p = var.getPropagator(i);
+                if (!pid2idx.containsKey(p.getId())) {
+                    pid2idx.put(p.getId(), props.size());
+                    props.add(p);
+                }
+            }
+        }
+        this.weights = new int[props.size()];
+        this.futvars = new int[props.size()];
+        this.p2vars = new int[props.size()][];
+        Watcher watcher = new Watcher(vars[0].getModel().getEnvironment());
+        TIntArrayList idx = new TIntArrayList();
+        for (int p = 0; p < props.size(); p++) {
+            Propagator<?> prop = props.get(p);
+            futvars[p] = prop.arity();
+            idx.resetQuick();
+            for (int i = 0; i < prop.getNbVars(); i++) {
+                Variable var = prop.getVar(i);
+                watcher.watch(var, p);
+                if (var instanceof IntVar) {
+                    int j = heap.indexOf((IntVar) var);
+                    if (j > -1) {
+                        idx.add(j);
+                    }
+                }
+            }
+            p2vars[p] = idx.toArray();
+        }
+        watcher.freeze();
+    }
+
+    @Override
+    public boolean init() {
+        Solver solver = vars[0].getModel().getSolver();
+        if(!solver.getSearchMonitors().contains(this)) {
+            vars[0].getModel().getSolver().plugMonitor(this);
+        }
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        Solver solver = vars[0].getModel().getSolver();
+        if(solver.getSearchMonitors().contains(this)) {
+            vars[0].getModel().getSolver().unplugMonitor(this);
+        }
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        if (cex.c instanceof Propagator) {
+            int p = pid2idx.get(((Propagator<?>) cex.c).getId());
+            if (p > -1) {
+                weights[p]++;
+                if (futvars[p] > 1) {
+                    adjust(p, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add <i>delta</i> to the weighted degree of the decision variables of the propagator <i>p</i>
+     * @param p index of a propagator
+     * @param delta value to add
+     */
+    private void adjust(int p, int delta) {
+        for (int idx : p2vars[p]) {
+            wdeg[idx] += delta;
+            if (delta > 0) {
+                heap.refresh(idx);
+            }
+        }
+    }
+
+    /**
+     * @param var a decision variable
+     * @return the current weighted degree of <i>var</i>
+     */
+    public int getWeight(IntVar var) {
+        return wdeg[heap.indexOf(var)];
+    }
+
+    @Override
+    public Decision<IntVar> computeDecision(IntVar variable) {
+        if (variable == null || variable.isInstantiated()) {
+            return null;
+        }
+        int currentVal = valueSelector.selectValue(variable);
+        return variable.getModel().getSolver().getDecisionPath().makeIntDecision(variable, DecisionOperatorFactory.makeIntEq(), currentVal);
+    }
+
+    @Override
+    public Decision<IntVar> getDecision() {
+        int idx = heap.best();
+        return idx == -1 ? null : computeDecision(vars[idx]);
+    }
+
+    /**
+     * Maintains the number of uninstantiated variables of the propagators,
+     * by monitoring the variables in their scope.
+     */
+    private final class Watcher implements IVariableMonitor<Variable> {
+
+        /**
+         * To restore the counters on backtrack
+         */
+        private final IEnvironment environment;
+        /**
+         * Map variable id to its index in {@link #fixed}
+         */
+        private final IntMap id2idx = new IntMap(16, -1);
+        /**
+         * Watched variables, as long as they are being collected
+         */
+        private final List<Variable> watched = new ArrayList<>();
+        /**
+         * Propagators of each watched variable, as long as they are being collected
+         */
+        private final List<TIntArrayList> lists = new ArrayList<>();
+        /**
+         * Propagators of each watched variable, one entry per occurrence of the variable
+         */
+        private int[][] props;
+        /**
+         * Whether each watched variable has been seen instantiated
+         */
+        private boolean[] fixed;
+        /**
+         * Operations that restore the counters of the propagators of a variable, one per variable
+         */
+        private IOperation[] restore;
+
+        Watcher(IEnvironment environment) {
+            this.environment = environment;
+        }
+
+        void watch(Variable var, int p) {
+            int i = id2idx.get(var.getId());
+            if (i == -1) {
+                i = lists.size();
+                id2idx.put(var.getId(), i);
+                watched.add(var);
+                lists.add(new TIntArrayList());
+                var.addMonitor(this);
+            }
+            lists.get(i).add(p);
+        }
+
+        void freeze() {
+            props = new int[lists.size()][];
+            fixed = new boolean[lists.size()];
+            restore = new IOperation[lists.size()];
+            for (int i = 0; i < props.length; i++) {
+                props[i] = lists.get(i).toArray();
+                // variables instantiated so far are already excluded from the counters
+                fixed[i] = watched.get(i).isInstantiated();
+                final int[] ps = props[i];
+                final int idx = i;
+                restore[i] = () -> {
+                    fixed[idx] = false;
+                    for (int p : ps) {
+                        if (++futvars[p] == 2) {
+                            adjust(p, weights[p]);
+                        }
+                    }
+                };
+            }
+            watched.clear();
+            lists.clear();
+        }
+
+        @Override
+        public void onUpdate(Variable var, IEventType evt) {
+            int idx = id2idx.get(var.getId());
+            if (!fixed[idx] && var.isInstantiated()) {
+                fixed[idx] = true;
+                for (int p : props[idx]) {
+                    if (futvars[p]-- == 2) {
+                        adjust(p, -weights[p]);
+                    }
+                }
+                environment.save(restore[idx]);
+            }
+        }
+    }
+}
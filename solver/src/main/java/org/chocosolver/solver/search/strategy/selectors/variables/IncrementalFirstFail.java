@@ -0,0 +1,63 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * <b>First fail</b> variable selector, based on a heap maintained incrementally.
+ * <p>
+ * It selects the same variable as {@link FirstFail}, that is the leftmost one with the smallest domain,
+ * but in O(log n) instead of O(n).
+ * The heap is attached to the array of variables given on construction: when
+ * {@link #getVariable(IntVar[])} is called with another array, the latter is scanned instead.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IncrementalFirstFail implements VariableSelector<IntVar> {
+
+    /**
+     * Heap of variables ordered by domain size
+     */
+    private final IncrementalVariableHeap heap;
+
+    /**
+     * <b>First fail</b> variable selector.
+     * @param vars variables to select from
+     */
+    public IncrementalFirstFail(IntVar[] vars) {
+        this.heap = new IncrementalVariableHeap(vars) {
+            @Override
+            double score(int idx) {
+                return this.vars[idx].getDomainSize();
+            }
+        };
+    }
+
+    @Override
+    public IntVar getVariable(IntVar[] variables) {
+        if (variables != heap.vars) {
+            IntVar smallVar = null;
+            int smallDSize = Integer.MAX_VALUE;
+            for (IntVar var : variables) {
+                int dsize = var.getDomainSize();
+                if (dsize > 1 && dsize < smallDSize) {
+                    smallDSize = dsize;
+                    smallVar = var;
+                }
+            }
+            return smallVar;
+        }
+        int idx = heap.best();
+        return idx == -1 ? null : heap.vars[idx];
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IndexedHeap;
+import org.chocosolver.util.objects.IntMap;
+
+/**
+ * A heap of integer variables ordered by increasing score, maintained incrementally.
+ * <p>
+ * Scores are updated on each domain modification (this is a variable monitor) and
+ * should be updated by subclasses each time they decrease for another reason (see {@link #refresh(int)}).
+ * Instantiated variables are removed from the heap, and put back on backtrack.
+ * On backtrack, scores may increase (since domains are restored): stored scores are then
+ * underestimated and they are lazily re-evaluated on selection.
+ * Ties are broken by the smallest index.
+ * <br/>
+ * Selecting the best variable is done in O(log n) amortized, instead of O(n) for a scan.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+abstract class IncrementalVariableHeap implements IVariableMonitor<IntVar> {
+
+    /**
+     * Variables to select from
+     */
+    protected final IntVar[] vars;
+    /**
+     * Map variable id to its index in {@link #vars}
+     */
+    private final IntMap id2idx;
+    /**
+     * The heap of variables, scored by {@link #score(int)}
+     */
+    private final IndexedHeap heap;
+    /**
+     * To put back variables on backtrack
+     */
+    private final IEnvironment environment;
+    /**
+     * Operations that put back a variable in the heap, one per variable
+     */
+    private final IOperation[] reinsert;
+    /**
+     * Set to <tt>true</tt> once the heap is filled
+     */
+    private boolean initialized;
+
+    /**
+     * Create a heap of variables
+     * @param vars variables to select from
+     */
+    IncrementalVariableHeap(IntVar[] vars) {
+        this.vars = vars;
+        this.id2idx = new IntMap(vars.length * 3 / 2 + 1, -1);
+        this.heap = new IndexedHeap(vars.length);
+        this.environment = vars[0].getModel().getEnvironment();
+        this.reinsert = new IOperation[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            if (!id2idx.containsKey(vars[i].getId())) {
+                id2idx.put(vars[i].getId(), i);
+                vars[i].addMonitor(this);
+                final int idx = i;
+                reinsert[i] = () -> {
+                    if (!heap.contains(idx)) {
+                        heap.insert(idx, score(idx));
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * @param idx index of a variable in {@link #vars}
+     * @return the score of the variable, the smaller the better
+     */
+    abstract double score(int idx);
+
+    /**
+     * @param var a variable
+     * @return index of <i>var</i> in {@link #vars}, or -1 if it does not belong to it
+     */
+    final int indexOf(IntVar var) {
+        return id2idx.get(var.getId());
+    }
+
+    /**
+     * Update the score of the variable at position <i>idx</i>, if it is in the heap.
+     * To be called when the score decreases.
+     * @param idx index of a variable in {@link #vars}
+     */
+    final void refresh(int idx) {
+        if (heap.contains(idx)) {
+            heap.update(idx, score(idx));
+        }
+    }
+
+    /**
+     * @return index of the uninstantiated variable with the smallest score, or -1 if all variables
+     * are instantiated
+     */
+    final int best() {
+        if (!initialized) {
+            for (int i = 0; i < vars.length; i++) {
+                if (reinsert[i] != null) {
+                    heap.insert(i, score(i));
+                }
+            }
+            initialized = true;
+        }
+        while (!heap.isEmpty()) {
+            int idx = heap.peek();
+            if (vars[idx].isInstantiated()) {
+                remove(idx);
+            } else {
+                double s = score(idx);
+                if (s == heap.key(idx)) {
+                    return idx;
+                }
+                // outdated score, due to backtrack
+                heap.update(idx, s);
+            }
+        }
+        return -1;
+    }
+
+    private void remove(int idx) {
+        heap.remove(idx);
+        environment.save(reinsert[idx]);
+    }
+
+    @Override
+    public void onUpdate(IntVar var, IEventType evt) {
+        int idx = id2idx.get(var.getId());
+        if (heap.contains(idx)) {
+            if (var.isInstantiated()) {
+                remove(idx);
+            } else {
+                heap.update(idx, score(idx));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * Implementation of dom/wdeg where weights are attached to variables and
+ * increased on failure for the variable whose domain became empty (pick on dom).
+ * When no domain is wiped out (for instance, when a propagator detects a failure by itself),
+ * the variable of the refuted decision, that is the last one, is weighted instead (refutation-based).
+ * <p>
+ * The selected variable maximizes <i>(1 + w(x)) / |dom(x)|</i>.
+ * This is cheaper than {@link DomOverWDeg} since the weighted degree of a variable
+ * does not depend on its propagators.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class PickOnDom extends FailureBased {
+
+    /**
+     * Weight of each variable, indexed by variable id
+     */
+    private double[] weights;
+
+    /**
+     * Creates a pick on dom variable selector
+     *
+     * @param vars decision variables
+     * @param seed seed for breaking ties randomly
+     */
+    public PickOnDom(IntVar[] vars, long seed) {
+        super(vars, seed);
+        this.weights = new double[0];
+    }
+
+    @Override
+    protected double weight(IntVar var) {
+        int id = var.getId();
+        return id < weights.length ? 1 + weights[id] : 1;
+    }
+
+    @Override
+    public void onContradiction(ContradictionException cex) {
+        Variable var = cex.v;
+        if (var == null && solver.getDecisionPath().size() > 1) {
+            Decision<?> dec = solver.getDecisionPath().getLastDecision();
+            Object dvar = dec.getDecisionVariable();
+            if (dvar instanceof Variable) {
+                var = (Variable) dvar;
+            }
+        }
+        if (var != null) {
+            int id = var.getId();
+            weights = grow(weights, id);
+            weights[id]++;
+        }
+    }
+}
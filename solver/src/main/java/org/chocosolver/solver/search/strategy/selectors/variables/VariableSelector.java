@@ -32,4 +32,20 @@ public interface VariableSelector<V extends Variable>  {
      */
     V getVariable(V[] variables);
 
+    /**
+     * Prepare <code>this</code> to be used in a search loop, called by the strategy it belongs to.
+     * The initialization can detect inconsistency, in that case, it returns false
+     * @return <tt>false</tt> if an inconsistency is detected
+     */
+    default boolean init() {
+        return true;
+    }
+
+    /**
+     * Remove <code>this</code>, called by the strategy it belongs to.
+     * This implies unplugging variable or search monitors.
+     */
+    default void remove() {
+    }
+
 }
@@ -79,7 +79,12 @@ public class IntStrategy extends AbstractStrategy<IntVar> {
 
     @Override
     public boolean init() {
-        return true;
+        return variableSelector.init();
+    }
+
+    @Override
+    public void remove() {
+        variableSelector.remove();
     }
 
     @Override
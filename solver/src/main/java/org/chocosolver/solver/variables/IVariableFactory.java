@@ -227,6 +227,10 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else if (boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, ref());
+        } else if (ub - lb + 1 >= ref().getSettings().getMinDomSizeForSparseSet()) {
+            return new SparseSetIntVarImpl(name, lb, ub, ref());
+        } else if (ub - lb < SmallBitsetIntVarImpl.CAPACITY) {
+            return new SmallBitsetIntVarImpl(name, lb, ub, ref());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, ref());
         }
@@ -263,7 +267,12 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else {
             int gap = values[values.length - 1] - values[0];
-            if (gap > 30 && gap / values.length > 5) {
+            boolean holey = gap > 30 && gap / values.length > 5;
+            if (!holey && values.length >= ref().getSettings().getMinDomSizeForSparseSet()) {
+                return new SparseSetIntVarImpl(name, values, ref());
+            } else if (gap < SmallBitsetIntVarImpl.CAPACITY) {
+                return new SmallBitsetIntVarImpl(name, values, ref());
+            } else if (holey) {
                 return new BitsetArrayIntVarImpl(name, values, ref());
             } else {
                 return new BitsetIntVarImpl(name, values, ref());
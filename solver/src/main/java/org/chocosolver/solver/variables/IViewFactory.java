@@ -11,8 +11,10 @@ package org.chocosolver.solver.variables;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.view.AffineView;
 import org.chocosolver.solver.variables.view.BoolNotView;
 import org.chocosolver.solver.variables.view.EqView;
+import org.chocosolver.solver.variables.view.IView;
 import org.chocosolver.solver.variables.view.LeqView;
 import org.chocosolver.solver.variables.view.MinusView;
 import org.chocosolver.solver.variables.view.OffsetView;
@@ -80,6 +82,9 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().intVar(name, var.getValue() + cste);
         }
         if (ref().getSettings().enableViews()) {
+            if (isAffineView(var)) {
+                return intAffineView(1, var, cste);
+            }
             int p = checkDeclaredView(var, cste, OffsetView.class);
             if(p>-1){
                 return var.getView(p).asIntVar();
@@ -112,8 +117,8 @@ public interface IViewFactory extends ISelf<Model> {
             return ref().intVar(-var.getValue());
         }
         if (ref().getSettings().enableViews()) {
-            if (var instanceof MinusView) {
-                return ((MinusView) var).getVariable();
+            if (isAffineView(var)) {
+                return intAffineView(-1, var, 0);
             } else {
                 int p = checkDeclaredView(var, -1, MinusView.class);
                 if(p>-1){
@@ -165,17 +170,15 @@ public interface IViewFactory extends ISelf<Model> {
                 return ref().intVar(var.getValue() * cste);
             }
             if (ref().getSettings().enableViews()) {
-                boolean rev = cste < 0;
-                cste = Math.abs(cste);
+                if (cste < 0 || isAffineView(var)) {
+                    return intAffineView(cste, var, 0);
+                }
                 int p = checkDeclaredView(var, cste, ScaleView.class);
                 if(p>-1){
                     return var.getView(p).asIntVar();
                 }else {
                     v2 = new ScaleView(var, cste);
                 }
-                if(rev){
-                    v2 = intMinusView(v2);
-                }
         } else {
                 int lb, ub;
                 if (cste > 0) {
@@ -234,15 +237,74 @@ public interface IViewFactory extends ISelf<Model> {
     /**
      * Creates an affine view over <i>x</i> such that: <i>a.x + b</i>.
      * <p>
+     * When views are enabled and <i>x</i> is itself an offset, scale, minus or affine view,
+     * the chain is collapsed: the returned view directly observes the variable at the bottom of the chain,
+     * so that its events are relayed once.
+     * For instance, <i>-(2*x+3)</i> is a single {@link AffineView} over <i>x</i>.
+     * <p>
      *
      * @param a a coefficient
      * @param x an integer variable.
      * @param b a constant
-     * @return an IntVar equal to the absolute value of <i>var</i>
+     * @return an IntVar equal to <i>a.x + b</i>
      */
     default IntVar intAffineView(int a, IntVar x, int b) {
         if (x.isInstantiated()) {
             return ref().intVar(a * x.getValue() + b);
+        } else if (a == 0) {
+            return ref().intVar(b);
+        } else if (ref().getSettings().enableViews()) {
+            long ca = a, cb = b;
+            IntVar y = x;
+            while (isAffineView(y)) {
+                long ya, yb;
+                if (y instanceof OffsetView) {
+                    ya = 1;
+                    yb = ((OffsetView) y).cste;
+                } else if (y instanceof ScaleView) {
+                    ya = ((ScaleView) y).cste;
+                    yb = 0;
+                } else if (y instanceof MinusView) {
+                    ya = -1;
+                    yb = 0;
+                } else {
+                    ya = ((AffineView) y).a;
+                    yb = ((AffineView) y).b;
+                }
+                long na = ca * ya;
+                long nb = ca * yb + cb;
+                if (na != (int) na || nb != (int) nb) {
+                    break; // stop collapsing instead of overflowing
+                }
+                ca = na;
+                cb = nb;
+                y = ((IView) y).getVariable();
+            }
+            a = (int) ca;
+            b = (int) cb;
+            int p;
+            if (a == 1 && b == 0) {
+                return y;
+            } else if (a == 1) {
+                p = checkDeclaredView(y, b, OffsetView.class);
+                return p > -1 ? y.getView(p).asIntVar() : new OffsetView(y, b);
+            } else if (a == -1 && b == 0) {
+                p = checkDeclaredView(y, -1, MinusView.class);
+                return p > -1 ? y.getView(p).asIntVar() : new MinusView(y);
+            } else if (a > 1 && b == 0) {
+                p = checkDeclaredView(y, a, ScaleView.class);
+                return p > -1 ? y.getView(p).asIntVar() : new ScaleView(y, a);
+            } else {
+                for (int i = 0; i < y.getNbViews(); i++) {
+                    if (y.getView(i) instanceof AffineView) {
+                        AffineView v = (AffineView) y.getView(i);
+                        if (v.a == a && v.b == b) {
+                            return v;
+                        }
+                    }
+                }
+                return new AffineView(y, a, b);
+            }
         } else {
             return intOffsetView(intScaleView(x, a), b);
         }
@@ -337,6 +399,16 @@ public interface IViewFactory extends ISelf<Model> {
         }
     }
 
+    /**
+     * @param x an integer variable
+     * @return <tt>true</tt> if <i>x</i> is an offset, scale, minus or affine view,
+     * that is, a view that can be collapsed by {@link #intAffineView(int, IntVar, int)}
+     */
+    static boolean isAffineView(IntVar x) {
+        return x instanceof OffsetView || x instanceof ScaleView
+                || x instanceof MinusView || x instanceof AffineView;
+    }
+
     static int checkDeclaredView(IntVar x, int c, Class clazz){
         for(int i = 0; i < x.getNbViews(); i++)
             if (clazz.isInstance(x.getView(i))) {
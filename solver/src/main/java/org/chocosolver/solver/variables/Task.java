@@ -133,6 +133,11 @@ public class Task {
     private static boolean isOffsetView(IntVar s, int d, IntVar e) {
         if(e instanceof OffsetView) {
             OffsetView offsetView = (OffsetView) e;
+            if(s instanceof OffsetView) {
+                // views are collapsed, so e may be based on the variable s is based on
+                OffsetView sView = (OffsetView) s;
+                return offsetView.cste - sView.cste == d && offsetView.getVariable().equals(sView.getVariable());
+            }
             return offsetView.cste == d && offsetView.getVariable().equals(s);
         }
         return false;
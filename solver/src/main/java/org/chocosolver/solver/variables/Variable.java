@@ -357,6 +357,27 @@ public interface Variable extends Identity, Comparable<Variable> {
      */
     int getMask();
 
+    /**
+     * @return the number of modifications of this variable notified so far.
+     * This counter is not restored on backtrack, so two equal versions read in the same world
+     * ensure that the domain has not been modified in-between.
+     */
+    long getDomainVersion();
+
+    /**
+     * Return the value of the model clock (see {@link Model#getClock()}) when this variable
+     * was last modified, 0 if it has never been.
+     * The stamp is not trailed: on backtrack, the stamp the variable had before its modifications
+     * in the last world is restored, deeper restorations get a new stamp.
+     * Since the clock never goes back, two equal stamps read at any time ensure that the domain
+     * is in the same state.
+     * This is the cheap way to detect changes across the search, for instance to keep caches
+     * computed in a sibling branch.
+     *
+     * @return the modification stamp of this variable
+     */
+    long getModificationStamp();
+
     /**
      * @return cause stored through by {@link #storeEvents(int, ICause)} or {@link org.chocosolver.solver.Cause#Null}
      * if differents causes modified this variable (this may happen when a view refers to this).
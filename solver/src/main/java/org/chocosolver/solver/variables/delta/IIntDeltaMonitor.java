@@ -35,6 +35,18 @@ public interface IIntDeltaMonitor extends IDeltaMonitor {
 
     void forEachRemVal(IntProcedure proc) throws ContradictionException;
 
+    /**
+     * Empty <i>cursor</i> then fill it with the values removed, in the same order as
+     * {@link #forEachRemVal(SafeIntProcedure)}.
+     * Contrary to the procedure-based methods, this does not require any closure
+     * and the values can then be read, and filtering done, without allocation.
+     * @param cursor a reusable cursor
+     */
+    default void forEachRemoved(IntDeltaCursor cursor) {
+        cursor.clear();
+        forEachRemVal(cursor);
+    }
+
 	/**
      * @return a rough estimation of the number of removed values 
      */
@@ -65,6 +77,11 @@ public interface IIntDeltaMonitor extends IDeltaMonitor {
             public void forEachRemVal(IntProcedure proc) throws ContradictionException {
                 // nothing to do by default
             }
+
+            @Override
+            public void forEachRemoved(IntDeltaCursor cursor) {
+                cursor.clear();
+            }
         }
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.delta;
+
+import org.chocosolver.util.procedure.SafeIntProcedure;
+
+import java.util.Arrays;
+
+/**
+ * A reusable cursor over the values removed from an integer variable.
+ * It is filled by {@link IIntDeltaMonitor#forEachRemoved(IntDeltaCursor)} and then read either
+ * as a slice of an int array, <code>values()[0..size())</code>, or one value at a time:
+ * <pre>
+ *     monitor.forEachRemoved(cursor);
+ *     while (cursor.hasNext()) {
+ *         int v = cursor.next();
+ *         ...
+ *     }
+ * </pre>
+ * The cursor is meant to be created once, for instance when the propagator is built, so that
+ * reading the delta does not allocate any closure or iterator.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class IntDeltaCursor implements SafeIntProcedure {
+
+    /**
+     * Removed values, only the first {@link #size} ones are relevant
+     */
+    private int[] values;
+    /**
+     * Number of removed values
+     */
+    private int size;
+    /**
+     * Position of the cursor
+     */
+    private int pos;
+
+    /**
+     * Create a cursor with a default initial capacity
+     */
+    public IntDeltaCursor() {
+        this(16);
+    }
+
+    /**
+     * Create a cursor
+     * @param capacity initial capacity, the cursor grows when needed
+     */
+    public IntDeltaCursor(int capacity) {
+        this.values = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Empty the cursor
+     */
+    public void clear() {
+        size = 0;
+        pos = 0;
+    }
+
+    /**
+     * Add a value at the end of the cursor
+     * @param value a removed value
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Add the values from <i>lb</i> to <i>ub</i> (inclusive) at the end of the cursor
+     * @param lb first removed value
+     * @param ub last removed value
+     */
+    public void addRange(int lb, int ub) {
+        ensureCapacity(size + ub - lb + 1);
+        for (int v = lb; v <= ub; v++) {
+            values[size++] = v;
+        }
+    }
+
+    @Override
+    public void execute(int value) {
+        add(value);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 3 / 2 + 1));
+        }
+    }
+
+    /**
+     * @return the underlying array, only the slice <code>[0, size())</code> is relevant
+     */
+    public int[] values() {
+        return values;
+    }
+
+    /**
+     * @return the number of removed values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i an index in <code>[0, size())</code>
+     * @return the <i>i</i><sup>th</sup> removed value
+     */
+    public int get(int i) {
+        return values[i];
+    }
+
+    /**
+     * @return <tt>true</tt> if {@link #next()} can be called
+     */
+    public boolean hasNext() {
+        return pos < size;
+    }
+
+    /**
+     * @return the next removed value
+     */
+    public int next() {
+        return values[pos++];
+    }
+
+    /**
+     * Move the cursor back to the first value
+     */
+    public void rewind() {
+        pos = 0;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(values, size));
+    }
+}
@@ -15,6 +15,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
 
@@ -76,6 +77,16 @@ public class EnumDeltaMonitor extends TimeStampedObject implements IIntDeltaMoni
 		}
     }
 
+    @Override
+    public void forEachRemoved(IntDeltaCursor cursor) {
+        cursor.clear();
+        for (int i = frozenFirst; i < frozenLast; i++) {
+            if (propagator == Cause.Null || propagator != delta.getCause(i)) {
+                cursor.add(delta.get(i));
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("(%d,last) => (%d,%d) :: %d", first, frozenFirst, frozenLast, delta.size());
@@ -15,6 +15,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.delta.IIntervalDelta;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
 
@@ -87,6 +88,16 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
 		}
     }
 
+    @Override
+    public void forEachRemoved(IntDeltaCursor cursor) {
+        cursor.clear();
+        for (int i = frozenFirst; i < frozenLast; i++) {
+            if (propagator == Cause.Null || propagator != delta.getCause(i)) {
+                cursor.addRange(delta.getLB(i), delta.getUB(i));
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("(%d,last) => (%d,%d) :: %d", first, frozenFirst, frozenLast, delta.size());
@@ -14,6 +14,7 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.TimeStampedObject;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
 
@@ -65,6 +66,13 @@ public class OneValueDeltaMonitor extends TimeStampedObject implements IIntDelta
 			proc.execute(delta.get(0));
     }
 
+    @Override
+    public void forEachRemoved(IntDeltaCursor cursor) {
+        cursor.clear();
+        if (used && propagator != delta.getCause(0))
+            cursor.add(delta.get(0));
+    }
+
     @Override
    	public int sizeApproximation(){
    		return used && propagator != delta.getCause(0)?1:0;
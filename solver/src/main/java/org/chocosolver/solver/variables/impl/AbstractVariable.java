@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
@@ -140,6 +141,26 @@ public abstract class AbstractVariable implements Variable {
      * possibly aggregated event's cause
      */
     private ICause cause;
+    /**
+     * Number of modifications notified, never restored
+     */
+    private long version;
+    /**
+     * Model clock value of the last modification
+     */
+    private long stamp;
+    /**
+     * Index and time stamp of the world {@link #stamp} was set in
+     */
+    private int sworld, spush;
+    /**
+     * Value of {@link #stamp} before its first modification in world {@link #sworld}
+     */
+    private long pstamp;
+    /**
+     * Index and time stamp of the world {@link #pstamp} was set in, -1 if unknown
+     */
+    private int pworld = -1, ppush;
 
     //////////////////////////////////////////////////////////////////////////////////////
 
@@ -326,6 +347,19 @@ public abstract class AbstractVariable implements Variable {
     @Override
     public void notifyPropagators(IEventType event, ICause cause) throws ContradictionException {
         assert cause != null;
+        version++;
+        restoreStamp();
+        IEnvironment environment = model.getEnvironment();
+        int w = environment.getWorldIndex();
+        if (sworld < w) {
+            // first modification in this world, the current stamp is restored on backtrack
+            pstamp = stamp;
+            pworld = sworld;
+            ppush = spush;
+            sworld = w;
+            spush = environment.getTimeStamp(w);
+        }
+        stamp = model.tick();
         model.getSolver().getEngine().onVariableUpdate(this, event, cause);
         notifyMonitors(event);
         notifyViews(event, cause);
@@ -484,6 +518,45 @@ public abstract class AbstractVariable implements Variable {
         return mask;
     }
 
+    @Override
+    public long getDomainVersion() {
+        return version;
+    }
+
+    @Override
+    public long getModificationStamp() {
+        restoreStamp();
+        return stamp;
+    }
+
+    /**
+     * Restore the stamp on backtrack: no trail is needed, since the stamp is still valid as long as
+     * the world it was set in belongs to the current branch.
+     * Otherwise, the stamp set before its first modification in this world is restored
+     * if still valid, or a new one is taken.
+     */
+    private void restoreStamp() {
+        if (!isInBranch(sworld, spush)) {
+            if (pworld > -1 && isInBranch(pworld, ppush)) {
+                stamp = pstamp;
+                sworld = pworld;
+                spush = ppush;
+            } else {
+                // restored in a state that was not recorded
+                IEnvironment environment = model.getEnvironment();
+                stamp = model.tick();
+                sworld = environment.getWorldIndex();
+                spush = environment.getTimeStamp(sworld);
+            }
+            pworld = -1;
+        }
+    }
+
+    private boolean isInBranch(int world, int push) {
+        IEnvironment environment = model.getEnvironment();
+        return world <= environment.getWorldIndex() && environment.getTimeStamp(world) == push;
+    }
+
     @Override
     public ICause getCause() {
         return cause;
@@ -0,0 +1,823 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar whose initial domain spans at most 64 values.
+ * <p>
+ * The whole domain is stored in a single trailed long, bounds and size are derived from it.
+ * Hence, any modification of the domain is saved once on the trail,
+ * where {@link BitsetIntVarImpl} also saves the bounds and the size.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class SmallBitsetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Maximum span of an initial domain
+     */
+    public static final int CAPACITY = 64;
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Bitset of available values -- includes offset
+     */
+    private final IStateLong VALUES;
+    /**
+     * offset of the lower bound and the first value in the domain
+     */
+    private final int OFFSET;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Create an enumerated IntVar based on a single word
+     * @param name name of the variable
+     * @param sortedValues original domain values, spanning at most {@link #CAPACITY} values
+     * @param model declaring model
+     */
+    public SmallBitsetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        OFFSET = sortedValues[0];
+        assert sortedValues[sortedValues.length - 1] - OFFSET < CAPACITY;
+        long word = 0L;
+        for (int sortedValue : sortedValues) {
+            word |= 1L << (sortedValue - OFFSET);
+        }
+        this.VALUES = model.getEnvironment().makeLong(word);
+    }
+
+    /**
+     * Create an enumerated IntVar based on a single word
+     * @param name name of the variable
+     * @param min lower bound
+     * @param max upper bound, such that <i>max - min</i> is less than {@link #CAPACITY}
+     * @param model declaring model
+     */
+    public SmallBitsetIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        assert max - min < CAPACITY;
+        this.OFFSET = min;
+        this.VALUES = model.getEnvironment().makeLong(-1L >>> (CAPACITY - 1 - (max - min)));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return index of the first bit set in <i>word</i> from <i>i</i>, -1 if none
+     */
+    private static int nextSetBit(long word, int i) {
+        if (i >= CAPACITY) {
+            return -1;
+        }
+        word &= -1L << Math.max(i, 0);
+        return word == 0 ? -1 : Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @return index of the last bit set in <i>word</i> up to <i>i</i>, -1 if none
+     */
+    private static int prevSetBit(long word, int i) {
+        if (i < 0) {
+            return -1;
+        }
+        word &= -1L >>> (CAPACITY - 1 - Math.min(i, CAPACITY - 1));
+        return word == 0 ? -1 : CAPACITY - 1 - Long.numberOfLeadingZeros(word);
+    }
+
+    /**
+     * @return index of the first bit clear in <i>word</i> from <i>i</i>
+     */
+    private static int nextClearBit(long word, int i) {
+        if (i >= CAPACITY) {
+            return i;
+        }
+        return Long.numberOfTrailingZeros(~word & (-1L << Math.max(i, 0)));
+    }
+
+    /**
+     * @return index of the last bit clear in <i>word</i> up to <i>i</i>, -1 if none
+     */
+    private static int prevClearBit(long word, int i) {
+        if (i < 0) {
+            return -1;
+        }
+        if (i >= CAPACITY) {
+            return i;
+        }
+        word = ~word & (-1L >>> (CAPACITY - 1 - i));
+        return word == 0 ? -1 : CAPACITY - 1 - Long.numberOfLeadingZeros(word);
+    }
+
+    /**
+     * @return a word whose bits from <i>from</i> to <i>to</i> (both included) are set
+     */
+    private static long range(int from, int to) {
+        return (-1L << from) & (-1L >>> (CAPACITY - 1 - to));
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (contains(value)) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            long word = VALUES.get();
+            if (isSingleton(word)) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            int aValue = value - OFFSET;
+            IntEventType e = IntEventType.REMOVE;
+            if (aValue == Long.numberOfTrailingZeros(word)) {
+                e = IntEventType.INCLOW;
+            } else if (aValue == CAPACITY - 1 - Long.numberOfLeadingZeros(word)) {
+                e = IntEventType.DECUPP;
+            }
+            word &= ~(1L << aValue);
+            VALUES.set(word);
+            if (reactOnRemoval) {
+                delta.add(value, cause);
+            }
+            if (isSingleton(word)) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int nlb = values.nextValue(olb - 1);
+        int nub = values.previousValue(oub + 1);
+        if (nlb > oub || nub < olb) {
+            return false;
+        }
+        long word = VALUES.get();
+        int i;
+        // look for the new lb
+        while (nlb == olb && olb < Integer.MAX_VALUE) {
+            i = nextSetBit(word, nlb + 1 - OFFSET);
+            olb = i > -1 ? i + OFFSET : Integer.MAX_VALUE;
+            nlb = values.nextValue(olb - 1);
+        }
+        if (nlb <= nub) {
+            // look for the new ub
+            while (nub == oub && oub > Integer.MIN_VALUE) {
+                i = prevSetBit(word, nub - 1 - OFFSET);
+                oub = i > -1 ? i + OFFSET : Integer.MIN_VALUE;
+                nub = values.previousValue(oub + 1);
+            }
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(olb, oub, cause);
+        // now deal with holes
+        word = VALUES.get();
+        int count = Long.bitCount(word);
+        boolean hasRemoved = false;
+        for (int value = nlb; value <= nub; value = values.nextValue(value)) {
+            int aValue = value - OFFSET;
+            if (aValue >= 0 && aValue < CAPACITY && (word & (1L << aValue)) != 0) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                if (count == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                count--;
+                hasRemoved = true;
+                word &= ~(1L << aValue);
+                if (reactOnRemoval) {
+                    delta.add(value, cause);
+                }
+            }
+        }
+        if (hasRemoved) {
+            notifyRemovals(word, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    private void notifyRemovals(long word, ICause cause) throws ContradictionException {
+        VALUES.set(word);
+        this.notifyPropagators(isSingleton(word) ? IntEventType.INSTANTIATE : IntEventType.REMOVE, cause);
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int nlb = values.nextValue(olb - 1);
+        int nub = values.previousValue(oub + 1);
+        long word = VALUES.get();
+        int i;
+        // look for the new lb
+        while (nlb != olb && olb < Integer.MAX_VALUE && nlb < Integer.MAX_VALUE) {
+            i = nextSetBit(word, nlb - OFFSET);
+            olb = i > -1 ? i + OFFSET : Integer.MAX_VALUE;
+            nlb = values.nextValue(olb - 1);
+        }
+        // look for the new ub
+        if (nlb <= nub) {
+            while (nub != oub && oub > Integer.MIN_VALUE && nub > Integer.MIN_VALUE) {
+                i = prevSetBit(word, nub - OFFSET);
+                oub = i > -1 ? i + OFFSET : Integer.MIN_VALUE;
+                nub = values.previousValue(oub + 1);
+            }
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(nlb, nub, cause);
+        // now deal with holes
+        word = VALUES.get();
+        int count = Long.bitCount(word);
+        boolean hasRemoved = false;
+        int to = nub - OFFSET;
+        for (i = nextSetBit(word, nlb - OFFSET + 1); i > -1 && i < to; i = nextSetBit(word, i + 1)) {
+            int value = i + OFFSET;
+            if (!values.contains(value)) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                if (count == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                count--;
+                hasRemoved = true;
+                word &= ~(1L << i);
+                if (reactOnRemoval) {
+                    delta.add(value, cause);
+                }
+            }
+        }
+        if (hasRemoved) {
+            notifyRemovals(word, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB()) {
+            return updateLowerBound(to + 1, cause);
+        } else if (getUB() <= to) {
+            return updateUpperBound(from - 1, cause);
+        } else {
+            long word = VALUES.get();
+            long removed = word & range(from - OFFSET, to - OFFSET);
+            if (removed != 0) {
+                // the iteration is mandatory for delta and observers
+                for (int i = nextSetBit(removed, 0); i > -1; i = nextSetBit(removed, i + 1)) {
+                    int aValue = i + OFFSET;
+                    if (reactOnRemoval) {
+                        delta.add(aValue, cause);
+                    }
+                    model.getSolver().getEventObserver().removeValue(this, aValue, cause);
+                }
+                VALUES.set(word & ~removed);
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            int aValue = value - OFFSET;
+            if (reactOnRemoval) {
+                long word = VALUES.get() & ~(1L << aValue);
+                for (int i = nextSetBit(word, 0); i > -1; i = nextSetBit(word, i + 1)) {
+                    delta.add(i + OFFSET, cause);
+                }
+            }
+            this.VALUES.set(1L << aValue);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                long word = VALUES.get();
+                int aValue = value - OFFSET;
+                if (reactOnRemoval) {
+                    for (int i = old - OFFSET; i < aValue; i = nextSetBit(word, i + 1)) {
+                        delta.add(i + OFFSET, cause);
+                    }
+                }
+                word &= -1L << aValue;
+                VALUES.set(word);
+                this.notifyPropagators(isSingleton(word) ? IntEventType.INSTANTIATE : IntEventType.INCLOW, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                long word = VALUES.get();
+                int aValue = value - OFFSET;
+                if (reactOnRemoval) {
+                    for (int i = oub - OFFSET; i > aValue; i = prevSetBit(word, i - 1)) {
+                        delta.add(i + OFFSET, cause);
+                    }
+                }
+                word &= -1L >>> (CAPACITY - 1 - aValue);
+                VALUES.set(word);
+                this.notifyPropagators(isSingleton(word) ? IntEventType.INSTANTIATE : IntEventType.DECUPP, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            long word = VALUES.get();
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                int aLB = lb - OFFSET;
+                if (reactOnRemoval) {
+                    for (int i = olb - OFFSET; i < aLB; i = nextSetBit(word, i + 1)) {
+                        delta.add(i + OFFSET, cause);
+                    }
+                }
+                word &= -1L << aLB;
+                olb = Long.numberOfTrailingZeros(word) + OFFSET;
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                int aUB = ub - OFFSET;
+                if (reactOnRemoval) {
+                    for (int i = oub - OFFSET; i > aUB; i = prevSetBit(word, i - 1)) {
+                        delta.add(i + OFFSET, cause);
+                    }
+                }
+                word &= -1L >>> (CAPACITY - 1 - aUB);
+            }
+            VALUES.set(word);
+            if (isSingleton(word)) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    /**
+     * @return <tt>true</tt> if exactly one bit of <i>word</i> is set, <i>word</i> being not empty
+     */
+    private static boolean isSingleton(long word) {
+        return (word & (word - 1)) == 0;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return isSingleton(VALUES.get());
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        aValue -= OFFSET;
+        return aValue >= 0 && aValue < CAPACITY && (VALUES.get() & (1L << aValue)) != 0;
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return Long.numberOfTrailingZeros(VALUES.get()) + OFFSET;
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return CAPACITY - 1 - Long.numberOfLeadingZeros(VALUES.get()) + OFFSET;
+    }
+
+    @Override
+    public int getDomainSize() {
+        return Long.bitCount(VALUES.get());
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = getLB();
+        if (aValue < lb) return lb;
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        return nextSetBit(VALUES.get(), aValue - OFFSET + 1) + OFFSET;
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb - 1 <= aValue && aValue <= ub) {
+            return nextClearBit(VALUES.get(), aValue - OFFSET + 1) + OFFSET;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = getUB();
+        if (aValue > ub) return ub;
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        return prevSetBit(VALUES.get(), aValue - OFFSET - 1) + OFFSET;
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb <= aValue && aValue <= ub + 1) {
+            return prevClearBit(VALUES.get(), aValue - OFFSET - 1) + OFFSET;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (isInstantiated()) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.value = Long.numberOfTrailingZeros(VALUES.get());
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.value = CAPACITY - 1 - Long.numberOfLeadingZeros(VALUES.get());
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.value != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.value != -1;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    this.value = nextSetBit(VALUES.get(), this.value + 1);
+                    return old + OFFSET;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    this.value = prevSetBit(VALUES.get(), this.value - 1);
+                    return old + OFFSET;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    long word = VALUES.get();
+                    this.from = Long.numberOfTrailingZeros(word);
+                    this.to = nextClearBit(word, from + 1) - 1;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    long word = VALUES.get();
+                    this.to = CAPACITY - 1 - Long.numberOfLeadingZeros(word);
+                    this.from = prevClearBit(word, to) + 1;
+                }
+
+                public boolean hasNext() {
+                    return this.from != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != -1;
+                }
+
+                public void next() {
+                    long word = VALUES.get();
+                    this.from = nextSetBit(word, this.to + 1);
+                    if (this.from > -1) {
+                        this.to = nextClearBit(word, this.from) - 1;
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    long word = VALUES.get();
+                    this.to = prevSetBit(word, this.from - 1);
+                    this.from = prevClearBit(word, this.to) + 1;
+                }
+
+                @Override
+                public int min() {
+                    return from + OFFSET;
+                }
+
+                @Override
+                public int max() {
+                    return to + OFFSET;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+}
@@ -0,0 +1,873 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar based on a sparse set.
+ * <p>
+ * Values of the domain are stored in the first <i>size</i> cells of a dense array,
+ * and the position of each value in the dense array is stored in a sparse array.
+ * Removing a value swaps it with the last value of the domain and decreases the size.
+ * Only the size is trailed: since removed values are never moved again, restoring the size
+ * restores the domain, whatever the number of values removed.
+ * Bounds are trailed too, but only modified when a bound is removed.
+ * <p>
+ * Moreover, the values removed by a modification are the ones lying between the new size
+ * and the old one in the dense array, which is how the delta is filled.
+ * <p>
+ * This implementation suits large domains from which many values are removed at each node.
+ * Finding the next value of the domain is however linear in the smallest of the range
+ * and the domain size.
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class SparseSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Values of the domain, in the first {@link #SIZE} cells, then removed values -- includes offset
+     */
+    private final int[] dense;
+    /**
+     * Position of each value in {@link #dense}, indexed by value -- includes offset.
+     * Values which are not in the initial domain are at position {@link Integer#MAX_VALUE}.
+     */
+    private final int[] sparse;
+    /**
+     * Lower bound of the current domain -- includes offset
+     */
+    private final IStateInt LB;
+    /**
+     * Upper bound of the current domain -- includes offset
+     */
+    private final IStateInt UB;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * offset of the lower bound and the first value in the domain
+     */
+    private final int OFFSET;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     * @param name name of the variable
+     * @param sortedValues original domain values
+     * @param model declaring model
+     */
+    public SparseSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        OFFSET = sortedValues[0];
+        int capacity = sortedValues[sortedValues.length - 1] - OFFSET + 1;
+        this.dense = new int[sortedValues.length];
+        this.sparse = new int[capacity];
+        Arrays.fill(sparse, Integer.MAX_VALUE);
+        for (int i = 0; i < sortedValues.length; i++) {
+            dense[i] = sortedValues[i] - OFFSET;
+            sparse[dense[i]] = i;
+        }
+        this.LB = env.makeInt(0);
+        this.UB = env.makeInt(capacity - 1);
+        this.SIZE = env.makeInt(sortedValues.length);
+    }
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     * @param name name of the variable
+     * @param min lower bound
+     * @param max upper bound
+     * @param model declaring model
+     */
+    public SparseSetIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        this.OFFSET = min;
+        int capacity = max - min + 1;
+        this.dense = new int[capacity];
+        this.sparse = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            dense[i] = i;
+            sparse[i] = i;
+        }
+        this.LB = env.makeInt(0);
+        this.UB = env.makeInt(max - min);
+        this.SIZE = env.makeInt(capacity);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Swap <i>a</i>, which belongs to the <i>size</i> first values, with the last of them.
+     * The caller is in charge of decreasing the size.
+     */
+    private void swapOut(int a, int size) {
+        int i = sparse[a];
+        int last = dense[size - 1];
+        dense[i] = last;
+        sparse[last] = i;
+        dense[size - 1] = a;
+        sparse[a] = size - 1;
+    }
+
+    /**
+     * Remove the values in [<i>from</i>, <i>to</i>] from the <i>size</i> first values,
+     * by scanning either the interval or the domain, whichever is the smallest.
+     *
+     * @return the new size
+     */
+    private int removeRange(int from, int to, int size) {
+        if (to - from < size) {
+            for (int a = from; a <= to; a++) {
+                if (sparse[a] < size) {
+                    swapOut(a, size--);
+                }
+            }
+        } else {
+            // positions after i are already checked, so the swapped value need not be
+            for (int i = size - 1; i >= 0; i--) {
+                int a = dense[i];
+                if (from <= a && a <= to) {
+                    swapOut(a, size--);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return the smallest value of the <i>size</i> first values greater or equal to <i>a</i>,
+     * <i>ub</i> being the greatest value, -1 if none
+     */
+    private int nextIn(int a, int size, int ub) {
+        if (ub - a < size) {
+            for (; a <= ub; a++) {
+                if (sparse[a] < size) {
+                    return a;
+                }
+            }
+            return -1;
+        }
+        int next = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (a <= dense[i] && dense[i] < next) {
+                next = dense[i];
+            }
+        }
+        return next == Integer.MAX_VALUE ? -1 : next;
+    }
+
+    /**
+     * @return the greatest value of the <i>size</i> first values smaller or equal to <i>a</i>,
+     * <i>lb</i> being the smallest value, -1 if none
+     */
+    private int prevIn(int a, int size, int lb) {
+        if (a - lb < size) {
+            for (; a >= lb; a--) {
+                if (sparse[a] < size) {
+                    return a;
+                }
+            }
+            return -1;
+        }
+        int prev = -1;
+        for (int i = 0; i < size; i++) {
+            if (prev < dense[i] && dense[i] <= a) {
+                prev = dense[i];
+            }
+        }
+        return prev;
+    }
+
+    /**
+     * Store the values removed since <i>size</i> in the delta
+     */
+    private void fillDelta(int size, ICause cause) {
+        if (reactOnRemoval) {
+            int osize = SIZE.get();
+            for (int i = size; i < osize; i++) {
+                delta.add(dense[i] + OFFSET, cause);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (contains(value)) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            int size = SIZE.get();
+            if (size == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            int aValue = value - OFFSET;
+            swapOut(aValue, size--);
+            if (reactOnRemoval) {
+                delta.add(value, cause);
+            }
+            SIZE.set(size);
+            IntEventType e = IntEventType.REMOVE;
+            if (aValue == LB.get()) {
+                LB.set(nextIn(aValue + 1, size, UB.get()));
+                e = IntEventType.INCLOW;
+            } else if (aValue == UB.get()) {
+                UB.set(prevIn(aValue - 1, size, LB.get()));
+                e = IntEventType.DECUPP;
+            }
+            if (size == 1) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int nlb = values.nextValue(olb - 1);
+        int nub = values.previousValue(oub + 1);
+        if (nlb > oub || nub < olb) {
+            return false;
+        }
+        // look for the new lb
+        while (nlb == olb && olb < Integer.MAX_VALUE) {
+            olb = nextValue(nlb);
+            nlb = values.nextValue(olb - 1);
+        }
+        if (nlb <= nub) {
+            // look for the new ub
+            while (nub == oub && oub > Integer.MIN_VALUE) {
+                oub = previousValue(nub);
+                nub = values.previousValue(oub + 1);
+            }
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(olb, oub, cause);
+        // now deal with holes
+        int size = SIZE.get();
+        int osize = size;
+        for (int value = nlb; value <= nub; value = values.nextValue(value)) {
+            int aValue = value - OFFSET;
+            if (aValue >= 0 && aValue < sparse.length && sparse[aValue] < size) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                if (size == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                swapOut(aValue, size--);
+            }
+        }
+        if (size < osize) {
+            notifyRemovals(size, cause);
+        }
+        return size < osize || hasChanged;
+    }
+
+    private void notifyRemovals(int size, ICause cause) throws ContradictionException {
+        fillDelta(size, cause);
+        SIZE.set(size);
+        IntEventType e = IntEventType.REMOVE;
+        if (size == 1) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int nlb = values.nextValue(olb - 1);
+        int nub = values.previousValue(oub + 1);
+        // look for the new lb
+        while (nlb != olb && olb < Integer.MAX_VALUE && nlb < Integer.MAX_VALUE) {
+            olb = contains(nlb) ? nlb : nextValue(nlb);
+            nlb = values.nextValue(olb - 1);
+        }
+        // look for the new ub
+        if (nlb <= nub) {
+            while (nub != oub && oub > Integer.MIN_VALUE && nub > Integer.MIN_VALUE) {
+                oub = contains(nub) ? nub : previousValue(nub);
+                nub = values.previousValue(oub + 1);
+            }
+        }
+        // the new bounds are now known, delegate to the right method
+        boolean hasChanged = updateBounds(nlb, nub, cause);
+        // now deal with holes, both bounds are kept
+        int size = SIZE.get();
+        int osize = size;
+        for (int i = size - 1; i >= 0; i--) {
+            int value = dense[i] + OFFSET;
+            if (nlb < value && value < nub && !values.contains(value)) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                swapOut(dense[i], size--);
+            }
+        }
+        if (size < osize) {
+            notifyRemovals(size, cause);
+        }
+        return size < osize || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB()) {
+            return updateLowerBound(to + 1, cause);
+        } else if (getUB() <= to) {
+            return updateUpperBound(from - 1, cause);
+        } else {
+            int osize = SIZE.get();
+            int size = removeRange(from - OFFSET, to - OFFSET, osize);
+            if (size < osize) {
+                // removed values lie between the new size and the old one
+                for (int i = size; i < osize; i++) {
+                    model.getSolver().getEventObserver().removeValue(this, dense[i] + OFFSET, cause);
+                }
+                fillDelta(size, cause);
+                SIZE.set(size);
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            int aValue = value - OFFSET;
+            // move the value in first position, all the others are removed
+            int first = dense[0];
+            int i = sparse[aValue];
+            dense[i] = first;
+            sparse[first] = i;
+            dense[0] = aValue;
+            sparse[aValue] = 0;
+            fillDelta(1, cause);
+            this.SIZE.set(1);
+            this.LB.set(aValue);
+            this.UB.set(aValue);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                int aValue = value - OFFSET;
+                int size = removeRange(old - OFFSET, aValue - 1, SIZE.get());
+                fillDelta(size, cause);
+                SIZE.set(size);
+                LB.set(nextIn(aValue, size, UB.get()));
+                this.notifyPropagators(size == 1 ? IntEventType.INSTANTIATE : IntEventType.INCLOW, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                int aValue = value - OFFSET;
+                int size = removeRange(aValue + 1, oub - OFFSET, SIZE.get());
+                fillDelta(size, cause);
+                SIZE.set(size);
+                UB.set(prevIn(aValue, size, LB.get()));
+                this.notifyPropagators(size == 1 ? IntEventType.INSTANTIATE : IntEventType.DECUPP, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            int size = SIZE.get();
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                int aLB = lb - OFFSET;
+                size = removeRange(olb - OFFSET, aLB - 1, size);
+                olb = nextIn(aLB, size, oub - OFFSET); // olb is used as a temporary variable
+                LB.set(olb);
+                olb += OFFSET; // required because we will treat upper bound just after
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                int aUB = ub - OFFSET;
+                size = removeRange(aUB + 1, oub - OFFSET, size);
+                UB.set(prevIn(aUB, size, olb - OFFSET));
+            }
+            fillDelta(size, cause);
+            SIZE.set(size);
+            if (size == 1) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        aValue -= OFFSET;
+        return aValue >= 0 && aValue < sparse.length && sparse[aValue] < SIZE.get();
+    }
+
+    /**
+     * Retrieves the current value of the variable if instantiated, otherwier the lower bound.
+     *
+     * @return the current value (or lower bound if not yet instantiated).
+     */
+    @Override
+    public int getValue() {
+        assert isInstantiated() : name + " not instantiated";
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return this.LB.get() + OFFSET;
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return this.UB.get() + OFFSET;
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        int lb = getLB();
+        if (aValue < lb) return lb;
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        return nextIn(aValue - OFFSET + 1, SIZE.get(), UB.get()) + OFFSET;
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb - 1 <= aValue && aValue <= ub) {
+            aValue++;
+            while (aValue <= ub && contains(aValue)) {
+                aValue++;
+            }
+            return aValue;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        int ub = getUB();
+        if (aValue > ub) return ub;
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        return prevIn(aValue - OFFSET - 1, SIZE.get(), LB.get()) + OFFSET;
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb <= aValue && aValue <= ub + 1) {
+            aValue--;
+            while (aValue >= lb && contains(aValue)) {
+                aValue--;
+            }
+            return aValue;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.value = getLB();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.value = getUB();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.value != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.value != Integer.MIN_VALUE;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    this.value = nextValue(this.value);
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    this.value = previousValue(this.value);
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = getLB();
+                    this.to = nextValueOut(from) - 1;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = getUB();
+                    this.from = previousValueOut(to) + 1;
+                }
+
+                public boolean hasNext() {
+                    return this.from != Integer.MAX_VALUE;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != Integer.MIN_VALUE;
+                }
+
+                public void next() {
+                    this.from = nextValue(this.to);
+                    if (this.from != Integer.MAX_VALUE) {
+                        this.to = nextValueOut(this.from) - 1;
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    this.to = previousValue(this.from);
+                    if (this.to != Integer.MIN_VALUE) {
+                        this.from = previousValueOut(this.to) + 1;
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from;
+                }
+
+                @Override
+                public int max() {
+                    return to;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+}
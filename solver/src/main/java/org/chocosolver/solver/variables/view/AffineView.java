@@ -0,0 +1,438 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.view;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.tools.MathUtils;
+
+import static org.chocosolver.solver.variables.events.IntEventType.DECUPP;
+import static org.chocosolver.solver.variables.events.IntEventType.INCLOW;
+
+/**
+ * declare an IntVar based on X, A and B, such as A * X + B, with A &ne; 0.
+ * <p>
+ * This view is built by {@link org.chocosolver.solver.variables.IViewFactory} to collapse chains of
+ * offset, scale and minus views, such as <i>-(2*x+3)</i>, into a single view over <i>x</i>.
+ * Events are then relayed once, from <i>x</i> to this view, whatever the length of the chain was.
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public final class AffineView extends IntView<IntVar> {
+
+    /**
+     * Coefficient of the observed variable, never 0
+     */
+    public final int a;
+    /**
+     * Constant term
+     */
+    public final int b;
+
+    /**
+     * Create a <i>a<i/> &times; <i>var<i/> + <i>b<i/> view
+     * @param var a variable
+     * @param a a non-zero coefficient
+     * @param b a constant
+     */
+    public AffineView(final IntVar var, final int a, final int b) {
+        super("(" + a + "*" + var.getName() + (b >= 0 ? "+" : "-") + Math.abs(b) + ")", var);
+        assert (a != 0) : "view coefficient must be non zero";
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * @param x a value of the observed variable
+     * @return the corresponding value of this view
+     */
+    private int toView(int x) {
+        return a * x + b;
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        var.createDelta();
+        if (var.getDelta() == NoDelta.singleton) {
+            return IIntDeltaMonitor.Default.NONE;
+        }
+        return new ViewDeltaMonitor(var.monitorDelta(propagator)) {
+            @Override
+            protected int transform(int value) {
+                return toView(value);
+            }
+        };
+    }
+
+    @Override
+    protected boolean doInstantiateVar(int value) throws ContradictionException {
+        if ((value - b) % a != 0) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, this, getLB(), getUB());
+            this.contradiction(this, MSG_INST);
+        }
+        return var.instantiateTo((value - b) / a, this);
+    }
+
+    @Override
+    protected boolean doUpdateLowerBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateLowerBound(MathUtils.divCeil(value - b, a), this);
+        } else {
+            return var.updateUpperBound(MathUtils.divFloor(b - value, -a), this);
+        }
+    }
+
+    @Override
+    protected boolean doUpdateUpperBoundOfVar(int value) throws ContradictionException {
+        if (a > 0) {
+            return var.updateUpperBound(MathUtils.divFloor(value - b, a), this);
+        } else {
+            return var.updateLowerBound(MathUtils.divCeil(b - value, -a), this);
+        }
+    }
+
+    @Override
+    protected boolean doRemoveValueFromVar(int value) throws ContradictionException {
+        return (value - b) % a == 0 && var.removeValue((value - b) / a, this);
+    }
+
+    @Override
+    protected boolean doRemoveIntervalFromVar(int from, int to) throws ContradictionException {
+        if (a > 0) {
+            return var.removeInterval(MathUtils.divCeil(from - b, a), MathUtils.divFloor(to - b, a), this);
+        } else {
+            return var.removeInterval(MathUtils.divCeil(b - to, -a), MathUtils.divFloor(b - from, -a), this);
+        }
+    }
+
+    @Override
+    public boolean contains(int value) {
+        return (value - b) % a == 0 && var.contains((value - b) / a);
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return (value - b) % a == 0 && var.isInstantiatedTo((value - b) / a);
+    }
+
+    @Override
+    public int getValue() {
+        return toView(var.getValue());
+    }
+
+    @Override
+    public int getLB() {
+        return toView(a > 0 ? var.getLB() : var.getUB());
+    }
+
+    @Override
+    public int getUB() {
+        return toView(a > 0 ? var.getUB() : var.getLB());
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int v) {
+        int value;
+        if (a > 0) {
+            value = var.nextValue(MathUtils.divFloor(v - b, a));
+            if (value == Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        } else {
+            value = var.previousValue(MathUtils.divCeil(b - v, -a));
+            if (value == Integer.MIN_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return toView(value);
+    }
+
+    @Override
+    public int nextValueOut(int v) {
+        if (a == 1) {
+            return var.nextValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.previousValueOut(b - v);
+        }
+        // two consecutive integers cannot both belong to the view
+        return contains(v + 1) ? v + 2 : v + 1;
+    }
+
+    @Override
+    public int previousValue(int v) {
+        int value;
+        if (a > 0) {
+            value = var.previousValue(MathUtils.divCeil(v - b, a));
+            if (value == Integer.MIN_VALUE) {
+                return Integer.MIN_VALUE;
+            }
+        } else {
+            value = var.nextValue(MathUtils.divFloor(b - v, -a));
+            if (value == Integer.MAX_VALUE) {
+                return Integer.MIN_VALUE;
+            }
+        }
+        return toView(value);
+    }
+
+    @Override
+    public int previousValueOut(int v) {
+        if (a == 1) {
+            return var.previousValueOut(v - b) + b;
+        } else if (a == -1) {
+            return b - var.nextValueOut(b - v);
+        }
+        return contains(v - 1) ? v - 2 : v - 1;
+    }
+
+    @Override
+    protected EvtScheduler createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    @Override
+    public String toString() {
+        return "(" + this.a + " * " + this.var.toString() + " + " + this.b + ") = [" + getLB() + "," + getUB() + "]";
+    }
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                DisposableValueIterator vit;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    vit = var.getValueIterator(a > 0);
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    vit = var.getValueIterator(a < 0);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return a > 0 ? vit.hasNext() : vit.hasPrevious();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return a > 0 ? vit.hasPrevious() : vit.hasNext();
+                }
+
+                @Override
+                public int next() {
+                    return toView(a > 0 ? vit.next() : vit.previous());
+                }
+
+                @Override
+                public int previous() {
+                    return toView(a > 0 ? vit.previous() : vit.next());
+                }
+
+                @Override
+                public void dispose() {
+                    super.dispose();
+                    vit.dispose();
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            if (a == -1) {
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableRangeIterator vir;
+
+                    @Override
+                    public void bottomUpInit() {
+                        super.bottomUpInit();
+                        vir = var.getRangeIterator(false);
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        super.topDownInit();
+                        vir = var.getRangeIterator(true);
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return vir.hasPrevious();
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return vir.hasNext();
+                    }
+
+                    @Override
+                    public void next() {
+                        vir.previous();
+                    }
+
+                    @Override
+                    public void previous() {
+                        vir.next();
+                    }
+
+                    @Override
+                    public int min() {
+                        return b - vir.max();
+                    }
+
+                    @Override
+                    public int max() {
+                        return b - vir.min();
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        vir.dispose();
+                    }
+                };
+            } else {
+                // |a| > 1, so each value is a range
+                _riterator = new DisposableRangeIterator() {
+
+                    DisposableValueIterator vit;
+                    int min, max;
+
+                    @Override
+                    public void bottomUpInit() {
+                        super.bottomUpInit();
+                        vit = getValueIterator(true);
+                        min = max = vit.hasNext() ? vit.next() : Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void topDownInit() {
+                        super.topDownInit();
+                        vit = getValueIterator(false);
+                        min = max = vit.hasPrevious() ? vit.previous() : -Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return min != Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return max != -Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void next() {
+                        min = max = vit.hasNext() ? vit.next() : Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public void previous() {
+                        min = max = vit.hasPrevious() ? vit.previous() : -Integer.MAX_VALUE;
+                    }
+
+                    @Override
+                    public int min() {
+                        return min;
+                    }
+
+                    @Override
+                    public int max() {
+                        return max;
+                    }
+
+                    @Override
+                    public void dispose() {
+                        super.dispose();
+                        vit.dispose();
+                    }
+                };
+            }
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public IEventType transformEvent(IEventType evt) {
+        if (a < 0) {
+            if (evt == INCLOW) {
+                return DECUPP;
+            } else if (evt == DECUPP) {
+                return INCLOW;
+            }
+        }
+        return evt;
+    }
+
+    @Override
+    public void justifyEvent(IntEventType mask, int one, int two, int three) {
+        switch (mask) {
+            case DECUPP:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().updateUpperBound(this, toView(one), toView(two), this);
+                } else {
+                    model.getSolver().getEventObserver().updateLowerBound(this, toView(one), toView(two), this);
+                }
+                break;
+            case INCLOW:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().updateLowerBound(this, toView(one), toView(two), this);
+                } else {
+                    model.getSolver().getEventObserver().updateUpperBound(this, toView(one), toView(two), this);
+                }
+                break;
+            case REMOVE:
+                model.getSolver().getEventObserver().removeValue(this, toView(one), this);
+                break;
+            case INSTANTIATE:
+                if (a > 0) {
+                    model.getSolver().getEventObserver().instantiateTo(this, toView(one), this, toView(two), toView(three));
+                } else {
+                    model.getSolver().getEventObserver().instantiateTo(this, toView(one), this, toView(three), toView(two));
+                }
+                break;
+        }
+    }
+}
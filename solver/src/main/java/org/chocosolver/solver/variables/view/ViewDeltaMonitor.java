@@ -9,9 +9,9 @@
  */
 package org.chocosolver.solver.variables.view;
 
-import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
 
@@ -24,22 +24,12 @@ import org.chocosolver.util.procedure.SafeIntProcedure;
  */
 public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
 
-    private class Filler implements SafeIntProcedure {
-
-        @Override
-        public void execute(int i) {
-            values.add(i);
-        }
-    }
-
     private IIntDeltaMonitor deltamonitor;
-    private TIntArrayList values;
-    private Filler filler;
+    private IntDeltaCursor values;
 
     public ViewDeltaMonitor(IIntDeltaMonitor deltamonitor) {
         this.deltamonitor = deltamonitor;
-        values = new TIntArrayList(8);
-        filler = new Filler();
+        values = new IntDeltaCursor(8);
     }
 
     @Override
@@ -54,19 +44,26 @@ public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
 
     @Override
     public void forEachRemVal(SafeIntProcedure proc) {
-        values.clear();
-        deltamonitor.forEachRemVal(filler);
+        deltamonitor.forEachRemoved(values);
         for (int v = 0; v < values.size(); v++) {
-            proc.execute(transform(values.toArray()[v]));
+            proc.execute(transform(values.get(v)));
         }
     }
 
     @Override
     public void forEachRemVal(IntProcedure proc) throws ContradictionException {
-        values.clear();
-        deltamonitor.forEachRemVal(filler);
+        deltamonitor.forEachRemoved(values);
         for (int v = 0; v < values.size(); v++) {
-            proc.execute(transform(values.toArray()[v]));
+            proc.execute(transform(values.get(v)));
+        }
+    }
+
+    @Override
+    public void forEachRemoved(IntDeltaCursor cursor) {
+        deltamonitor.forEachRemoved(cursor);
+        int[] vals = cursor.values();
+        for (int v = 0; v < cursor.size(); v++) {
+            vals[v] = transform(vals[v]);
         }
     }
 
@@ -0,0 +1,184 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of elements in [0, n), each associated with a key.
+ * Ties are broken by the smallest element.
+ * <p>
+ * The position of each element in the heap is maintained, so that membership test is done in O(1)
+ * and insertion, removal and key update are done in O(log n).
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IndexedHeap {
+
+    /**
+     * The heap, as an array of elements
+     */
+    private final int[] heap;
+    /**
+     * Position of each element in {@link #heap}, -1 if absent
+     */
+    private final int[] pos;
+    /**
+     * Key of each element
+     */
+    private final double[] keys;
+    /**
+     * Number of elements in the heap
+     */
+    private int size;
+
+    /**
+     * Create an empty heap for elements in [0, n).
+     * @param n number of elements
+     */
+    public IndexedHeap(int n) {
+        this.heap = new int[n];
+        this.pos = new int[n];
+        this.keys = new double[n];
+        Arrays.fill(pos, -1);
+        this.size = 0;
+    }
+
+    /**
+     * @return number of elements in the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <tt>true</tt> if the heap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param e an element
+     * @return <tt>true</tt> if <i>e</i> is in the heap
+     */
+    public boolean contains(int e) {
+        return pos[e] > -1;
+    }
+
+    /**
+     * @return the element with the smallest key, without removing it
+     */
+    public int peek() {
+        assert size > 0;
+        return heap[0];
+    }
+
+    /**
+     * @param e an element
+     * @return the last key associated with <i>e</i>
+     */
+    public double key(int e) {
+        return keys[e];
+    }
+
+    /**
+     * Add <i>e</i> to the heap, or update its key if it is already in the heap.
+     * @param e an element
+     * @param key its key
+     */
+    public void insert(int e, double key) {
+        if (contains(e)) {
+            update(e, key);
+        } else {
+            keys[e] = key;
+            heap[size] = e;
+            pos[e] = size;
+            siftUp(size++);
+        }
+    }
+
+    /**
+     * Update the key of <i>e</i>, which is expected to be in the heap.
+     * @param e an element
+     * @param key its new key
+     */
+    public void update(int e, double key) {
+        double old = keys[e];
+        keys[e] = key;
+        if (key < old) {
+            siftUp(pos[e]);
+        } else if (key > old) {
+            siftDown(pos[e]);
+        }
+    }
+
+    /**
+     * Remove <i>e</i> from the heap, if present.
+     * @param e an element
+     */
+    public void remove(int e) {
+        int i = pos[e];
+        if (i > -1) {
+            pos[e] = -1;
+            size--;
+            if (i < size) {
+                int l = heap[size];
+                heap[i] = l;
+                pos[l] = i;
+                siftDown(i);
+                siftUp(pos[l]);
+            }
+        }
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private boolean lt(int e1, int e2) {
+        return keys[e1] < keys[e2] || (keys[e1] == keys[e2] && e1 < e2);
+    }
+
+    private void siftUp(int i) {
+        int e = heap[i];
+        while (i > 0) {
+            int p = (i - 1) >> 1;
+            if (!lt(e, heap[p])) break;
+            heap[i] = heap[p];
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = e;
+        pos[e] = i;
+    }
+
+    private void siftDown(int i) {
+        int e = heap[i];
+        while (2 * i + 1 < size) {
+            int c = 2 * i + 1;
+            if (c + 1 < size && lt(heap[c + 1], heap[c])) c++;
+            if (!lt(heap[c], e)) break;
+            heap[i] = heap[c];
+            pos[heap[i]] = i;
+            i = c;
+        }
+        heap[i] = e;
+        pos[e] = i;
+    }
+}
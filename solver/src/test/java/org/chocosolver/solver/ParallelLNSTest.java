@@ -0,0 +1,88 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ParallelLNSTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGolomb() {
+        ParallelLNS plns = new ParallelLNS();
+        for (int w = 0; w < 4; w++) {
+            Model model = ProblemMaker.makeGolombRuler(7);
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            model.getSolver().setSearch(Search.inputOrderLBSearch(ticks));
+            model.getSolver().limitTime("2s");
+            INeighbor neighbor;
+            switch (w) {
+                case 0:
+                    neighbor = INeighborFactory.random(w, ticks);
+                    break;
+                case 1:
+                    neighbor = INeighborFactory.propagationGuided(w, ticks);
+                    break;
+                case 2:
+                    neighbor = INeighborFactory.reversedPropagationGuided(w, ticks);
+                    break;
+                default:
+                    neighbor = INeighborFactory.blackBox(ticks);
+                    break;
+            }
+            plns.addWorker(model, ticks, neighbor, new FailCounter(model, 100));
+        }
+        Assert.assertTrue(plns.solve());
+        Solution best = plns.getBestSolution();
+        Model finder = plns.getBestModel();
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal((IntVar) finder.getObjective()), 25);
+        IntVar[] ticks = (IntVar[]) finder.getHook("ticks");
+        Assert.assertEquals(best.getIntVal(ticks[0]), 0);
+        Assert.assertEquals(best.getIntVal(ticks[6]), 25);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharing() {
+        // each worker is aware of the best solution, even when found by another one
+        ParallelLNS plns = new ParallelLNS();
+        for (int w = 0; w < 2; w++) {
+            Model model = ProblemMaker.makeGolombRuler(6);
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            model.getSolver().setSearch(Search.inputOrderLBSearch(ticks));
+            model.getSolver().limitTime("1s");
+            plns.addWorker(model, ticks, INeighborFactory.random(w, ticks), new FailCounter(model, 10));
+        }
+        Assert.assertTrue(plns.solve());
+        for (Model m : plns.getModels()) {
+            Assert.assertEquals(m.getSolver().getObjectiveManager().getBestSolutionValue(), 17);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoObjective() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        IntVar[] vars = model.retrieveIntVars(true);
+        new ParallelLNS().addWorker(model, vars, INeighborFactory.random(vars));
+    }
+}
@@ -15,14 +15,18 @@ import static org.testng.Assert.assertEquals;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.sat.SatSolver;
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.nary.sat.PropNogoods;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.limits.BacktrackCounter;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMiddle;
 import org.chocosolver.solver.search.strategy.selectors.values.SetDomainMin;
 import org.chocosolver.solver.search.strategy.selectors.variables.Random;
 import org.chocosolver.solver.variables.IntVar;
@@ -127,5 +131,123 @@ public class NogoodTest {
         assertEquals(model.getSolver().getBackTrackCount(), 133);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testInprocessing1() {
+        final Model model = new Model(new DefaultSettings().setTimeLimitForInprocessing(100));
+        IntVar[] vars = model.intVarArray("vars", 3, 0, 3, false);
+        model.getSolver().setNoGoodRecordingFromRestarts();
+        model.getSolver().setSearch(randomSearch(vars, 29091981L));
+        model.getSolver().setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(30), 1000);
+        model.getSolver().limitTime(2000);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 64);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testInprocessing2() {
+        for (int n = 4; n < 9; n++) {
+            long[] counts = new long[2];
+            for (int t = 0; t < 2; t++) {
+                Model model = new Model(new DefaultSettings().setTimeLimitForInprocessing(t * 100));
+                IntVar[] qs = model.intVarArray("q", n, 1, n, false);
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        model.arithm(qs[i], "!=", qs[j]).post();
+                        model.arithm(qs[i], "!=", qs[j], "+", j - i).post();
+                        model.arithm(qs[i], "!=", qs[j], "-", j - i).post();
+                    }
+                }
+                Solver solver = model.getSolver();
+                solver.setSearch(randomSearch(qs, n));
+                solver.setNoGoodRecordingFromRestarts();
+                solver.setLubyRestart(2, new FailCounter(model, 0), 1000);
+                while (solver.solve()) ;
+                counts[t] = solver.getSolutionCount();
+            }
+            assertEquals(counts[1], counts[0]);
+        }
+    }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testInprocessing3() {
+        for (int n = 4; n < 7; n++) {
+            Model model = new Model(new DefaultSettings().setTimeLimitForInprocessing(100));
+            IntVar[] ps = model.intVarArray("p", n + 1, 0, n - 1, false);
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n + 1; j++) {
+                    model.arithm(ps[i], "!=", ps[j]).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setLearningSignedClauses();
+            solver.setLubyRestart(2, new FailCounter(model, 0), 1000);
+            solver.setInprocessingOnRestarts();
+            Assert.assertFalse(solver.solve());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLiteralTables() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", -1_000_000, 1_000_000, true);
+        IntVar y = model.intVar("y", 0, 5, false);
+        PropNogoods ng = model.getNogoodStore().getPropNogoods();
+        int l1 = ng.Literal(x, 0, true);
+        int l2 = ng.Literal(x, 0, false);
+        int l3 = ng.Literal(y, 3, true);
+        Assert.assertNotEquals(l1, l2);
+        // make the table of x grow on both sides
+        int l4 = ng.Literal(x, -999_999, false);
+        int l5 = ng.Literal(x, 999_999, true);
+        int l6 = ng.Literal(y, 12, true);
+        assertEquals(ng.Literal(x, 0, true), l1);
+        assertEquals(ng.Literal(x, 0, false), l2);
+        assertEquals(ng.Literal(y, 3, true), l3);
+        assertEquals(ng.Literal(x, -999_999, false), l4);
+        assertEquals(ng.Literal(x, 999_999, true), l5);
+        assertEquals(ng.Literal(y, 12, true), l6);
+        Assert.assertNotEquals(l3, l6);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testLiteralTablesWideSpan() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", IntVar.MIN_INT_BOUND, IntVar.MAX_INT_BOUND, true);
+        PropNogoods ng = model.getNogoodStore().getPropNogoods();
+        int l1 = ng.Literal(x, 0, true);
+        int l2 = ng.Literal(x, 500_000_000, false);
+        int l3 = ng.Literal(x, 1_000_000_000, true);
+        int l4 = ng.Literal(x, -1_000_000_000, false);
+        int l5 = ng.Literal(x, 1, true);
+        assertEquals(ng.Literal(x, 0, true), l1);
+        assertEquals(ng.Literal(x, 500_000_000, false), l2);
+        assertEquals(ng.Literal(x, 1_000_000_000, true), l3);
+        assertEquals(ng.Literal(x, -1_000_000_000, false), l4);
+        assertEquals(ng.Literal(x, 1, true), l5);
+        Assert.assertNotEquals(ng.Literal(x, 0, false), l1);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNogoodsOnBoundedDomains() {
+        long[] counts = new long[2];
+        for (int t = 0; t < 2; t++) {
+            Model model = new Model();
+            IntVar x = model.intVar("x", -100_000, 100_000, true);
+            IntVar y = model.intVar("y", -100_000, 100_000, true);
+            model.arithm(x, "-", y, "=", 3).post();
+            model.arithm(x, "<=", 40).post();
+            model.arithm(y, ">=", -40).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.intVarSearch(new Random<>(t), new IntDomainMiddle(true),
+                DecisionOperatorFactory.makeIntSplit(), x, y));
+            if (t == 1) {
+                solver.setNoGoodRecordingFromRestarts();
+                solver.setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(5), 1000);
+            }
+            while (solver.solve()) ;
+            counts[t] = solver.getSolutionCount();
+        }
+        assertEquals(counts[0], 78);
+        assertEquals(counts[1], counts[0]);
+    }
 }
@@ -10,14 +10,20 @@
 package org.chocosolver.solver.constraints.nary;
 
 
+import java.util.Arrays;
+import java.util.Random;
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderUBSearch;
 import static org.chocosolver.util.ESat.FALSE;
 import static org.chocosolver.util.ESat.TRUE;
 import static org.testng.Assert.assertEquals;
@@ -201,4 +207,115 @@ public class SatTest {
         assertEquals(solution.getIntVal(var), 2);
 
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPseudoBoolean1() {
+        Random rnd = new Random(0);
+        String[] ops = {">=", "<=", "="};
+        for (int k = 0; k < 30; k++) {
+            int n = 3 + rnd.nextInt(6);
+            int[] coeffs = new int[n];
+            int sum = 0;
+            for (int i = 0; i < n; i++) {
+                coeffs[i] = rnd.nextInt(11) - 3;
+                sum += Math.abs(coeffs[i]);
+            }
+            int degree = rnd.nextInt(sum + 1) - sum / 4;
+            String op = ops[k % 3];
+            long[] counts = new long[2];
+            for (int t = 0; t < 2; t++) {
+                Model model = new Model();
+                BoolVar[] bs = model.boolVarArray("b", n);
+                if (t == 0) {
+                    model.scalar(bs, coeffs, op, degree).post();
+                } else {
+                    model.addPseudoBoolean(bs, coeffs, op, degree);
+                }
+                model.getSolver().setSearch(inputOrderLBSearch(bs));
+                while (model.getSolver().solve()) ;
+                counts[t] = model.getSolver().getSolutionCount();
+            }
+            assertEquals(counts[1], counts[0], "sum(" + Arrays.toString(coeffs) + ".b) " + op + " " + degree);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testPseudoBooleanMinValue() {
+        Model model = new Model();
+        BoolVar[] bs = model.boolVarArray("b", 2);
+        model.addPseudoBoolean(bs, new int[]{Integer.MIN_VALUE, 1}, "<=", 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPseudoBoolean2() {
+        int n = 10_000;
+        Model model = new Model();
+        BoolVar[] bs = model.boolVarArray("b", n);
+        int[] ones = new int[n];
+        Arrays.fill(ones, 1);
+        model.addPseudoBoolean(bs, ones, "=", n / 2);
+        // the first half must be set to 0, the remaining ones are then forced to 1
+        model.getSolver().setSearch(inputOrderLBSearch(bs));
+        Assert.assertTrue(model.getSolver().solve());
+        int cnt = 0;
+        for (int i = 0; i < n; i++) {
+            cnt += bs[i].getValue();
+        }
+        assertEquals(cnt, n / 2);
+        assertEquals(model.getSolver().getFailCount(), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPreprocessing1() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 20; k++) {
+            int n = 10;
+            long seed = rnd.nextLong();
+            long[] counts = new long[2];
+            for (int t = 0; t < 2; t++) {
+                Random r = new Random(seed);
+                Model model = new Model(new DefaultSettings().setEnableSAT(true).setEnableSATPreprocessing(t == 1));
+                BoolVar[] bs = model.boolVarArray("b", n);
+                // some equivalences
+                for (int i = 0; i < 3; i++) {
+                    model.addClausesBoolEq(bs[r.nextInt(n)], bs[r.nextInt(n)]);
+                }
+                // and random 3-clauses
+                for (int i = 0; i < 30; i++) {
+                    BoolVar[] pos = new BoolVar[r.nextInt(4)];
+                    BoolVar[] neg = new BoolVar[3 - pos.length];
+                    for (int j = 0; j < pos.length; j++) {
+                        pos[j] = bs[r.nextInt(n)];
+                    }
+                    for (int j = 0; j < neg.length; j++) {
+                        neg[j] = bs[r.nextInt(n)];
+                    }
+                    model.addClauses(pos, neg);
+                }
+                model.getSolver().setSearch(inputOrderLBSearch(bs));
+                while (model.getSolver().solve()) ;
+                counts[t] = model.getSolver().getSolutionCount();
+            }
+            assertEquals(counts[1], counts[0]);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testPreprocessing2() {
+        Model model = new Model(new DefaultSettings().setEnableSAT(true).setEnableSATPreprocessing(true));
+        BoolVar a = model.boolVar("a");
+        BoolVar b = model.boolVar("b");
+        BoolVar c = model.boolVar("c");
+        // a -> b, a -> c, not(b and c): a is a failed literal
+        model.addClausesBoolLe(a, b);
+        model.addClausesBoolLe(a, c);
+        model.addClauses(new BoolVar[0], new BoolVar[]{b, c});
+        // unit propagation alone cannot fix a, branching on a = 1 would fail
+        model.getSolver().setSearch(inputOrderUBSearch(a, b, c));
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertTrue(a.isInstantiatedTo(0));
+        assertEquals(model.getSolver().getFailCount(), 0);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 3);
+    }
 }
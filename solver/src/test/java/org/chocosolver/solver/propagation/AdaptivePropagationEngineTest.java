@@ -0,0 +1,144 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class AdaptivePropagationEngineTest {
+
+    /**
+     * A slow checker, which only fails when the sum of its variables is not a multiple of 3
+     */
+    private static class PropSumMod3 extends Propagator<IntVar> {
+
+        PropSumMod3(IntVar[] vars) {
+            super(vars, PropagatorPriority.VERY_SLOW, false);
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            if (isCompletelyInstantiated() && isEntailed() == ESat.FALSE) {
+                fails();
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            if (isCompletelyInstantiated()) {
+                int s = 0;
+                for (IntVar v : vars) {
+                    s += v.getValue();
+                }
+                return ESat.eval(s % 3 == 0);
+            }
+            return ESat.UNDEFINED;
+        }
+    }
+
+    private static Model model(Propagator<?>[] checker) {
+        return model(checker, 6);
+    }
+
+    /**
+     * @param checker to store the checker
+     * @param n       number of decision variables, the other ones are auxiliary
+     */
+    private static Model model(Propagator<?>[] checker, int n) {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 4);
+        for (int i = 0; i < x.length - 1; i++) {
+            model.arithm(x[i], "!=", x[i + 1]).post();
+        }
+        checker[0] = new PropSumMod3(x);
+        new Constraint("mod3", checker[0]).post();
+        model.getSolver().setSearch(inputOrderLBSearch(Arrays.copyOf(x, n)));
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testQueens() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testGolomb() {
+        Model model = ProblemMaker.makeGolombRuler(7);
+        model.getSolver().setEngine(new AdaptivePropagationEngine(model));
+        Solver solver = model.getSolver();
+        solver.findOptimalSolution((IntVar) model.getHook("objective"), false);
+        assertEquals(solver.getBestSolutionValue().intValue(), 25);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testReorder() {
+        Propagator<?>[] checker = new Propagator<?>[1];
+        Model ref = model(checker);
+        while (ref.getSolver().solve()) ;
+        Model model = model(checker);
+        AdaptivePropagationEngine engine = new AdaptivePropagationEngine(model);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount());
+        assertEquals(model.getSolver().getNodeCount(), ref.getSolver().getNodeCount());
+        assertTrue(engine.getQueue(checker[0]) < PropagatorPriority.VERY_SLOW.priority);
+        assertEquals(engine.getSkipCount(), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWeakFixpoint() {
+        Propagator<?>[] checker = new Propagator<?>[1];
+        Model ref = model(checker);
+        while (ref.getSolver().solve()) ;
+        Model model = model(checker);
+        AdaptivePropagationEngine engine = new AdaptivePropagationEngine(model, 2, .5);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount());
+        assertTrue(engine.getSkipCount() > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testWeakFixpointAuxiliary() {
+        Propagator<?>[] checker = new Propagator<?>[1];
+        Model ref = model(checker, 5);
+        while (ref.getSolver().solve()) ;
+        Model model = model(checker, 5);
+        AdaptivePropagationEngine engine = new AdaptivePropagationEngine(model, 2, .5);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), ref.getSolver().getSolutionCount());
+        // the checker is also on a variable which is not branched on
+        assertEquals(engine.getSkipCount(), 0);
+    }
+}
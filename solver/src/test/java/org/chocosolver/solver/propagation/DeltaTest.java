@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.propagation;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
@@ -20,8 +21,10 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.delta.EnumDelta;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.IntDeltaCursor;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.procedure.IntProcedure;
+import org.chocosolver.util.procedure.SafeIntProcedure;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -66,6 +69,42 @@ public class DeltaTest {
 
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testCursor() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = {
+                model.intVar("E", 0, 100, false),
+                model.intVar("B", 0, 100, true),
+                model.intMinusView(model.intVar("V", 0, 100, false)),
+                model.boolVar("b")
+        };
+        IntDeltaCursor cursor = new IntDeltaCursor(1);
+        for (IntVar var : vars) {
+            IIntDeltaMonitor monitor = var.monitorDelta(Null);
+            model.getEnvironment().worldPush();
+            if (var.isBool()) {
+                var.updateLowerBound(1, Null);
+            } else {
+                if (var.hasEnumeratedDomain()) {
+                    var.removeValue(var.getLB() + 50, Null);
+                    var.removeInterval(var.getLB() + 10, var.getLB() + 30, Null);
+                }
+                var.updateBounds(var.getLB() + 1, var.getUB() - 2, Null);
+            }
+            monitor.freeze();
+            TIntArrayList expected = new TIntArrayList();
+            monitor.forEachRemVal((SafeIntProcedure) expected::add);
+            monitor.forEachRemoved(cursor);
+            Assert.assertEquals(cursor.size(), expected.size());
+            for (int i = 0; cursor.hasNext(); i++) {
+                Assert.assertEquals(cursor.next(), expected.get(i));
+                Assert.assertEquals(cursor.get(i), expected.get(i));
+            }
+            monitor.unfreeze();
+            model.getEnvironment().worldPop();
+        }
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void testJL() {
         Model model = new Model();
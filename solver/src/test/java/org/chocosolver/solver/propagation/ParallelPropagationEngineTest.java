@@ -0,0 +1,209 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.chocosolver.solver.constraints.nary.automata.FA.CostAutomaton.makeSingleResource;
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ParallelPropagationEngineTest {
+
+    /**
+     * Build <i>k</i> n-queens problems, the first queens of which are increasing
+     * (the common pool is used when <i>pool</i> is null)
+     */
+    private static Model blocks(boolean parallel, int k, int n, boolean linked, ForkJoinPool pool) {
+        Model model = parallel ?
+                new Model(new EnvironmentBuilder().fromFlat().synchronize().build(), "par", new DefaultSettings()) :
+                new Model("seq");
+        IntVar[] all = new IntVar[k * n];
+        IntVar[] firsts = new IntVar[k];
+        for (int b = 0; b < k; b++) {
+            IntVar[] q = model.intVarArray("Q" + b, n, 1, n);
+            IntVar[] d1 = new IntVar[n];
+            IntVar[] d2 = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                d1[i] = model.intOffsetView(q[i], i);
+                d2[i] = model.intOffsetView(q[i], -i);
+            }
+            model.allDifferent(q, "AC").post();
+            model.allDifferent(d1, "BC").post();
+            model.allDifferent(d2, "BC").post();
+            System.arraycopy(q, 0, all, b * n, n);
+            firsts[b] = q[0];
+        }
+        Set<Propagator> links = new HashSet<>();
+        for (int b = 1; b < k; b++) {
+            Constraint c = model.arithm(firsts[b - 1], "<", firsts[b]);
+            c.post();
+            links.addAll(Arrays.asList(c.getPropagators()));
+        }
+        Solver solver = model.getSolver();
+        if (parallel) {
+            solver.setEngine(new ParallelPropagationEngine(model,
+                    pool != null ? pool : ForkJoinPool.commonPool(),
+                    p -> linked && links.contains(p)));
+        }
+        solver.setSearch(inputOrderLBSearch(all));
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testDeterministic() {
+        for (int t = 1; t < 5; t++) {
+            ForkJoinPool pool = new ForkJoinPool(t);
+            try {
+                Model seq = blocks(false, 3, 6, true, null);
+                Model par = blocks(true, 3, 6, true, pool);
+                while (seq.getSolver().solve()) ;
+                while (par.getSolver().solve()) ;
+                assertEquals(((ParallelPropagationEngine) par.getSolver().getEngine()).getNbComponents(), 3);
+                assertEquals(par.getSolver().getSolutionCount(), 4);
+                assertEquals(par.getSolver().getSolutionCount(), seq.getSolver().getSolutionCount());
+                assertEquals(par.getSolver().getNodeCount(), seq.getSolver().getNodeCount());
+                assertEquals(par.getSolver().getFailCount(), seq.getSolver().getFailCount());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOneComponent() {
+        Model seq = blocks(false, 3, 6, false, null);
+        Model par = blocks(true, 3, 6, false, null);
+        while (seq.getSolver().solve()) ;
+        while (par.getSolver().solve()) ;
+        assertEquals(((ParallelPropagationEngine) par.getSolver().getEngine()).getNbComponents(), 0);
+        assertEquals(par.getSolver().getSolutionCount(), seq.getSolver().getSolutionCount());
+        assertEquals(par.getSolver().getNodeCount(), seq.getSolver().getNodeCount());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testRestarts() {
+        Model seq = blocks(false, 4, 10, true, null);
+        Model par = blocks(true, 4, 10, true, null);
+        seq.getSolver().setLubyRestart(2, new FailCounter(seq, 0), 500);
+        par.getSolver().setLubyRestart(2, new FailCounter(par, 0), 500);
+        assertTrue(seq.getSolver().solve());
+        assertTrue(par.getSolver().solve());
+        assertEquals(par.getSolver().getRestartCount(), seq.getSolver().getRestartCount());
+        assertEquals(par.getSolver().getNodeCount(), seq.getSolver().getNodeCount());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testConcurrentFailures() throws ContradictionException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int t = 0; t < 100; t++) {
+                Model model = new Model(new EnvironmentBuilder().fromFlat().synchronize().build(), "par", new DefaultSettings());
+                for (int b = 0; b < 8; b++) {
+                    IntVar[] x = model.intVarArray("X" + b, 20, 10, 19);
+                    IntVar[] y = model.intVarArray("Y" + b, 20, 0, 9);
+                    for (int i = 0; i < 20; i++) {
+                        model.arithm(x[i], "<", y[i]).post();
+                    }
+                }
+                Solver solver = model.getSolver();
+                solver.setEngine(new ParallelPropagationEngine(model, pool, p -> false));
+                solver.getEngine().initialize();
+                try {
+                    solver.getEngine().propagate();
+                    fail();
+                } catch (ContradictionException e) {
+                    // the variable belongs to the failing propagator
+                    Propagator<?> p = (Propagator<?>) e.c;
+                    assertTrue(Arrays.asList(p.getVars()).contains(e.v), e.c + " " + e.v);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testNotSynchronized() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.arithm(x[0], "!=", x[1]).post();
+        model.arithm(x[2], "!=", x[3]).post();
+        model.getSolver().setEngine(new ParallelPropagationEngine(model));
+        model.getSolver().solve();
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class,
+            expectedExceptionsMessageRegExp = ".*vectors.*")
+    public void testVectors() {
+        // cost-regular relies on vectors of stored values, which are not synchronized
+        Model model = new Model(new EnvironmentBuilder().fromFlat().synchronize().build(), "par", new DefaultSettings());
+        IntVar[] x = model.intVarArray("x", 4, 0, 2);
+        IntVar cost = model.intVar("c", 0, 4);
+        FiniteAutomaton auto = new FiniteAutomaton();
+        int start = auto.addState();
+        auto.setInitialState(start);
+        auto.setFinal(start);
+        auto.addTransition(start, start, 0, 1, 2);
+        int[][][] costs = new int[4][3][1];
+        for (int i = 0; i < costs.length; i++) {
+            costs[i][1][0] = 1;
+        }
+        model.costRegular(x, cost, makeSingleResource(auto, costs, cost.getLB(), cost.getUB())).post();
+        IntVar[] y = model.intVarArray("y", 2, 0, 3);
+        model.arithm(y[0], "!=", y[1]).post();
+        model.getSolver().setEngine(new ParallelPropagationEngine(model));
+        model.getSolver().solve();
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testBenchmark() {
+        Model seq = blocks(false, 4, 12, true, null);
+        seq.getSolver().limitSolution(200);
+        while (seq.getSolver().solve()) ;
+        for (int t : new int[]{1, 2, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(t);
+            try {
+                Model par = blocks(true, 4, 12, true, pool);
+                par.getSolver().limitSolution(200);
+                while (par.getSolver().solve()) ;
+                assertEquals(par.getSolver().getSolutionCount(), 200);
+                assertEquals(par.getSolver().getNodeCount(), seq.getSolver().getNodeCount());
+                assertEquals(par.getSolver().getFailCount(), seq.getSolver().getFailCount());
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
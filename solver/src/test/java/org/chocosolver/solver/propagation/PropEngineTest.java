@@ -14,6 +14,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.sum.PropScalar;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
@@ -210,4 +211,114 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCoalescing() {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        Solver solver = model.getSolver();
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertTrue(solver.getEngine().getCoalescedEventCount() > 0);
+    }
+
+    /**
+     * Increases the lower bound of a variable by one, up to 5, at each call
+     */
+    private static class PropStepLB extends Propagator<IntVar> {
+
+        int calls;
+
+        PropStepLB(IntVar x, boolean declare, boolean idempotent) {
+            super(new IntVar[]{x}, UNARY, false);
+            if (declare) {
+                declareIdempotence(idempotent);
+            }
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            calls++;
+            if (vars[0].getLB() < 5) {
+                vars[0].updateLowerBound(vars[0].getLB() + 1, this);
+            }
+        }
+
+        @Override
+        public ESat isEntailed() {
+            return ESat.UNDEFINED;
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNotIdempotent() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 9);
+        IntVar y = model.intVar("y", 0, 9);
+        new Constraint("c1", new PropStepLB(x, false, false)).post();
+        new Constraint("c2", new PropStepLB(y, true, false)).post();
+        model.getSolver().propagate();
+        assertEquals(x.getLB(), 1);
+        assertEquals(y.getLB(), 5);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testUpToDate() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 5, 9);
+        PropStepLB p = new PropStepLB(x, true, true);
+        new Constraint("c", p).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        assertEquals(p.calls, 1);
+        solver.getEngine().schedule(p, 0, ALL_EVENTS);
+        solver.getEngine().propagate();
+        assertEquals(p.calls, 1);
+        assertEquals(solver.getEngine().getUpToDateSkipCount(), 1);
+        x.updateUpperBound(8, Null);
+        solver.getEngine().propagate();
+        assertEquals(p.calls, 2);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testUpToDateScalar() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 50);
+        IntVar y = model.intVar("y", 0, 50);
+        IntVar z = model.intVar("z", 0, 200, true);
+        Constraint c = model.scalar(new IntVar[]{x, y}, new int[]{2, 3}, "=", z);
+        c.post();
+        Propagator<?> p = c.getPropagator(0);
+        Assert.assertTrue(p instanceof PropScalar);
+        Solver solver = model.getSolver();
+        solver.propagate();
+        String domains = x + " " + y + " " + z;
+        // a redundant run is skipped
+        solver.getEngine().schedule(p, 0, ALL_EVENTS);
+        solver.getEngine().propagate();
+        assertEquals(solver.getEngine().getUpToDateSkipCount(), 1);
+        assertEquals(x + " " + y + " " + z, domains);
+        // and would not have filtered anything
+        p.propagate(ALL_EVENTS);
+        assertEquals(x + " " + y + " " + z, domains);
+        // after a modification, the propagator runs again
+        z.updateUpperBound(100, Null);
+        solver.getEngine().propagate();
+        assertEquals(solver.getEngine().getUpToDateSkipCount(), 1);
+        assertEquals(x.getUB(), 50);
+        assertEquals(y.getUB(), 33);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testUpToDateDependentVariables() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 20);
+        IntVar z = model.intVar("z", 0, 200, true);
+        Constraint c = model.scalar(new IntVar[]{x, model.intMinusView(x)}, new int[]{5, 1}, "=", z);
+        c.post();
+        Propagator<?> p = c.getPropagator(0);
+        Assert.assertTrue(p instanceof PropScalar);
+        model.getSolver().propagate();
+        // a variable and its view: filtering one modifies the other, so runs are never skipped
+        assertFalse(p.isUpToDate());
+    }
 }
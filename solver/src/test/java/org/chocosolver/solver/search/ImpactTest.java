@@ -41,6 +41,29 @@ public class ImpactTest {
 		assertEquals(s1.getSolver().getSolutionCount(), s2.getSolver().getSolutionCount());
 	}
 
+	@Test(groups="1s", timeOut=60000)
+	public void testParallelInit() {
+		long[][] counts = new long[2][];
+		for (int t = 0; t < 2; t++) {
+			Model model = ProblemMaker.makeCostasArrays(6);
+			IntVar[] vectors = (IntVar[]) model.getHook("vectors");
+			ImpactBased ibs = new ImpactBased(vectors, 2, 3, 10, 0, true);
+			if (t == 1) {
+				IntVar[][] copies = new IntVar[3][];
+				for (int i = 0; i < copies.length; i++) {
+					copies[i] = (IntVar[]) ProblemMaker.makeCostasArrays(6).getHook("vectors");
+				}
+				ibs.setParallelInitialisation(copies);
+			}
+			Solver r = model.getSolver();
+			r.setSearch(ibs);
+			while (r.solve()) ;
+			counts[t] = new long[]{r.getSolutionCount(), r.getNodeCount()};
+		}
+		// impacts are the same, so is the search
+		assertEquals(counts[1], counts[0]);
+	}
+
 	private Model costasArray(int n, boolean impact){
 		Model model = ProblemMaker.makeCostasArrays(n);
 		IntVar[] vectors = (IntVar[]) model.getHook("vectors");
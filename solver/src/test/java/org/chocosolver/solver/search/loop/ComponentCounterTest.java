@@ -0,0 +1,84 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class ComponentCounterTest {
+
+    /**
+     * A hub variable and <i>k</i> spokes, each spoke being made of two variables
+     */
+    private static Model star(int k, int n) {
+        Model model = new Model();
+        IntVar hub = model.intVar("h", 0, 2);
+        for (int i = 0; i < k; i++) {
+            IntVar a = model.intVar("a" + i, 0, n);
+            IntVar b = model.intVar("b" + i, 0, n);
+            model.arithm(a, "!=", b).post();
+            model.arithm(model.intOffsetView(a, 1), "!=", hub).post();
+            model.arithm(b, "+", hub, "<=", n).post();
+        }
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testStar() {
+        for (int k = 1; k < 5; k++) {
+            Model model = star(k, 3);
+            ComponentCounter counter = new ComponentCounter(model);
+            long count = counter.count();
+            assertTrue(counter.getSplitCount() > 0 || k == 1);
+            model.getSolver().findAllSolutions();
+            assertEquals(count, model.getSolver().getSolutionCount());
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBlocks() {
+        Model model = new Model();
+        for (int b = 0; b < 6; b++) {
+            model.allDifferent(model.intVarArray("X" + b, 3, 0, 2)).post();
+        }
+        ComponentCounter counter = new ComponentCounter(model);
+        assertEquals(counter.count(), 46656);
+        assertEquals(counter.getSplitCount(), 1);
+        assertEquals(counter.getNodeCount(), 54);
+        assertEquals(counter.components(model.retrieveIntVars(true)).size(), 6);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNoSolution() {
+        Model model = star(3, 1);
+        model.arithm(model.intVar("z", 0, 1), "=", 2).post();
+        assertEquals(new ComponentCounter(model).count(), 0);
+        model.getSolver().findAllSolutions();
+        assertEquals(model.getSolver().getSolutionCount(), 0);
+    }
+
+    @Test(groups="1s", timeOut=60000, expectedExceptions = SolverException.class)
+    public void testSetVar() {
+        Model model = new Model();
+        model.setVar("s", new int[0], new int[]{1, 2});
+        new ComponentCounter(model).count();
+    }
+}
@@ -20,7 +20,11 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.limits.BacktrackCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.CriticalPathNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.GraphDistanceNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.lns.neighbors.ObjectiveGuidedNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.ReversePropagationGuidedNeighborhood;
@@ -35,6 +39,7 @@ import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
 import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -98,6 +103,19 @@ public class LNSTest {
                 r.setNoGoodRecordingFromRestarts();
                 r.setLNS(new RandomNeighborhood(objects, 200, 123456L));
                 break;
+            case 8:
+                r.setLNS(INeighborFactory.objectiveGuided(123456L, energies, objects));
+                break;
+            case 9:
+                r.setLNS(INeighborFactory.graphDistance(123456L, objects));
+                break;
+            case 7:
+                r.setLNS(INeighborFactory.bandit(power,
+                        new PropagationGuidedNeighborhood(objects, 25, 10, 123456L),
+                        new ReversePropagationGuidedNeighborhood(objects, 25, 10, 123456L),
+                        new RandomNeighborhood(objects, 200, 123456L)
+                ));
+                break;
         }
         model.setObjective(Model.MAXIMIZE, power);
         int bw = 0, bp = 0;
@@ -111,7 +129,7 @@ public class LNSTest {
 
     @DataProvider(name = "lns")
     public Object[][] createData() {
-        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}};
+        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}, {7}, {8}, {9}};
     }
 
 
@@ -373,6 +391,150 @@ public class LNSTest {
         Assert.assertTrue(obj1<obj2); // on this data set LNS improves results
     }
 
+    private static class CountingNeighbor implements INeighbor {
+        int fixes, relaxes;
+
+        @Override
+        public void recordSolution() {
+        }
+
+        @Override
+        public void fixSomeVariables() {
+            fixes++;
+        }
+
+        @Override
+        public void restrictLess() {
+            relaxes++;
+        }
+
+        @Override
+        public void loadFromSolution(Solution solution) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBandit() throws ContradictionException {
+        Model model = new Model();
+        IntVar obj = model.intVar("obj", 0, 1000);
+        CountingNeighbor good = new CountingNeighbor();
+        CountingNeighbor bad = new CountingNeighbor();
+        BanditNeighborhood bandit = new BanditNeighborhood(obj, Math.sqrt(2), bad, good);
+        int value = 1000;
+        model.getEnvironment().worldPush();
+        obj.instantiateTo(value, Cause.Null);
+        bandit.recordSolution();
+        model.getEnvironment().worldPop();
+        for (int i = 0; i < 200; i++) {
+            int before = good.fixes;
+            bandit.fixSomeVariables();
+            if (good.fixes > before) {
+                // the good neighbor always improves the objective
+                model.getEnvironment().worldPush();
+                obj.instantiateTo(--value, Cause.Null);
+                bandit.recordSolution();
+                model.getEnvironment().worldPop();
+            } else {
+                bandit.restrictLess();
+            }
+        }
+        Assert.assertEquals(bandit.getPulls(0), bad.fixes);
+        Assert.assertEquals(bandit.getPulls(1), good.fixes);
+        Assert.assertEquals(bad.fixes + good.fixes, 200);
+        Assert.assertEquals(bad.relaxes, bad.fixes);
+        Assert.assertEquals(good.relaxes, 0);
+        Assert.assertTrue(good.fixes > 3 * bad.fixes, good.fixes + " vs. " + bad.fixes);
+    }
+
+    private static void record(INeighbor neighbor, IntVar[] vars, int[] values) throws ContradictionException {
+        vars[0].getModel().getEnvironment().worldPush();
+        for (int i = 0; i < vars.length; i++) {
+            vars[i].instantiateTo(values[i], Cause.Null);
+        }
+        neighbor.recordSolution();
+        vars[0].getModel().getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testObjectiveGuided() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 5, 0, 10);
+        int[] coeffs = {1, 2, 3, 4, 5};
+        IntVar obj = model.intVar("obj", 0, 150);
+        model.scalar(xs, coeffs, "=", obj).post();
+        model.setObjective(Model.MINIMIZE, obj);
+        ObjectiveGuidedNeighborhood neighbor = new ObjectiveGuidedNeighborhood(xs, (i, v) -> coeffs[i] * v, .2, 0L);
+        neighbor.init();
+        record(neighbor, xs, new int[]{10, 10, 10, 10, 10});
+        int[] relaxed = new int[5];
+        for (int k = 0; k < 100; k++) {
+            model.getEnvironment().worldPush();
+            neighbor.fixSomeVariables();
+            int free = 0;
+            for (int i = 0; i < 5; i++) {
+                if (!xs[i].isInstantiated()) {
+                    relaxed[i]++;
+                    free++;
+                }
+            }
+            Assert.assertEquals(free, 1);
+            model.getEnvironment().worldPop();
+        }
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(relaxed[4] > relaxed[i]);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCriticalPath() throws ContradictionException {
+        Model model = new Model();
+        int[] durations = {2, 3, 1, 2};
+        Task[] tasks = new Task[4];
+        IntVar[] starts = model.intVarArray("s", 4, 0, 10);
+        for (int i = 0; i < 4; i++) {
+            tasks[i] = new Task(starts[i], durations[i]);
+        }
+        CriticalPathNeighborhood neighbor = new CriticalPathNeighborhood(tasks, .5, 0L);
+        neighbor.init();
+        // t0 then t1 end at the makespan, t2 and t3 do not
+        record(neighbor, starts, new int[]{0, 2, 0, 1});
+        model.getEnvironment().worldPush();
+        neighbor.fixSomeVariables();
+        Assert.assertFalse(starts[0].isInstantiated());
+        Assert.assertFalse(starts[1].isInstantiated());
+        Assert.assertTrue(starts[2].isInstantiatedTo(0));
+        Assert.assertTrue(starts[3].isInstantiatedTo(1));
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGraphDistance() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 6, 0, 5);
+        for (int i = 0; i < 5; i++) {
+            model.arithm(xs[i], "!=", xs[i + 1]).post();
+        }
+        GraphDistanceNeighborhood neighbor = new GraphDistanceNeighborhood(xs, .5, 0L);
+        neighbor.init();
+        record(neighbor, xs, new int[]{0, 1, 0, 1, 0, 1});
+        for (int k = 0; k < 20; k++) {
+            model.getEnvironment().worldPush();
+            neighbor.fixSomeVariables();
+            int first = -1, last = -1, free = 0;
+            for (int i = 0; i < 6; i++) {
+                if (!xs[i].isInstantiated()) {
+                    if (first == -1) first = i;
+                    last = i;
+                    free++;
+                }
+            }
+            // relaxed variables are consecutive in the chain
+            Assert.assertEquals(free, 3);
+            Assert.assertEquals(last - first, 2);
+            model.getEnvironment().worldPop();
+        }
+    }
+
     private static int testKnapsackSet(int nos, boolean lns) {
         int[] capacities = {99, 1101};
         int[] volumesDef = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
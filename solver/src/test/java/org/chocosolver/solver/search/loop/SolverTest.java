@@ -15,10 +15,14 @@ import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.loop.move.MoveBinaryDFS;
+import org.chocosolver.solver.search.loop.move.MoveBinaryHBFSBounded;
 import org.chocosolver.solver.search.loop.move.MoveBinaryLDS;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
 import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
 import org.chocosolver.solver.variables.BoolVar;
@@ -112,6 +116,28 @@ public class SolverTest {
         assertEquals(model.getSolver().getNodeCount(), 5881);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void test2HBFS() {
+        for (long budget : new long[]{Long.MAX_VALUE, 512, 0}) {
+            Model model = makeGolombRuler(7);
+            Solver r = model.getSolver();
+            r.setSearch(inputOrderLBSearch(model.retrieveIntVars(false)));
+            r.setHBFS(.05, .1, 32, budget);
+            MoveBinaryHBFSBounded move = (MoveBinaryHBFSBounded) r.getMove();
+            long max = 0;
+            while (model.getSolver().solve()) {
+                max = Math.max(max, move.getUsedMemory());
+            }
+            assertEquals(r.getSearchState(), SearchState.TERMINATED);
+            assertEquals(r.getBestSolutionValue().intValue(), 25);
+            if (budget == 0) {
+                Assert.assertTrue(move.getNbOpens() <= 1);
+            } else if (budget == 512) {
+                Assert.assertTrue(max <= budget);
+            }
+        }
+    }
+
     @Test(groups="1s", timeOut=60000)
     public void test2DFS() {
         Model model = makeNQueenWithOneAlldifferent(8);
@@ -315,4 +341,33 @@ public class SolverTest {
             Assert.assertEquals(0, countSolutions(solver, strategy));
         }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestartFromSnapshot() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        model.arithm(x, "<", y).post();
+        model.setObjective(Model.MINIMIZE, y);
+        Solver solver = model.getSolver();
+        solver.setSearch(intVarSearch(new InputOrder<>(model), new IntDomainMax(), y, x));
+        int[] events = new int[1];
+        y.addMonitor((v, e) -> events[0]++);
+        Assert.assertTrue(solver.solve());
+        Assert.assertEquals(y.getValue(), 10);
+        // no snapshot yet, the cut is propagated from the root node
+        solver.restartFromSnapshot();
+        Assert.assertEquals(y.getUB(), 9);
+        int before = events[0];
+        // the root node is restored as is, with the cut
+        solver.restartFromSnapshot();
+        Assert.assertEquals(y.getUB(), 9);
+        Assert.assertEquals(events[0], before);
+        solver.restart();
+        Assert.assertEquals(y.getUB(), 9);
+        Assert.assertTrue(events[0] > before);
+        Assert.assertEquals(solver.getRestartCount(), 3);
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getBestSolutionValue().intValue(), 1);
+    }
+
 }
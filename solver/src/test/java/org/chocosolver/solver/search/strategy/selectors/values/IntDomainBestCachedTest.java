@@ -0,0 +1,94 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IntDomainBestCachedTest {
+
+    private static Model model(IntVar[][] holder) {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 6, 0, 9);
+        model.allDifferent(xs).post();
+        model.arithm(xs[0], "+", xs[1], ">", 10).post();
+        IntVar obj = model.intVar("obj", 0, 999);
+        model.scalar(xs, new int[]{7, 3, 5, 1, 4, 2}, "=", obj).post();
+        model.setObjective(Model.MINIMIZE, obj);
+        holder[0] = xs;
+        return model;
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSelectValue1() throws ContradictionException {
+        IntVar[][] xs = new IntVar[1][];
+        Model model = model(xs);
+        IntDomainBestCached sel = new IntDomainBestCached(xs[0]);
+        model.getSolver().propagate();
+        // x0 + x1 > 10, so x0 = 2 is the best assignment
+        Assert.assertEquals(sel.selectValue(xs[0][0]), 2);
+        Assert.assertEquals(sel.selectValue(xs[0][0]), 2);
+        model.getEnvironment().worldPush();
+        xs[0][0].removeValue(2, Cause.Null);
+        model.getSolver().propagate();
+        Assert.assertEquals(sel.selectValue(xs[0][0]), 3);
+        model.getEnvironment().worldPop();
+        // restored on backtrack
+        Assert.assertEquals(sel.selectValue(xs[0][0]), 2);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testOptimum() {
+        int[] best = new int[4];
+        for (int t = 0; t < 4; t++) {
+            IntVar[][] xs = new IntVar[1][];
+            Model model = model(xs);
+            Solver solver = model.getSolver();
+            IntValueSelector sel;
+            switch (t) {
+                case 0:
+                    sel = new IntDomainBest();
+                    break;
+                case 1:
+                    sel = new IntDomainBestCached(xs[0]);
+                    break;
+                case 2:
+                    sel = new IntDomainBestCached(xs[0], 100, DecisionOperatorFactory.makeIntEq(), 3, 0);
+                    break;
+                default:
+                    sel = new IntDomainBestCached(xs[0], 100, DecisionOperatorFactory.makeIntSplit(), 0, 0);
+                    break;
+            }
+            solver.setSearch(Search.intVarSearch(new FirstFail(model), sel,
+                    t == 3 ? DecisionOperatorFactory.makeIntSplit() : DecisionOperatorFactory.makeIntEq(), xs[0]));
+            Solution sol = solver.findOptimalSolution((IntVar) model.getObjective(), false);
+            Assert.assertNotNull(sol);
+            best[t] = sol.getIntVal((IntVar) model.getObjective());
+        }
+        Assert.assertEquals(best[1], best[0]);
+        Assert.assertEquals(best[2], best[0]);
+        Assert.assertEquals(best[3], best[0]);
+    }
+}
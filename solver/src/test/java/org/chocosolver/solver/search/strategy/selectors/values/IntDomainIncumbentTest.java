@@ -0,0 +1,114 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.cutoffseq.GeometricalCutoffStrategy;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IntDomainIncumbentTest {
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSelectValue1() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10, true);
+        IntDomainIncumbent sel = new IntDomainIncumbent(new IntVar[]{x, y}, new IntDomainMin());
+        Assert.assertEquals(sel.selectValue(x), 0);
+        model.getEnvironment().worldPush();
+        x.instantiateTo(5, Cause.Null);
+        y.instantiateTo(7, Cause.Null);
+        sel.onSolution();
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(sel.selectValue(x), 5);
+        // bounded domain, value is not a bound
+        Assert.assertEquals(sel.selectValue(y), 0);
+        y.updateUpperBound(7, Cause.Null);
+        Assert.assertEquals(sel.selectValue(y), 7);
+        x.removeValue(5, Cause.Null);
+        Assert.assertEquals(sel.selectValue(x), 0);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSelectValue2() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        IntVar z = model.intVar("z", 0, 10);
+        IntDomainIncumbent sel = new IntDomainIncumbent(new IntVar[]{x, z}, new IntDomainMax());
+        model.getEnvironment().worldPush();
+        x.instantiateTo(0, Cause.Null);
+        y.instantiateTo(0, Cause.Null);
+        sel.onSolution();
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(sel.selectValue(x), 0);
+        // y is not recorded, z was not instantiated in the solution
+        Assert.assertEquals(sel.selectValue(y), 10);
+        Assert.assertEquals(sel.selectValue(z), 10);
+    }
+
+    private static Model knapsack(IntVar[][] holder) {
+        Model model = new Model();
+        int[] weights = {11, 13, 17, 19, 23, 29, 31, 37};
+        int[] profits = {7, 9, 12, 13, 16, 20, 21, 25};
+        IntVar[] xs = model.intVarArray("x", weights.length, 0, 3);
+        IntVar w = model.intVar("w", 0, 120);
+        IntVar p = model.intVar("p", 0, 999);
+        model.scalar(xs, weights, "=", w).post();
+        model.scalar(xs, profits, "=", p).post();
+        model.setObjective(Model.MAXIMIZE, p);
+        holder[0] = xs;
+        return model;
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSolutionGuidedSearch() {
+        int[] best = new int[3];
+        for (int t = 0; t < 3; t++) {
+            IntVar[][] xs = new IntVar[1][];
+            Model model = knapsack(xs);
+            Solver solver = model.getSolver();
+            switch (t) {
+                case 0:
+                    solver.setSearch(Search.inputOrderLBSearch(xs[0]));
+                    break;
+                case 1:
+                    solver.setSolutionGuidedSearch(xs[0]);
+                    break;
+                default:
+                    solver.setSolutionGuidedSearch(new FirstFail(model), new IntDomainMax(),
+                            new GeometricalCutoffStrategy(10, 1.2), xs[0]);
+                    break;
+            }
+            Solution sol = solver.findOptimalSolution((IntVar) model.getObjective(), true);
+            Assert.assertNotNull(sol);
+            best[t] = sol.getIntVal((IntVar) model.getObjective());
+            if (t == 1) {
+                Assert.assertTrue(solver.getRestartCount() > 0);
+            }
+        }
+        Assert.assertEquals(best[1], best[0]);
+        Assert.assertEquals(best[2], best[0]);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IntDomainPhaseTest {
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSelectValue1() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10, true);
+        IntDomainPhase sel = new IntDomainPhase(new IntVar[]{x, y}, new IntDomainMin());
+        Assert.assertEquals(sel.selectValue(x), 0);
+        Assert.assertEquals(sel.selectValue(y), 0);
+        model.getEnvironment().worldPush();
+        x.instantiateTo(5, Cause.Null);
+        y.updateUpperBound(7, Cause.Null);
+        y.updateLowerBound(7, Cause.Null);
+        model.getEnvironment().worldPop();
+        // recorded values survive backtrack
+        Assert.assertEquals(sel.selectValue(x), 5);
+        // bounded domain, value is not a bound
+        Assert.assertEquals(sel.selectValue(y), 0);
+        y.updateUpperBound(7, Cause.Null);
+        Assert.assertEquals(sel.selectValue(y), 7);
+        x.removeValue(5, Cause.Null);
+        Assert.assertEquals(sel.selectValue(x), 0);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testSelectValue2() {
+        for (int n = 6; n < 10; n++) {
+            long[] counts = new long[2];
+            for (int t = 0; t < 2; t++) {
+                Model model = new Model();
+                IntVar[] qs = model.intVarArray("q", n, 1, n, false);
+                model.allDifferent(qs).post();
+                for (int i = 0; i < n - 1; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        model.arithm(qs[i], "!=", qs[j], "+", j - i).post();
+                        model.arithm(qs[i], "!=", qs[j], "-", j - i).post();
+                    }
+                }
+                Solver solver = model.getSolver();
+                IntValueSelector vsel = new IntDomainMin();
+                if (t == 1) {
+                    vsel = new IntDomainPhase(qs, vsel);
+                }
+                solver.setSearch(Search.intVarSearch(new FirstFail(model), vsel, qs));
+                solver.setNoGoodRecordingFromRestarts();
+                solver.setLubyRestart(2, new FailCounter(model, 0), 1000);
+                while (solver.solve()) ;
+                counts[t] = solver.getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0]);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.sat.PropNogoods;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class FailureBasedTest {
+
+    @DataProvider(name = "selectors")
+    public Object[][] selectors() {
+        return new Object[][]{
+                {(Function<IntVar[], FailureBased>) vs -> new DomOverWDegCACD(vs, 0)},
+                {(Function<IntVar[], FailureBased>) vs -> new ConflictHistorySearch(vs, 0)},
+                {(Function<IntVar[], FailureBased>) vs -> new PickOnDom(vs, 0)},
+        };
+    }
+
+    @Test(timeOut = 60000, groups = "1s", dataProvider = "selectors")
+    public void testQueens(Function<IntVar[], FailureBased> factory) {
+        int n = 8;
+        Model model = new Model();
+        IntVar[] qs = model.intVarArray("q", n, 1, n, false);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(qs[i], "!=", qs[j]).post();
+                model.arithm(qs[i], "!=", qs[j], "+", -k).post();
+                model.arithm(qs[i], "!=", qs[j], "+", k).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(factory.apply(qs), new IntDomainMin(), qs));
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        Assert.assertTrue(solver.getFailCount() > 0);
+        solver.reset();
+        solver.setLubyRestart(2, new FailCounter(model, 2), 1000);
+        Assert.assertTrue(solver.solve());
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testDomOverWDegCACD() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        Constraint c1 = model.arithm(xs[0], "!=", xs[1]);
+        c1.post();
+        model.arithm(xs[1], "!=", xs[2]).post();
+        model.arithm(xs[2], "!=", xs[3]).post();
+        DomOverWDegCACD sel = new DomOverWDegCACD(xs, 0);
+        sel.onContradiction(new ContradictionException().set(c1.getPropagator(0), xs[0], ""));
+        Assert.assertEquals(sel.getVariable(xs), xs[1]);
+        // x1: 1 + 1/2 + 1, x2: 2, x0: 1 + 1/2
+        Assert.assertEquals(sel.weight(xs[1]), 2.5, 1e-9);
+        Assert.assertEquals(sel.weight(xs[0]), 1.5, 1e-9);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testDomOverWDegCACDGrowingPropagator() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 5);
+        model.arithm(xs[1], "!=", xs[2]).post();
+        PropNogoods ng = model.getNogoodStore().getPropNogoods();
+        ng.initialize();
+        ng.Literal(xs[0], 1, true);
+        ng.Literal(xs[2], 1, true);
+        DomOverWDegCACD sel = new DomOverWDegCACD(xs, 0);
+        sel.onContradiction(new ContradictionException().set(ng, xs[0], ""));
+        // a variable is added to the propagator after its weights were allocated
+        ng.Literal(xs[1], 1, true);
+        Assert.assertEquals(sel.weight(xs[1]), 2, 1e-9);
+        sel.onContradiction(new ContradictionException().set(ng, xs[0], ""));
+        Assert.assertEquals(sel.weight(xs[1]), 2 + 1 / 3d, 1e-9);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testPlugAndUnplug() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        PickOnDom sel = new PickOnDom(xs, 0);
+        IntStrategy strategy = Search.intVarSearch(sel, new IntDomainMin(), xs);
+        Solver solver = model.getSolver();
+        Assert.assertFalse(solver.getSearchMonitors().contains(sel));
+        Assert.assertTrue(strategy.init());
+        Assert.assertTrue(solver.getSearchMonitors().contains(sel));
+        strategy.remove();
+        Assert.assertFalse(solver.getSearchMonitors().contains(sel));
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testConflictHistorySearch() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        Constraint c1 = model.arithm(xs[0], "!=", xs[1]);
+        c1.post();
+        Constraint c2 = model.arithm(xs[2], "!=", xs[3]);
+        c2.post();
+        ConflictHistorySearch sel = new ConflictHistorySearch(xs, 0);
+        sel.onContradiction(new ContradictionException().set(c1.getPropagator(0), xs[0], ""));
+        IntVar var = sel.getVariable(xs);
+        Assert.assertTrue(var == xs[0] || var == xs[1]);
+        for (int i = 0; i < 3; i++) {
+            sel.onContradiction(new ContradictionException().set(c2.getPropagator(0), xs[2], ""));
+        }
+        // c2 failed more often and more recently than c1
+        var = sel.getVariable(xs);
+        Assert.assertTrue(var == xs[2] || var == xs[3]);
+        Assert.assertTrue(sel.weight(xs[2]) > sel.weight(xs[0]));
+        xs[0].updateUpperBound(1, Cause.Null);
+        Assert.assertEquals(sel.getVariable(xs), xs[0]);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testPickOnDom() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        PickOnDom sel = new PickOnDom(xs, 0);
+        sel.onContradiction(new ContradictionException().set(Cause.Null, xs[3], ""));
+        Assert.assertEquals(sel.getVariable(xs), xs[3]);
+        sel.onContradiction(new ContradictionException().set(Cause.Null, xs[1], ""));
+        sel.onContradiction(new ContradictionException().set(Cause.Null, xs[1], ""));
+        Assert.assertEquals(sel.weight(xs[1]), 3, 1e-9);
+        Assert.assertEquals(sel.getVariable(xs), xs[1]);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorDownBranch;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class IncrementalSelectorsTest {
+
+    private static IntVar[] queens(Model model, int n) {
+        IntVar[] qs = model.intVarArray("q", n, 1, n, false);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int k = j - i;
+                model.arithm(qs[i], "!=", qs[j]).post();
+                model.arithm(qs[i], "!=", qs[j], "+", -k).post();
+                model.arithm(qs[i], "!=", qs[j], "+", k).post();
+            }
+        }
+        return qs;
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testFirstFail1() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        IncrementalFirstFail ff = new IncrementalFirstFail(xs);
+        Assert.assertEquals(ff.getVariable(xs), xs[0]);
+        model.getEnvironment().worldPush();
+        xs[2].updateUpperBound(2, Cause.Null);
+        Assert.assertEquals(ff.getVariable(xs), xs[2]);
+        xs[1].updateUpperBound(1, Cause.Null);
+        Assert.assertEquals(ff.getVariable(xs), xs[1]);
+        model.getEnvironment().worldPush();
+        xs[1].instantiateTo(0, Cause.Null);
+        Assert.assertEquals(ff.getVariable(xs), xs[2]);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(ff.getVariable(xs), xs[1]);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(ff.getVariable(xs), xs[0]);
+        for (IntVar x : xs) {
+            x.instantiateTo(3, Cause.Null);
+        }
+        Assert.assertNull(ff.getVariable(xs));
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testFirstFail3() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 4, 0, 5);
+        IntVar[] ys = model.intVarArray("y", 3, 0, 5);
+        IncrementalFirstFail ff = new IncrementalFirstFail(xs);
+        xs[0].updateUpperBound(1, Cause.Null);
+        ys[1].updateUpperBound(3, Cause.Null);
+        Assert.assertEquals(ff.getVariable(xs), xs[0]);
+        Assert.assertEquals(ff.getVariable(ys), ys[1]);
+        Assert.assertEquals(ff.getVariable(new IntVar[]{xs[2], xs[1]}), xs[2]);
+        for (IntVar y : ys) {
+            y.instantiateTo(3, Cause.Null);
+        }
+        Assert.assertNull(ff.getVariable(ys));
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testFirstFail2() {
+        for (int n = 6; n < 10; n++) {
+            long[][] counts = new long[2][];
+            for (int t = 0; t < 2; t++) {
+                Model model = new Model();
+                IntVar[] qs = queens(model, n);
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.intVarSearch(
+                        t == 0 ? new FirstFail(model) : new IncrementalFirstFail(qs),
+                        new IntDomainMin(), qs));
+                solver.setLubyRestart(2, new FailCounter(model, 2), 100);
+                solver.findAllSolutions();
+                counts[t] = new long[]{solver.getSolutionCount(), solver.getNodeCount(), solver.getFailCount()};
+            }
+            Assert.assertEquals(counts[1], counts[0]);
+        }
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testDomOverWDeg1() {
+        for (int n = 6; n < 10; n++) {
+            long[] counts = new long[2];
+            for (int t = 0; t < 2; t++) {
+                Model model = new Model();
+                IntVar[] qs = queens(model, n);
+                Solver solver = model.getSolver();
+                solver.setSearch(t == 0 ?
+                        new DomOverWDeg(qs, 0, new IntDomainMin()) :
+                        new IncrementalDomOverWDeg(qs, new IntDomainMin()));
+                solver.findAllSolutions();
+                counts[t] = solver.getSolutionCount();
+            }
+            Assert.assertEquals(counts[1], counts[0]);
+        }
+    }
+
+    /**
+     * Weighted degree of <i>var</i> as computed by {@link DomOverWDeg}
+     */
+    private static long wdeg(DomOverWDeg ref, IntVar var) {
+        long w = 1;
+        for (int i = 0; i < var.getNbProps(); i++) {
+            Propagator<?> p = var.getPropagator(i);
+            if (p.arity() > 1) {
+                w += ref.p2w.get(p.getId());
+            }
+        }
+        return w;
+    }
+
+    private static void checkAgainstDomOverWDeg(Model model, IntVar[] vars, boolean restarts) {
+        Solver solver = model.getSolver();
+        IncrementalDomOverWDeg dwd = new IncrementalDomOverWDeg(vars, new IntDomainMin());
+        // same weights as dom/wdeg, observing the same failures
+        DomOverWDeg ref = new DomOverWDeg(vars, 0, new IntDomainMin());
+        solver.setSearch(dwd);
+        solver.plugMonitor(ref);
+        solver.plugMonitor(new IMonitorDownBranch() {
+            @Override
+            public void beforeDownBranch(boolean left) {
+                if (left) {
+                    IntVar var = (IntVar) solver.getDecisionPath().getLastDecision().getDecisionVariable();
+                    long d1 = var.getDomainSize();
+                    long w1 = wdeg(ref, var);
+                    for (IntVar x : vars) {
+                        if (!x.isInstantiated()) {
+                            Assert.assertEquals(dwd.getWeight(x), wdeg(ref, x), x.getName());
+                            // dom/wdeg would have selected var, or another variable with the same score
+                            Assert.assertTrue(d1 * wdeg(ref, x) <= x.getDomainSize() * w1);
+                        }
+                    }
+                }
+            }
+        });
+        if (restarts) {
+            solver.setLubyRestart(2, new FailCounter(model, 2), 100);
+            solver.solve();
+        } else {
+            solver.findAllSolutions();
+        }
+        Assert.assertTrue(solver.getFailCount() > 0);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testDomOverWDeg2() {
+        Model model = new Model();
+        IntVar[] qs = queens(model, 10);
+        checkAgainstDomOverWDeg(model, qs, false);
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 724);
+    }
+
+    @Test(timeOut = 60000, groups = "1s")
+    public void testDomOverWDeg3() {
+        // n-ary propagators, and variables that are not decision variables
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 8, 0, 4);
+        IntVar[] ys = model.intVarArray("y", 3, 0, 12);
+        model.sum(new IntVar[]{xs[0], xs[1], xs[2], xs[3]}, "=", ys[0]).post();
+        model.sum(new IntVar[]{xs[3], xs[4], xs[5]}, "=", ys[1]).post();
+        model.sum(new IntVar[]{xs[5], xs[6], xs[7], xs[0]}, "=", ys[2]).post();
+        model.allDifferent(ys).post();
+        model.arithm(ys[0], ">", ys[1]).post();
+        model.arithm(xs[2], "!=", xs[6]).post();
+        checkAgainstDomOverWDeg(model, xs, true);
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 1);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.view.AffineView;
+import org.chocosolver.solver.variables.view.OffsetView;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class AffineViewTest {
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCollapse() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar v = model.intMinusView(model.intOffsetView(model.intScaleView(x, 2), 3));
+        Assert.assertTrue(v instanceof AffineView);
+        Assert.assertEquals(((AffineView) v).getVariable(), x);
+        Assert.assertEquals(((AffineView) v).a, -2);
+        Assert.assertEquals(((AffineView) v).b, -3);
+        Assert.assertEquals(v.getLB(), -23);
+        Assert.assertEquals(v.getUB(), -3);
+        // same view is returned
+        Assert.assertEquals(model.intAffineView(-2, x, -3), v);
+        Assert.assertEquals(model.intMinusView(model.intMinusView(x)), x);
+        Assert.assertEquals(model.intOffsetView(model.intOffsetView(x, 3), -3), x);
+        IntVar o = model.intOffsetView(model.intOffsetView(x, 3), 4);
+        Assert.assertTrue(o instanceof OffsetView);
+        Assert.assertEquals(((OffsetView) o).getVariable(), x);
+        Assert.assertEquals(((OffsetView) o).cste, 7);
+        Assert.assertEquals(model.intScaleView(model.intMinusView(x), -3), model.intScaleView(x, 3));
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolve() {
+        long[] counts = new long[2];
+        for (int t = 0; t < 2; t++) {
+            Model model = new Model("m", new DefaultSettings().setEnableViews(t == 0));
+            IntVar x = model.intVar("x", -5, 5);
+            IntVar y = model.intVar("y", new int[]{-9, -3, 0, 2, 7, 11});
+            IntVar v = model.intMinusView(model.intOffsetView(model.intScaleView(x, 2), 3));
+            IntVar w = model.intOffsetView(model.intMinusView(y), 1);
+            model.arithm(v, "<=", w).post();
+            model.arithm(v, "!=", -5).post();
+            model.allDifferent(v, w, model.intScaleView(x, -3)).post();
+            Assert.assertEquals(v instanceof AffineView, t == 0);
+            model.getSolver().setSearch(inputOrderLBSearch(x, y));
+            while (model.getSolver().solve()) {
+                int vx = x.getValue(), vy = y.getValue();
+                Assert.assertTrue(-(2 * vx + 3) <= -vy + 1);
+            }
+            counts[t] = model.getSolver().getSolutionCount();
+        }
+        Assert.assertTrue(counts[0] > 0);
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    /**
+     * Apply random operations on affine views, with backtracks, and compare their domains
+     * with the image of the domain of the observed variable
+     */
+    @Test(groups="1s", timeOut=60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            Model model = new Model();
+            int a = rnd.nextInt(9) - 4;
+            if (a == 0) a = -1;
+            int b = rnd.nextInt(21) - 10;
+            IntVar x = model.intVar("x", -10, 10, rnd.nextBoolean());
+            AffineView v = new AffineView(x, a, b);
+            TreeSet<Integer> expected = image(x, a, b);
+            assertSame(v, expected);
+            int depth = 0;
+            for (int s = 0; s < 30; s++) {
+                if (rnd.nextInt(4) == 0 && depth > 0) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                    assertSame(v, image(x, a, b));
+                    continue;
+                }
+                model.getEnvironment().worldPush();
+                depth++;
+                expected = image(x, a, b);
+                int c = v.getLB() - 2 + rnd.nextInt(v.getUB() - v.getLB() + 5);
+                int d = c + rnd.nextInt(10);
+                boolean failed = false;
+                try {
+                    switch (rnd.nextInt(5)) {
+                        case 0:
+                            expected.remove(c);
+                            v.removeValue(c, Cause.Null);
+                            break;
+                        case 1:
+                            expected.headSet(c).clear();
+                            v.updateLowerBound(c, Cause.Null);
+                            break;
+                        case 2:
+                            expected.tailSet(d, false).clear();
+                            v.updateUpperBound(d, Cause.Null);
+                            break;
+                        case 3:
+                            expected.subSet(c, true, d, true).clear();
+                            v.removeInterval(c, d, Cause.Null);
+                            break;
+                        default:
+                            expected.retainAll(Collections.singleton(c));
+                            v.instantiateTo(c, Cause.Null);
+                            break;
+                    }
+                } catch (ContradictionException e) {
+                    failed = true;
+                }
+                if (failed) {
+                    Assert.assertTrue(expected.isEmpty() || !x.hasEnumeratedDomain());
+                    model.getEnvironment().worldPop();
+                    depth--;
+                } else {
+                    // bounded domains ignore holes, only check consistency with x
+                    assertSame(v, x.hasEnumeratedDomain() ? expected : image(x, a, b));
+                }
+            }
+        }
+    }
+
+    private static TreeSet<Integer> image(IntVar x, int a, int b) {
+        TreeSet<Integer> values = new TreeSet<>();
+        for (int i = x.getLB(); i <= x.getUB(); i = x.nextValue(i)) {
+            values.add(a * i + b);
+        }
+        return values;
+    }
+
+    private static void assertSame(IntVar v, TreeSet<Integer> expected) {
+        Assert.assertEquals(v.getDomainSize(), expected.size());
+        Assert.assertEquals(v.getLB(), expected.first().intValue());
+        Assert.assertEquals(v.getUB(), expected.last().intValue());
+        Assert.assertEquals(v.isInstantiated(), expected.size() == 1);
+        for (int i = v.getLB() - 3; i <= v.getUB() + 3; i++) {
+            Assert.assertEquals(v.contains(i), expected.contains(i), "" + i);
+            Integer n = expected.higher(i);
+            Assert.assertEquals(v.nextValue(i), n == null ? Integer.MAX_VALUE : n.intValue(), "" + i);
+            Integer p = expected.lower(i);
+            Assert.assertEquals(v.previousValue(i), p == null ? Integer.MIN_VALUE : p.intValue(), "" + i);
+            int o = i + 1;
+            while (expected.contains(o)) o++;
+            Assert.assertEquals(v.nextValueOut(i), o, "" + i);
+            o = i - 1;
+            while (expected.contains(o)) o--;
+            Assert.assertEquals(v.previousValueOut(i), o, "" + i);
+        }
+        DisposableValueIterator vit = v.getValueIterator(true);
+        for (int e : expected) {
+            Assert.assertTrue(vit.hasNext());
+            Assert.assertEquals(vit.next(), e);
+        }
+        Assert.assertFalse(vit.hasNext());
+        vit.dispose();
+        vit = v.getValueIterator(false);
+        for (int e : expected.descendingSet()) {
+            Assert.assertTrue(vit.hasPrevious());
+            Assert.assertEquals(vit.previous(), e);
+        }
+        Assert.assertFalse(vit.hasPrevious());
+        vit.dispose();
+        DisposableRangeIterator rit = v.getRangeIterator(true);
+        int count = 0;
+        while (rit.hasNext()) {
+            for (int i = rit.min(); i <= rit.max(); i++) {
+                Assert.assertTrue(expected.contains(i));
+                count++;
+            }
+            rit.next();
+        }
+        rit.dispose();
+        Assert.assertEquals(count, expected.size());
+    }
+}
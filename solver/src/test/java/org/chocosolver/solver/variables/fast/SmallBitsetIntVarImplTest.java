@@ -0,0 +1,171 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.SmallBitsetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SmallBitsetIntVarImplTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model();
+        Assert.assertTrue(model.intVar("x", 0, 63) instanceof SmallBitsetIntVarImpl);
+        Assert.assertTrue(model.intVar("y", new int[]{-5, 0, 58}) instanceof SmallBitsetIntVarImpl);
+        Assert.assertTrue(model.intVar("z", 0, 64) instanceof BitsetIntVarImpl);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testFullWord() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = new SmallBitsetIntVarImpl("x", -32, 31, model);
+        Assert.assertEquals(x.getDomainSize(), 64);
+        Assert.assertEquals(x.getLB(), -32);
+        Assert.assertEquals(x.getUB(), 31);
+        Assert.assertEquals(x.nextValueOut(-33), 32);
+        Assert.assertEquals(x.previousValueOut(31), -33);
+        Assert.assertEquals(x.nextValue(31), Integer.MAX_VALUE);
+        Assert.assertEquals(x.previousValue(-32), Integer.MIN_VALUE);
+        model.getEnvironment().worldPush();
+        x.updateBounds(-10, 10, Cause.Null);
+        x.removeValue(0, Cause.Null);
+        Assert.assertEquals(x.getDomainSize(), 20);
+        Assert.assertEquals(x.toString(), "x = {-10..-1,1..10}");
+        model.getEnvironment().worldPush();
+        x.instantiateTo(31, Cause.Null);
+        Assert.fail();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRanges() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = new SmallBitsetIntVarImpl("x", new int[]{-5, 0, 3, 4, 5}, model);
+        x.removeInterval(1, 3, Cause.Null);
+        DisposableRangeIterator rit = x.getRangeIterator(true);
+        int[] bounds = {-5, -5, 0, 0, 4, 5};
+        for (int i = 0; i < bounds.length; i += 2) {
+            Assert.assertTrue(rit.hasNext());
+            Assert.assertEquals(rit.min(), bounds[i]);
+            Assert.assertEquals(rit.max(), bounds[i + 1]);
+            rit.next();
+        }
+        Assert.assertFalse(rit.hasNext());
+        rit.dispose();
+    }
+
+    /**
+     * Apply the same random operations to a bitset-based variable and a single word one,
+     * with backtracks, and compare their domains and deltas
+     */
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAgainstBitset() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            Model model = new Model();
+            int lb = rnd.nextInt(20) - 10;
+            int ub = lb + 1 + rnd.nextInt(63);
+            IntVar ref = new BitsetIntVarImpl("r", lb, ub, model);
+            IntVar var = new SmallBitsetIntVarImpl("v", lb, ub, model);
+            ref.createDelta();
+            var.createDelta();
+            int depth = 0;
+            for (int s = 0; s < 40; s++) {
+                if (rnd.nextInt(4) == 0 && depth > 0) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                    assertSame(ref, var);
+                    continue;
+                }
+                model.getEnvironment().worldPush();
+                depth++;
+                int a = lb - 2 + rnd.nextInt(ub - lb + 5);
+                int b = a + rnd.nextInt(6);
+                IntIterableRangeSet set = new IntIterableRangeSet(a, b);
+                set.add(lb - 2 + rnd.nextInt(ub - lb + 5));
+                int op = rnd.nextInt(7);
+                boolean r1 = false, r2 = false, f1 = false, f2 = false;
+                try {
+                    r1 = apply(ref, op, a, b, set);
+                } catch (ContradictionException e) {
+                    f1 = true;
+                }
+                try {
+                    r2 = apply(var, op, a, b, set);
+                } catch (ContradictionException e) {
+                    f2 = true;
+                }
+                Assert.assertEquals(f2, f1);
+                if (f1) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                } else {
+                    Assert.assertEquals(r2, r1);
+                    IEnumDelta d1 = (IEnumDelta) ref.getDelta();
+                    IEnumDelta d2 = (IEnumDelta) var.getDelta();
+                    Assert.assertEquals(d2.size(), d1.size());
+                    for (int i = 0; i < d1.size(); i++) {
+                        Assert.assertEquals(d2.get(i), d1.get(i));
+                    }
+                }
+                assertSame(ref, var);
+            }
+        }
+    }
+
+    private static boolean apply(IntVar x, int op, int a, int b, IntIterableRangeSet set) throws ContradictionException {
+        switch (op) {
+            case 0:
+                return x.removeValue(a, Cause.Null);
+            case 1:
+                return x.removeInterval(a, b, Cause.Null);
+            case 2:
+                return x.updateLowerBound(a, Cause.Null);
+            case 3:
+                return x.updateUpperBound(b, Cause.Null);
+            case 4:
+                return x.updateBounds(a, b, Cause.Null);
+            case 5:
+                return x.removeValues(set, Cause.Null);
+            default:
+                return x.removeAllValuesBut(set, Cause.Null);
+        }
+    }
+
+    private static void assertSame(IntVar ref, IntVar var) {
+        Assert.assertEquals(var.getLB(), ref.getLB());
+        Assert.assertEquals(var.getUB(), ref.getUB());
+        Assert.assertEquals(var.getDomainSize(), ref.getDomainSize());
+        Assert.assertEquals(var.isInstantiated(), ref.isInstantiated());
+        for (int v = ref.getLB() - 2; v <= ref.getUB() + 2; v++) {
+            Assert.assertEquals(var.contains(v), ref.contains(v));
+            Assert.assertEquals(var.nextValue(v), ref.nextValue(v));
+            Assert.assertEquals(var.previousValue(v), ref.previousValue(v));
+            Assert.assertEquals(var.nextValueOut(v), ref.nextValueOut(v));
+            Assert.assertEquals(var.previousValueOut(v), ref.previousValueOut(v));
+        }
+    }
+}
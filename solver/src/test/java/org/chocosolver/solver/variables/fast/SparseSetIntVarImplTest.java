@@ -0,0 +1,225 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2019, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.fast;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.DefaultSettings;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.impl.BitsetIntVarImpl;
+import org.chocosolver.solver.variables.impl.SparseSetIntVarImpl;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 19/10/2026
+ */
+public class SparseSetIntVarImplTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        Model model = new Model("sparse", new DefaultSettings().setMinDomSizeForSparseSet(100));
+        Assert.assertTrue(model.intVar("x", 0, 99) instanceof SparseSetIntVarImpl);
+        Assert.assertFalse(model.intVar("y", 0, 98) instanceof SparseSetIntVarImpl);
+        Assert.assertFalse(new Model().intVar("z", 0, 999) instanceof SparseSetIntVarImpl);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIterators() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = new SparseSetIntVarImpl("x", new int[]{-5, 0, 3, 4, 5, 8}, model);
+        x.removeValue(4, Cause.Null);
+        Assert.assertEquals(x.toString(), "x = {-5,0,3,5,8}");
+        DisposableValueIterator vit = x.getValueIterator(false);
+        for (int v : new int[]{8, 5, 3, 0, -5}) {
+            Assert.assertTrue(vit.hasPrevious());
+            Assert.assertEquals(vit.previous(), v);
+        }
+        Assert.assertFalse(vit.hasPrevious());
+        vit.dispose();
+        x.removeValue(8, Cause.Null);
+        DisposableRangeIterator rit = x.getRangeIterator(true);
+        int[] bounds = {-5, -5, 0, 0, 3, 3, 5, 5};
+        for (int i = 0; i < bounds.length; i += 2) {
+            Assert.assertTrue(rit.hasNext());
+            Assert.assertEquals(rit.min(), bounds[i]);
+            Assert.assertEquals(rit.max(), bounds[i + 1]);
+            rit.next();
+        }
+        Assert.assertFalse(rit.hasNext());
+        rit.dispose();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestore() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = new SparseSetIntVarImpl("x", 0, 999, model);
+        model.getEnvironment().worldPush();
+        for (int v = 1; v < 999; v += 2) {
+            x.removeValue(v, Cause.Null);
+        }
+        x.updateBounds(10, 900, Cause.Null);
+        Assert.assertEquals(x.getDomainSize(), 446);
+        model.getEnvironment().worldPush();
+        x.instantiateTo(500, Cause.Null);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), 446);
+        Assert.assertEquals(x.nextValue(500), 502);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), 1000);
+        Assert.assertEquals(x.getLB(), 0);
+        Assert.assertEquals(x.getUB(), 999);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolve() {
+        long[] counts = new long[2];
+        for (int t = 0; t < 2; t++) {
+            Model model = new Model("m", new DefaultSettings().setMinDomSizeForSparseSet(t == 0 ? Integer.MAX_VALUE : 2));
+            IntVar[] q = model.intVarArray("q", 8, 1, 8);
+            model.allDifferent(q, "AC").post();
+            for (int i = 0; i < 8; i++) {
+                for (int j = i + 1; j < 8; j++) {
+                    model.arithm(q[i], "!=", q[j], "+", j - i).post();
+                    model.arithm(q[i], "!=", q[j], "-", j - i).post();
+                }
+            }
+            Assert.assertEquals(q[0] instanceof SparseSetIntVarImpl, t == 1);
+            model.getSolver().setSearch(inputOrderLBSearch(q));
+            while (model.getSolver().solve()) ;
+            counts[t] = model.getSolver().getSolutionCount();
+        }
+        Assert.assertEquals(counts[1], counts[0]);
+        Assert.assertEquals(counts[0], 92);
+    }
+
+    /**
+     * Apply the same random operations to a bitset-based variable and a sparse set one,
+     * with backtracks, and compare their domains and deltas
+     */
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAgainstBitset() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            Model model = new Model();
+            int lb = rnd.nextInt(20) - 10;
+            int ub = lb + 1 + rnd.nextInt(100);
+            int[] values = new int[ub - lb + 1];
+            int n = 0;
+            for (int v = lb; v <= ub; v++) {
+                if (v == lb || v == ub || rnd.nextInt(4) > 0) {
+                    values[n++] = v;
+                }
+            }
+            values = Arrays.copyOf(values, n);
+            IntVar ref = new BitsetIntVarImpl("r", values, model);
+            IntVar var = new SparseSetIntVarImpl("v", values, model);
+            ref.createDelta();
+            var.createDelta();
+            int depth = 0;
+            for (int s = 0; s < 40; s++) {
+                if (rnd.nextInt(4) == 0 && depth > 0) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                    assertSame(ref, var);
+                    continue;
+                }
+                model.getEnvironment().worldPush();
+                depth++;
+                int a = lb - 2 + rnd.nextInt(ub - lb + 5);
+                int b = a + rnd.nextInt(20);
+                IntIterableRangeSet set = new IntIterableRangeSet(a, b);
+                set.add(lb - 2 + rnd.nextInt(ub - lb + 5));
+                int op = rnd.nextInt(8);
+                boolean r1 = false, r2 = false, f1 = false, f2 = false;
+                try {
+                    r1 = apply(ref, op, a, b, set);
+                } catch (ContradictionException e) {
+                    f1 = true;
+                }
+                try {
+                    r2 = apply(var, op, a, b, set);
+                } catch (ContradictionException e) {
+                    f2 = true;
+                }
+                Assert.assertEquals(f2, f1);
+                if (f1) {
+                    model.getEnvironment().worldPop();
+                    depth--;
+                } else {
+                    Assert.assertEquals(r2, r1);
+                    if (r1) {
+                        // deltas are cleared lazily, on the first removal of a world
+                        Assert.assertEquals(removed(var), removed(ref));
+                    }
+                }
+                assertSame(ref, var);
+            }
+        }
+    }
+
+    private static int[] removed(IntVar x) {
+        IEnumDelta delta = (IEnumDelta) x.getDelta();
+        int[] values = new int[delta.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = delta.get(i);
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static boolean apply(IntVar x, int op, int a, int b, IntIterableRangeSet set) throws ContradictionException {
+        switch (op) {
+            case 0:
+                return x.removeValue(a, Cause.Null);
+            case 1:
+                return x.removeInterval(a, b, Cause.Null);
+            case 2:
+                return x.updateLowerBound(a, Cause.Null);
+            case 3:
+                return x.updateUpperBound(b, Cause.Null);
+            case 4:
+                return x.updateBounds(a, b, Cause.Null);
+            case 5:
+                return x.removeValues(set, Cause.Null);
+            case 6:
+                return x.removeAllValuesBut(set, Cause.Null);
+            default:
+                return x.instantiateTo(a, Cause.Null);
+        }
+    }
+
+    private static void assertSame(IntVar ref, IntVar var) {
+        Assert.assertEquals(var.getLB(), ref.getLB());
+        Assert.assertEquals(var.getUB(), ref.getUB());
+        Assert.assertEquals(var.getDomainSize(), ref.getDomainSize());
+        Assert.assertEquals(var.isInstantiated(), ref.isInstantiated());
+        for (int v = ref.getLB() - 2; v <= ref.getUB() + 2; v++) {
+            Assert.assertEquals(var.contains(v), ref.contains(v));
+            Assert.assertEquals(var.nextValue(v), ref.nextValue(v));
+            Assert.assertEquals(var.previousValue(v), ref.previousValue(v));
+            Assert.assertEquals(var.nextValueOut(v), ref.nextValueOut(v));
+            Assert.assertEquals(var.previousValueOut(v), ref.previousValueOut(v));
+        }
+    }
+}
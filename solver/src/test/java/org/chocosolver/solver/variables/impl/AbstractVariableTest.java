@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.variables.impl;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.nary.alldifferent.PropAllDiffInst;
@@ -227,4 +228,65 @@ public class AbstractVariableTest {
         Assert.assertEquals(props[0].getVIndices(), new int[]{0});
     }
 
-}
\ No newline at end of file
+    @Test(groups = "1s")
+    public void testModificationStamp() throws Exception {
+        IntVar x = (IntVar) v;
+        Assert.assertEquals(x.getModificationStamp(), 0);
+        x.updateLowerBound(1, Cause.Null);
+        long s1 = x.getModificationStamp();
+        Assert.assertEquals(s1, model.getClock());
+        model.getEnvironment().worldPush();
+        x.removeValue(3, Cause.Null);
+        long s2 = x.getModificationStamp();
+        Assert.assertTrue(s2 > s1);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getModificationStamp(), s1);
+        // the same modification in a new branch gives a new stamp
+        model.getEnvironment().worldPush();
+        x.removeValue(3, Cause.Null);
+        Assert.assertTrue(x.getModificationStamp() > s2);
+        model.getEnvironment().worldPop();
+        // no event, no new stamp
+        x.updateLowerBound(0, Cause.Null);
+        Assert.assertEquals(x.getModificationStamp(), s1);
+    }
+
+    @Test(groups = "1s")
+    public void testModificationStamp2() throws Exception {
+        IntVar x = (IntVar) v;
+        x.updateLowerBound(1, Cause.Null);
+        long s1 = x.getModificationStamp();
+        model.getEnvironment().worldPush();
+        model.getEnvironment().worldPush();
+        // modified two worlds below, restored
+        x.removeValue(3, Cause.Null);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getModificationStamp(), s1);
+        x.removeValue(4, Cause.Null);
+        long s2 = x.getModificationStamp();
+        model.getEnvironment().worldPush();
+        x.removeValue(5, Cause.Null);
+        long s3 = x.getModificationStamp();
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getModificationStamp(), s2);
+        model.getEnvironment().worldPop();
+        // the state before s2 was not recorded: a new stamp is taken, and kept
+        long s4 = x.getModificationStamp();
+        Assert.assertTrue(s4 > s3);
+        Assert.assertEquals(x.getModificationStamp(), s4);
+        Assert.assertEquals(x.getLB(), 1);
+        Assert.assertTrue(x.contains(4));
+    }
+
+    @Test(groups = "1s")
+    public void testSynchronizedClock() throws Exception {
+        IntVar x = (IntVar) v;
+        x.updateLowerBound(1, Cause.Null);
+        long c = model.getClock();
+        model.synchronizeClock();
+        Assert.assertEquals(model.getClock(), c);
+        x.updateLowerBound(2, Cause.Null);
+        Assert.assertEquals(model.getClock(), c + 1);
+        Assert.assertEquals(x.getModificationStamp(), c + 1);
+    }
+}